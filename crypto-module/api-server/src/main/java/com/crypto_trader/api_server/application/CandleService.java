@@ -0,0 +1,73 @@
+package com.crypto_trader.api_server.application;
+
+import com.crypto_trader.api_server.infra.CandleCodec;
+import com.crypto_trader.api_server.infra.CandleIndexRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.crypto_trader.api_server.proto.DataModel.PCandle;
+
+@Service
+public class CandleService {
+
+    private final CandleIndexRepository candleIndexRepository;
+    private final int maxBars;
+
+    public CandleService(CandleIndexRepository candleIndexRepository,
+                         @Value("${candle.query.max-bars:1000}") int maxBars) {
+        this.candleIndexRepository = candleIndexRepository;
+        this.maxBars = maxBars;
+    }
+
+    /**
+     * 1분 캔들 색인에서 unit 분 캔들을 만들어 PCandle 로 돌려준다. (오래된 것부터, 최대 candle.query.max-bars 개)
+     *
+     * @param fromMinute 시작 분 (epoch minute, 포함)
+     * @param toMinute   끝 분 (epoch minute, 포함)
+     * @return 모르는 마켓이면 empty
+     */
+    public Mono<List<byte[]>> getCandles(String market, int unit, long fromMinute, long toMinute) {
+        return candleIndexRepository.findByMarket(market)
+                .map(index -> {
+                    List<byte[]> candles = new ArrayList<>();
+                    index.query(fromMinute, toMinute, unit, maxBars, (minute, open, high, low, close, volume) ->
+                            candles.add(PCandle.newBuilder()
+                                    .setOpen(open)
+                                    .setHigh(high)
+                                    .setLow(low)
+                                    .setClose(close)
+                                    .setVolume(volume)
+                                    .setTime(timeOf(minute).toString())
+                                    .build()
+                                    .toByteArray()));
+                    return candles;
+                });
+    }
+
+    /**
+     * getCandles 와 같은 캔들을 PCandleBatch 하나로 돌려준다. (time 은 epoch second, 앞 캔들과의 차이)
+     *
+     * @return 모르는 마켓이면 empty
+     */
+    public Mono<byte[]> getCandleBatch(String market, int unit, long fromMinute, long toMinute) {
+        return candleIndexRepository.findByMarket(market)
+                .map(index -> {
+                    CandleCodec.BatchWriter batch = new CandleCodec.BatchWriter();
+                    index.query(fromMinute, toMinute, unit, maxBars, (minute, open, high, low, close, volume) ->
+                            batch.add(minute * 60, open, high, low, close, volume));
+                    return batch.toByteArray();
+                });
+    }
+
+    // private
+    private static LocalDateTime timeOf(long minute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(minute * 60), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,45 @@
+package com.crypto_trader.api_server.application;
+
+import com.crypto_trader.api_server.application.dto.FillPriceResponseDto;
+import com.crypto_trader.api_server.application.dto.OrderBookResponseDto;
+import com.crypto_trader.api_server.domain.OrderBook;
+import com.crypto_trader.api_server.domain.OrderSide;
+import com.crypto_trader.api_server.infra.OrderBookRepository;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OrderBookService {
+
+    private final OrderBookRepository orderBookRepository;
+
+    public OrderBookService(OrderBookRepository orderBookRepository) {
+        this.orderBookRepository = orderBookRepository;
+    }
+
+    /**
+     * @return 스냅샷을 아직 받지 못한 마켓이면 null
+     */
+    public OrderBookResponseDto getOrderBook(String market, int depth) {
+        OrderBook orderBook = orderBookRepository.findByMarket(market);
+        if (orderBook == null || !orderBook.isReady())
+            return null;
+
+        return new OrderBookResponseDto(orderBook.copy(depth));
+    }
+
+    /**
+     * 현재 호가로 quantity 를 시장가 체결했을 때의 평균 체결가 (실제 주문 체결에는 사용하지 않는다)
+     *
+     * @return 호가가 없거나 잔량이 모자라면 null
+     */
+    public FillPriceResponseDto estimateFillPrice(String market, OrderSide side, double quantity) {
+        OrderBook orderBook = orderBookRepository.findByMarket(market);
+        if (orderBook == null)
+            return null;
+
+        double price = orderBook.estimateFillPrice(side, quantity);
+        if (Double.isNaN(price))
+            return null;
+        return new FillPriceResponseDto(market, side, quantity, price);
+    }
+}
@@ -5,10 +5,10 @@ import com.crypto_trader.api_server.domain.Ticker;
 import com.crypto_trader.api_server.domain.entities.Order;
 import com.crypto_trader.api_server.domain.entities.OrderState;
 import com.crypto_trader.api_server.domain.events.TickerProcessingEvent;
+import com.crypto_trader.api_server.infra.MarketIdRegistry;
 import com.crypto_trader.api_server.infra.OrderRepository;
 import com.crypto_trader.api_server.infra.SimpleMarketRepository;
 import com.crypto_trader.api_server.infra.TickerRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,9 +21,8 @@ import reactor.core.Disposable;
 import reactor.core.publisher.Sinks;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @Service
 public class OrderExecutionService {
@@ -32,29 +31,35 @@ public class OrderExecutionService {
 
     private final TickerRepository tickerRepository;
     private final SimpleMarketRepository marketRepository;
+    private final MarketIdRegistry marketIds;
     private final OrderRepository orderRepository;
 
     private final ApplicationEventPublisher publisher;
     private final ObjectMapper objectMapper;
 
 
-    private final Map<String, Sinks.Many<Ticker>> sinkMap = new HashMap<>();
-    private final Map<String, Disposable> subscriptionMap = new HashMap<>();
+    // index = 마켓 id
+    private final AtomicReferenceArray<Sinks.Many<Ticker>> sinks;
+    private final AtomicReferenceArray<Disposable> subscriptions;
 
 
     @Autowired
     public OrderExecutionService(ProcessOrderExecution orderExecution,
                                  TickerRepository tickerRepository,
                                  SimpleMarketRepository marketRepository,
+                                 MarketIdRegistry marketIds,
                                  OrderRepository orderRepository,
                                  ApplicationEventPublisher publisher,
                                  ObjectMapper objectMapper) {
         this.orderExecution = orderExecution;
         this.tickerRepository = tickerRepository;
         this.marketRepository = marketRepository;
+        this.marketIds = marketIds;
         this.orderRepository = orderRepository;
         this.publisher = publisher;
         this.objectMapper = objectMapper;
+        this.sinks = new AtomicReferenceArray<>(marketIds.capacity());
+        this.subscriptions = new AtomicReferenceArray<>(marketIds.capacity());
     }
 
     @PostConstruct
@@ -63,7 +68,7 @@ public class OrderExecutionService {
         marketRepository.marketCodesUpdates().subscribe(this::updateMarketSubscriptions);
 
         // Ticker 채널 구독 설정
-        tickerRepository.getChannel().subscribe(value -> handleTickerMessage(value.getMessage()));
+        tickerRepository.getChannel().subscribe(this::handleTickerMessage);
     }
 
     /**
@@ -73,14 +78,18 @@ public class OrderExecutionService {
         clearSubscriptionsAndSinks();
 
         for (String code : codes) {
+            int marketId = marketIds.idOf(code);
+            if (marketId == MarketIdRegistry.UNKNOWN || marketId >= sinks.length())
+                continue;
+
             Sinks.Many<Ticker> sink = Sinks.many().unicast().onBackpressureBuffer();
-            sinkMap.put(code, sink);
+            sinks.set(marketId, sink);
 
             Disposable subscription = sink.asFlux()
                     .sampleFirst(Duration.ofMillis(1000))  // 0.5 초에 한 번 처리(쓰로틀링)
                     .subscribe(ticker -> publisher.publishEvent(new TickerProcessingEvent(this, ticker)));
 
-            subscriptionMap.put(code, subscription);
+            subscriptions.set(marketId, subscription);
         }
     }
 
@@ -88,28 +97,25 @@ public class OrderExecutionService {
      * 기존의 구독과 Sink를 정리
      */
     private void clearSubscriptionsAndSinks() {
-        subscriptionMap.values().forEach(Disposable::dispose);
-        subscriptionMap.clear();
-        sinkMap.clear();
+        for (int id = 0; id < subscriptions.length(); id++) {
+            Disposable subscription = subscriptions.getAndSet(id, null);
+            if (subscription != null)
+                subscription.dispose();
+            sinks.set(id, null);
+        }
     }
 
     /**
      * Redis에서 받은 Ticker 메시지를 처리하여 적절한 Sink에 발행
      */
-    private void handleTickerMessage(String message) {
-        try {
-            Ticker ticker = objectMapper.readValue(message, Ticker.class);
-            tickerRepository.save(ticker);
-
-            Sinks.Many<Ticker> sink = sinkMap.get(ticker.getMarket());
-            if (sink != null) {
-                sink.tryEmitNext(ticker).orThrow();
-            } else {
-                throw new RuntimeException("Sink not found for market: " + ticker.getMarket());
-            }
-
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to process Ticker message", e);
+    private void handleTickerMessage(Ticker ticker) {
+        tickerRepository.save(ticker);
+
+        Sinks.Many<Ticker> sink = sinks.get(ticker.getMarketId());
+        if (sink != null) {
+            sink.tryEmitNext(ticker).orThrow();
+        } else {
+            throw new RuntimeException("Sink not found for market: " + ticker.getMarket());
         }
     }
 
@@ -10,6 +10,8 @@ import lombok.Setter;
 public class CandleRequestDto {
     private String market;
     private CandleUnit unit;
+    private Long start; // epoch minute (없으면 보관 기간 전체)
+    private Long end;
 
     public CandleRequestDto() {
     }
@@ -18,8 +20,4 @@ public class CandleRequestDto {
         this.market = market;
         this.unit = unit;
     }
-
-    public String makeKey() {
-        return unit + ":minute_candle:" + market;
-    }
 }
@@ -0,0 +1,22 @@
+package com.crypto_trader.api_server.application.dto;
+
+import com.crypto_trader.api_server.domain.OrderSide;
+import lombok.Getter;
+
+@Getter
+public class FillPriceResponseDto {
+
+    private String market; // 마켓 코드
+    private OrderSide side; // BID: 매수, ASK: 매도
+    private double quantity; // 주문 수량
+    private double price; // 예상 평균 체결가
+
+    protected FillPriceResponseDto() {}
+
+    public FillPriceResponseDto(String market, OrderSide side, double quantity, double price) {
+        this.market = market;
+        this.side = side;
+        this.quantity = quantity;
+        this.price = price;
+    }
+}
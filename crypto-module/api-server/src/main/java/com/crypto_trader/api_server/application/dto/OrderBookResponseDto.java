@@ -0,0 +1,40 @@
+package com.crypto_trader.api_server.application.dto;
+
+import com.crypto_trader.api_server.domain.OrderBook;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class OrderBookResponseDto {
+
+    @JsonProperty("code")
+    private String market; // 마켓 코드
+    private long timestamp; // 호가 생성 시각 (ms)
+    @JsonProperty("orderbook_units")
+    private List<Unit> units; // 최우선 호가부터
+
+    protected OrderBookResponseDto() {}
+
+    public OrderBookResponseDto(OrderBook orderBook) {
+        this.market = orderBook.getMarket();
+        this.timestamp = orderBook.getTimestamp();
+        this.units = new ArrayList<>(orderBook.getDepth());
+        for (int level = 0; level < orderBook.getDepth(); level++) {
+            units.add(new Unit(
+                    orderBook.getAskPrice(level),
+                    orderBook.getBidPrice(level),
+                    orderBook.getAskSize(level),
+                    orderBook.getBidSize(level)
+            ));
+        }
+    }
+
+    public record Unit(@JsonProperty("ask_price") double askPrice,
+                       @JsonProperty("bid_price") double bidPrice,
+                       @JsonProperty("ask_size") double askSize,
+                       @JsonProperty("bid_size") double bidSize) {
+    }
+}
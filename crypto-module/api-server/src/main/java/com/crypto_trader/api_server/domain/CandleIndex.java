@@ -0,0 +1,214 @@
+package com.crypto_trader.api_server.domain;
+
+import java.util.Arrays;
+
+/**
+ * 마켓 하나의 1분 캔들 색인 (임의 단위 캔들 조회용)
+ * - 분 단위로 빈틈없이 이어진 시가/종가 배열, 거래량 누적합, 고가/저가 segment tree 를 둔다.
+ *   N분 캔들 하나는 누적합 차이와 구간 최대/최소로 O(log n) 에 만든다. (단위별로 따로 저장하지 않는다)
+ * - 가득 차면 오래된 절반을 버리고 다시 만든다. (append 는 분할 상환 O(log n))
+ * - 모든 메서드는 synchronized 이다. (캔들 추가와 조회가 다른 스레드에서 일어난다)
+ */
+public class CandleIndex {
+
+    private final int capacity;
+    private final double[] opens;
+    private final double[] closes;
+    private final double[] volumeSums; // volumeSums[i] = [0, i) 구간의 거래량 합
+    private final double[] highTree; // index 1 이 루트, 잎은 capacity + i
+    private final double[] lowTree;
+
+    private long baseMinute; // index 0 의 분 (epoch minute)
+    private int size;
+    private long sourceShard = -1; // 마지막으로 읽은 원본 샤드(Redis 리스트)의 시작 분 (없으면 -1)
+    private long sourceOffset; // 그 샤드에서 지금까지 읽은 항목 수
+
+    /**
+     * @param capacity 보관할 최대 분 수 (2의 거듭제곱으로 올림)
+     */
+    public CandleIndex(int capacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.opens = new double[this.capacity];
+        this.closes = new double[this.capacity];
+        this.volumeSums = new double[this.capacity + 1];
+        this.highTree = new double[this.capacity * 2];
+        this.lowTree = new double[this.capacity * 2];
+        Arrays.fill(highTree, Double.NEGATIVE_INFINITY);
+        Arrays.fill(lowTree, Double.POSITIVE_INFINITY);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long firstMinute() {
+        return baseMinute;
+    }
+
+    public synchronized long lastMinute() {
+        return baseMinute + size - 1;
+    }
+
+    public synchronized long getSourceShard() {
+        return sourceShard;
+    }
+
+    public synchronized long getSourceOffset() {
+        return sourceOffset;
+    }
+
+    public synchronized void setSource(long sourceShard, long sourceOffset) {
+        this.sourceShard = sourceShard;
+        this.sourceOffset = sourceOffset;
+    }
+
+    /**
+     * 색인을 비운다. (원본 위치도 처음으로)
+     */
+    public synchronized void reset() {
+        clear();
+        sourceShard = -1;
+        sourceOffset = 0;
+    }
+
+    /**
+     * minute 분의 1분 캔들을 뒤에 붙인다.
+     * - 마지막 분 이하의 캔들은 무시한다. 빈 분은 직전 종가로 채운다.
+     * - 빈 구간이 보관 범위보다 길면 색인을 비우고 새로 시작한다.
+     *
+     * @return 붙였으면 true
+     */
+    public synchronized boolean append(long minute, double open, double high, double low, double close, double volume) {
+        if (size > 0) {
+            long last = baseMinute + size - 1;
+            if (minute <= last)
+                return false;
+            if (minute - last >= capacity) {
+                clear();
+            } else {
+                double lastClose = closes[size - 1];
+                for (long gap = last + 1; gap < minute; gap++)
+                    push(lastClose, lastClose, lastClose, lastClose, 0);
+            }
+        }
+
+        if (size == 0)
+            baseMinute = minute;
+        push(open, high, low, close, volume);
+        return true;
+    }
+
+    /**
+     * [fromMinute, toMinute] 구간을 unit 분 캔들로 묶어 오래된 것부터 sink 로 넘긴다.
+     * - 캔들 경계는 epoch minute 기준 (unit 이 하루를 나누면 UTC 기준 경계와 같다)
+     * - 색인 범위 밖은 잘라낸다. 구간의 첫/끝 캔들은 범위 안의 분만으로 만든다.
+     *
+     * @return 넘긴 캔들 수 (최대 maxBars, 넘치면 가장 최근 maxBars 개)
+     */
+    public synchronized int query(long fromMinute, long toMinute, int unit, int maxBars, BarSink sink) {
+        if (size == 0 || unit <= 0 || maxBars <= 0)
+            return 0;
+
+        long from = Math.max(fromMinute, baseMinute);
+        long to = Math.min(toMinute, baseMinute + size - 1);
+        if (from > to)
+            return 0;
+
+        long firstBar = Math.floorDiv(from, unit);
+        long lastBar = Math.floorDiv(to, unit);
+        firstBar = Math.max(firstBar, lastBar - maxBars + 1);
+
+        int count = 0;
+        for (long bar = firstBar; bar <= lastBar; bar++) {
+            int l = (int) (Math.max(bar * unit, from) - baseMinute);
+            int r = (int) (Math.min(bar * unit + unit - 1, to) - baseMinute);
+            sink.accept(bar * unit,
+                    opens[l],
+                    rangeMax(l, r),
+                    rangeMin(l, r),
+                    closes[r],
+                    volumeSums[r + 1] - volumeSums[l]);
+            count++;
+        }
+        return count;
+    }
+
+    // private
+    private void push(double open, double high, double low, double close, double volume) {
+        if (size == capacity)
+            compact();
+
+        int i = size++;
+        opens[i] = open;
+        closes[i] = close;
+        volumeSums[i + 1] = volumeSums[i] + volume;
+        set(highTree, i, high, true);
+        set(lowTree, i, low, false);
+    }
+
+    // 최근 절반만 남기고 앞으로 옮긴다
+    private void compact() {
+        int drop = capacity / 2;
+        int keep = size - drop;
+        double dropped = volumeSums[drop];
+
+        System.arraycopy(opens, drop, opens, 0, keep);
+        System.arraycopy(closes, drop, closes, 0, keep);
+        for (int i = 0; i <= keep; i++)
+            volumeSums[i] = volumeSums[i + drop] - dropped;
+        System.arraycopy(highTree, capacity + drop, highTree, capacity, keep);
+        System.arraycopy(lowTree, capacity + drop, lowTree, capacity, keep);
+        Arrays.fill(highTree, capacity + keep, capacity * 2, Double.NEGATIVE_INFINITY);
+        Arrays.fill(lowTree, capacity + keep, capacity * 2, Double.POSITIVE_INFINITY);
+        for (int node = capacity - 1; node > 0; node--) {
+            highTree[node] = Math.max(highTree[node * 2], highTree[node * 2 + 1]);
+            lowTree[node] = Math.min(lowTree[node * 2], lowTree[node * 2 + 1]);
+        }
+
+        baseMinute += drop;
+        size = keep;
+    }
+
+    private void set(double[] tree, int i, double value, boolean max) {
+        int node = capacity + i;
+        tree[node] = value;
+        for (node >>= 1; node > 0; node >>= 1) {
+            double left = tree[node * 2];
+            double right = tree[node * 2 + 1];
+            tree[node] = max ? Math.max(left, right) : Math.min(left, right);
+        }
+    }
+
+    private double rangeMax(int l, int r) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (l += capacity, r += capacity + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1)
+                max = Math.max(max, highTree[l++]);
+            if ((r & 1) == 1)
+                max = Math.max(max, highTree[--r]);
+        }
+        return max;
+    }
+
+    private double rangeMin(int l, int r) {
+        double min = Double.POSITIVE_INFINITY;
+        for (l += capacity, r += capacity + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1)
+                min = Math.min(min, lowTree[l++]);
+            if ((r & 1) == 1)
+                min = Math.min(min, lowTree[--r]);
+        }
+        return min;
+    }
+
+    private void clear() {
+        Arrays.fill(highTree, Double.NEGATIVE_INFINITY);
+        Arrays.fill(lowTree, Double.POSITIVE_INFINITY);
+        size = 0;
+    }
+
+    @FunctionalInterface
+    public interface BarSink {
+        void accept(long minute, double open, double high, double low, double close, double volume);
+    }
+}
@@ -1,6 +1,40 @@
 package com.crypto_trader.api_server.domain;
 
 public enum CandleUnit {
-    ONEMINUTE,
-    FIVEMINUTE,
+    ONEMINUTE(1),
+    FIVEMINUTE(5),
+    TENMINUTE(10),
+    FIFTEENMINUTE(15),
+    ONEHOUR(60),
+    FOURHOUR(240),
+    ONEDAY(1440),
+    ;
+
+    final public int num;
+
+    CandleUnit(int num) {
+        this.num = num;
+    }
+
+    /**
+     * 단위 이름(FIVEMINUTE) 또는 분 수(7)
+     *
+     * @return 분 수 (알 수 없으면 -1)
+     */
+    public static int minutesOf(String unit) {
+        if (unit == null || unit.isEmpty())
+            return -1;
+        if (Character.isDigit(unit.charAt(0))) {
+            try {
+                return Integer.parseInt(unit);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
+        try {
+            return valueOf(unit).num;
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
 }
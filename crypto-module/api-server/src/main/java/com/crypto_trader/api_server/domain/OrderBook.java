@@ -0,0 +1,135 @@
+package com.crypto_trader.api_server.domain;
+
+/**
+ * 마켓 하나의 호가 (단계별 가격/잔량을 primitive 배열에 두고 제자리에서 갱신한다)
+ * - scheduler 가 발행한 스냅샷/diff 를 반영한다. 스냅샷을 한 번 받기 전까지 diff 는 무시한다.
+ * - diff 는 기준 timestamp (직전 발행) 가 지금 호가의 timestamp 와 같을 때만 반영한다.
+ *   diff 를 놓친 것이므로 다음 스냅샷을 받을 때까지 준비되지 않은 상태로 둔다.
+ * - 갱신(구독 스레드)과 조회(요청 스레드)는 인스턴스 락으로 직렬화한다.
+ */
+public class OrderBook {
+
+    public static final int MAX_DEPTH = 30;
+
+    private final String market;
+    private long timestamp;
+    private int depth;
+    private boolean ready; // 스냅샷을 받았는지
+    private final double[] askPrices;
+    private final double[] askSizes;
+    private final double[] bidPrices;
+    private final double[] bidSizes;
+
+    public OrderBook(String market) {
+        this(market, MAX_DEPTH);
+    }
+
+    private OrderBook(String market, int capacity) {
+        this.market = market;
+        this.askPrices = new double[capacity];
+        this.askSizes = new double[capacity];
+        this.bidPrices = new double[capacity];
+        this.bidSizes = new double[capacity];
+    }
+
+    /**
+     * count 개의 단계(levels[i] 번째 단계 = 각 배열의 i 번째 값)를 반영한다.
+     *
+     * @param baseTimestamp diff 가 기준으로 삼은 호가의 timestamp (스냅샷이면 무시)
+     * @return 반영했으면 true (스냅샷 전의 diff, 지난 메시지, 이어지지 않는 diff 는 false)
+     */
+    public synchronized boolean apply(long timestamp, long baseTimestamp, boolean snapshot, int depth, int count, int[] levels,
+                                      double[] askPrices, double[] askSizes, double[] bidPrices, double[] bidSizes) {
+        if (timestamp < this.timestamp || (!snapshot && timestamp == this.timestamp))
+            return false; // 이미 반영한 메시지
+        if (!snapshot && (!ready || depth != this.depth || baseTimestamp != this.timestamp)) {
+            ready = false; // 다음 스냅샷을 기다린다
+            return false;
+        }
+
+        for (int i = 0; i < count; i++) {
+            int level = levels[i];
+            if (level < 0 || level >= MAX_DEPTH)
+                continue;
+            this.askPrices[level] = askPrices[i];
+            this.askSizes[level] = askSizes[i];
+            this.bidPrices[level] = bidPrices[i];
+            this.bidSizes[level] = bidSizes[i];
+        }
+
+        this.timestamp = timestamp;
+        this.depth = Math.min(depth, MAX_DEPTH);
+        this.ready = true;
+        return true;
+    }
+
+    /**
+     * 상위 depth 단계만 복사한 독립된 호가 (응답 변환용)
+     */
+    public synchronized OrderBook copy(int depth) {
+        int count = Math.max(0, Math.min(depth, this.depth));
+        OrderBook copy = new OrderBook(market, count);
+        System.arraycopy(askPrices, 0, copy.askPrices, 0, count);
+        System.arraycopy(askSizes, 0, copy.askSizes, 0, count);
+        System.arraycopy(bidPrices, 0, copy.bidPrices, 0, count);
+        System.arraycopy(bidSizes, 0, copy.bidSizes, 0, count);
+        copy.timestamp = timestamp;
+        copy.depth = count;
+        copy.ready = ready;
+        return copy;
+    }
+
+    /**
+     * quantity 만큼 시장가로 체결될 때의 평균 체결가 (매수는 매도 호가를, 매도는 매수 호가를 위에서부터 소진한다)
+     *
+     * @return 호가가 없거나 잔량이 모자라면 NaN
+     */
+    public synchronized double estimateFillPrice(OrderSide side, double quantity) {
+        if (!ready || quantity <= 0)
+            return Double.NaN;
+
+        double[] prices = side == OrderSide.BID ? askPrices : bidPrices;
+        double[] sizes = side == OrderSide.BID ? askSizes : bidSizes;
+        double remaining = quantity;
+        double cost = 0;
+
+        for (int level = 0; level < depth && remaining > 0; level++) {
+            double filled = Math.min(remaining, sizes[level]);
+            cost += filled * prices[level];
+            remaining -= filled;
+        }
+        return remaining > 0 ? Double.NaN : cost / quantity;
+    }
+
+    public String getMarket() {
+        return market;
+    }
+
+    public synchronized long getTimestamp() {
+        return timestamp;
+    }
+
+    public synchronized int getDepth() {
+        return depth;
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    public synchronized double getAskPrice(int level) {
+        return askPrices[level];
+    }
+
+    public synchronized double getAskSize(int level) {
+        return askSizes[level];
+    }
+
+    public synchronized double getBidPrice(int level) {
+        return bidPrices[level];
+    }
+
+    public synchronized double getBidSize(int level) {
+        return bidSizes[level];
+    }
+}
@@ -1,5 +1,6 @@
 package com.crypto_trader.api_server.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
@@ -20,6 +21,8 @@ public class Ticker {
     private double lowPrice; // 저가
     @JsonProperty("acc_trade_volume_24h")
     private double accTradeVolume24h; // 24시간 누적 거래량
+    @JsonIgnore
+    private int marketId = -1; // 마켓 id (MarketIdRegistry, 모르면 -1)
 
     public Ticker() {}
 
@@ -65,4 +68,12 @@ public class Ticker {
     public double getAccTradeVolume24h() {
         return accTradeVolume24h;
     }
-}
\ No newline at end of file
+
+    public int getMarketId() {
+        return marketId;
+    }
+
+    public void setMarketId(int marketId) {
+        this.marketId = marketId;
+    }
+}
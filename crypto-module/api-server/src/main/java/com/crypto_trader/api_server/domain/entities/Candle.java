@@ -1,18 +1,23 @@
 package com.crypto_trader.api_server.domain.entities;
 
+import com.crypto_trader.api_server.domain.CandleUnit;
 import lombok.Getter;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
 
 import java.time.LocalDateTime;
 
+/**
+ * 스케줄러가 저장하는 시계열 컬렉션의 캔들 (meta: market + unit)
+ */
 @Getter
-@Document(collection = "candle")
+@TimeSeries(collection = "candle_series", timeField = "time", metaField = "meta", granularity = Granularity.MINUTES)
 public class Candle {
 
     @Id
     private String id;
-    private String market;
+    private CandleMeta meta;
     private double open;
     private double close;
     private double high;
@@ -22,14 +27,22 @@ public class Candle {
 
     public Candle() {}
 
-    public Candle(String market, double open, double close, double high, double low, double volume) {
-        this.market = market;
+    public Candle(String market, CandleUnit unit, double open, double close, double high, double low, double volume, LocalDateTime time) {
+        this.meta = new CandleMeta(market, unit);
         this.open = open;
         this.close = close;
         this.high = high;
         this.low = low;
-        this.time = LocalDateTime.now().withSecond(0).withNano(0);
+        this.time = time;
         this.volume = volume;
     }
 
+    public String getMarket() {
+        return meta.getMarket();
+    }
+
+    public CandleUnit getUnit() {
+        return meta.getUnit();
+    }
+
 }
@@ -0,0 +1,95 @@
+package com.crypto_trader.api_server.domain.entities;
+
+import com.crypto_trader.api_server.domain.CandleUnit;
+import lombok.Getter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스케줄러가 저장하는 하루치 캔들 문서 (candle.mongo.storage=bucket)
+ * - 캔들 하나는 같은 index 의 배열 원소들이다. 시각은 day 로부터 지난 분(offsets)으로 저장한다.
+ * - 보통 offsets 는 오름차순이지만 늦게 재생된 캔들은 뒤에 붙을 수 있다.
+ */
+@Getter
+@Document(collection = "candle_bucket")
+public class CandleBucket {
+
+    @Id
+    private String id; // {market}:{unit}:{yyyy-MM-dd}
+    private String market;
+    private CandleUnit unit;
+    private LocalDateTime day; // 하루의 시작 (시스템 시간대)
+    private List<Integer> offsets;
+    private List<Double> opens;
+    private List<Double> highs;
+    private List<Double> lows;
+    private List<Double> closes;
+    private List<Double> volumes;
+
+    public CandleBucket() {}
+
+    public CandleBucket(String market, CandleUnit unit, LocalDateTime day, List<Integer> offsets,
+                        List<Double> opens, List<Double> highs, List<Double> lows, List<Double> closes, List<Double> volumes) {
+        this.id = idOf(market, unit, day);
+        this.market = market;
+        this.unit = unit;
+        this.day = day;
+        this.offsets = offsets;
+        this.opens = opens;
+        this.highs = highs;
+        this.lows = lows;
+        this.closes = closes;
+        this.volumes = volumes;
+    }
+
+    public static String idOf(String market, CandleUnit unit, LocalDateTime day) {
+        return market + ":" + unit + ":" + day.toLocalDate();
+    }
+
+    public static LocalDateTime dayOf(LocalDateTime time) {
+        return time.toLocalDate().atStartOfDay();
+    }
+
+    public static int offsetOf(LocalDateTime day, LocalDateTime time) {
+        return (int) Duration.between(day, time).toMinutes();
+    }
+
+    /**
+     * [from, to) 구간의 캔들을 오래된 것부터 돌려준다.
+     *
+     * @param from null 이면 처음부터
+     * @param to   null 이면 끝까지
+     */
+    public List<Candle> slice(LocalDateTime from, LocalDateTime to) {
+        long fromOffset = from == null ? Long.MIN_VALUE : ceilOffset(from);
+        long toOffset = to == null ? Long.MAX_VALUE : ceilOffset(to);
+
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < offsets.size(); i++) {
+            int offset = offsets.get(i);
+            if (offset >= fromOffset && offset < toOffset)
+                indices.add(i);
+        }
+        indices.sort((a, b) -> Integer.compare(offsets.get(a), offsets.get(b)));
+
+        List<Candle> candles = new ArrayList<>(indices.size());
+        for (int i : indices) {
+            candles.add(new Candle(market, unit, opens.get(i), closes.get(i), highs.get(i), lows.get(i), volumes.get(i),
+                    day.plusMinutes(offsets.get(i))));
+        }
+        return candles;
+    }
+
+    // private
+    // time 과 같거나 뒤인 첫 offset
+    private long ceilOffset(LocalDateTime time) {
+        Duration duration = Duration.between(day, time);
+        long minutes = duration.toMinutes();
+        return duration.compareTo(Duration.ofMinutes(minutes)) > 0 ? minutes + 1 : minutes;
+    }
+}
@@ -0,0 +1,21 @@
+package com.crypto_trader.api_server.domain.entities;
+
+import com.crypto_trader.api_server.domain.CandleUnit;
+import lombok.Getter;
+
+/**
+ * 시계열 컬렉션의 metaField. Mongo 는 같은 meta 의 캔들을 한 bucket 에 모은다.
+ */
+@Getter
+public class CandleMeta {
+
+    private String market;
+    private CandleUnit unit;
+
+    public CandleMeta() {}
+
+    public CandleMeta(String market, CandleUnit unit) {
+        this.market = market;
+        this.unit = unit;
+    }
+}
@@ -2,6 +2,9 @@ package com.crypto_trader.api_server.global.constant;
 
 public class Constants {
     public static final String MINUTE_CANDLE = "minute_candle";
+    public static final String CANDLE_BLOB = "candle_blob";
     public static final String TICKER = "ticker";
     public static final String MARKET = "market";
+    public static final String ORDERBOOK = "orderbook";
+    public static final String ORDERBOOK_KEY = "orderbook:";
 }
@@ -0,0 +1,94 @@
+package com.crypto_trader.api_server.infra;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static com.crypto_trader.api_server.proto.DataModel.PCandle;
+import static com.crypto_trader.api_server.proto.DataModel.PCandleBatch;
+import static com.crypto_trader.api_server.proto.DataModel.PCandleV2;
+
+/**
+ * 캔들 항목 / 배치의 인코딩
+ * - Redis 항목은 v1 (PCandle, time 은 LocalDateTime 문자열) 또는 v2 (PCandleV2, time 은 epoch second) 이다. (scheduler 의 candle.wire.version)
+ *   v1 항목을 PCandleV2 로 읽으면 문자열 time 은 모르는 필드가 되어 time 이 0 이므로 v1 으로 다시 읽는다.
+ * - Redis 의 blob 배치 ({@link CandleRecord}) 도 PCandleV2 로 읽으므로 항목별 응답은 encodeV1 으로 v1 을 만든다.
+ * - 응답은 PCandleBatch 하나로 묶는다. (열마다 packed 배열, time 은 앞 캔들과의 차이)
+ */
+public final class CandleCodec {
+
+    private CandleCodec() {}
+
+    /**
+     * v1 / v2 항목을 PCandleV2 로 읽는다.
+     */
+    public static PCandleV2 decode(byte[] bytes) throws InvalidProtocolBufferException {
+        PCandleV2 candle = PCandleV2.parseFrom(bytes);
+        if (candle.getTime() != 0)
+            return candle;
+
+        PCandle v1 = PCandle.parseFrom(bytes);
+        return PCandleV2.newBuilder()
+                .setOpen(v1.getOpen())
+                .setClose(v1.getClose())
+                .setHigh(v1.getHigh())
+                .setLow(v1.getLow())
+                .setVolume(v1.getVolume())
+                .setTime(LocalDateTime.parse(v1.getTime()).atZone(ZoneId.systemDefault()).toEpochSecond())
+                .build();
+    }
+
+    /**
+     * PCandleV2 를 v1 항목 (PCandle, time 은 시스템 시간대의 LocalDateTime 문자열) 으로 되돌린다. (항목별 응답용)
+     */
+    public static byte[] encodeV1(PCandleV2 candle) {
+        return PCandle.newBuilder()
+                .setOpen(candle.getOpen())
+                .setClose(candle.getClose())
+                .setHigh(candle.getHigh())
+                .setLow(candle.getLow())
+                .setVolume(candle.getVolume())
+                .setTime(LocalDateTime.ofInstant(Instant.ofEpochSecond(candle.getTime()), ZoneId.systemDefault()).toString())
+                .build()
+                .toByteArray();
+    }
+
+    /**
+     * 캔들들을 배치 하나로 묶는다.
+     */
+    public static byte[] pack(List<PCandleV2> candles) {
+        BatchWriter writer = new BatchWriter();
+        for (PCandleV2 candle : candles)
+            writer.add(candle.getTime(), candle.getOpen(), candle.getHigh(), candle.getLow(), candle.getClose(), candle.getVolume());
+        return writer.toByteArray();
+    }
+
+    /**
+     * 캔들을 시간 순서로 받아 PCandleBatch 를 만든다.
+     */
+    public static final class BatchWriter {
+
+        private final PCandleBatch.Builder builder = PCandleBatch.newBuilder();
+        private long lastTime;
+
+        /**
+         * @param time epoch second
+         */
+        public void add(long time, double open, double high, double low, double close, double volume) {
+            builder.addTime(builder.getTimeCount() == 0 ? time : time - lastTime)
+                    .addOpen(open)
+                    .addHigh(high)
+                    .addLow(low)
+                    .addClose(close)
+                    .addVolume(volume);
+            lastTime = time;
+        }
+
+        public byte[] toByteArray() {
+            return builder.build().toByteArray();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.crypto_trader.api_server.infra;
+
+import com.crypto_trader.api_server.domain.CandleIndex;
+import com.crypto_trader.api_server.domain.CandleShard;
+import com.crypto_trader.api_server.domain.CandleUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.crypto_trader.api_server.proto.DataModel.PCandleV2;
+
+/**
+ * 마켓별 1분 캔들 색인 ({@link CandleIndex})
+ * - Redis 의 1분 캔들은 한 시간마다 다른 키에 쌓인다. ({@link CandleShard})
+ *   처음 조회할 때 색인이 담을 수 있는 만큼의 샤드를 모두 읽고, 이후에는 마지막으로 읽은 샤드의 뒤쪽과 그 뒤 샤드들만 읽어 붙인다.
+ *   (scheduler 는 마켓의 캔들을 시간 순서로 쌓으므로 마지막 샤드에서 읽은 항목 수가 다음 읽기의 시작 위치가 된다.
+ *   list 배치는 리스트 항목, blob 배치는 레코드 슬롯이 항목이다)
+ * - 마지막 샤드가 읽은 항목 수보다 짧아지면 (scheduler 재시작) 색인을 비우고 처음부터 다시 읽는다.
+ * - 색인은 지금부터 candle.index.capacity 분 안의 샤드만 읽는다. scheduler 가 이보다 오래된 tape 를 재생(REPLAY)해 쌓은 캔들은
+ *   색인에 들어오지 않으므로 색인으로 만드는 차트에는 나오지 않는다.
+ */
+@Slf4j
+@Repository
+public class CandleIndexRepository {
+
+    private final CandleRedisRepository candleRedisRepository;
+    private final MarketIdRegistry marketIds;
+    private final int capacity;
+
+    private final AtomicReferenceArray<CandleIndex> indexes; // index = 마켓 id
+
+    @Autowired
+    public CandleIndexRepository(CandleRedisRepository candleRedisRepository,
+                                 MarketIdRegistry marketIds,
+                                 @Value("${candle.index.capacity:4096}") int capacity) {
+        this.candleRedisRepository = candleRedisRepository;
+        this.marketIds = marketIds;
+        this.capacity = capacity;
+        this.indexes = new AtomicReferenceArray<>(marketIds.capacity());
+    }
+
+    /**
+     * Redis 에 새로 쌓인 1분 캔들까지 반영한 색인 (모르는 마켓이면 empty)
+     */
+    public Mono<CandleIndex> findByMarket(String market) {
+        int marketId = marketIds.idOf(market);
+        if (marketId == MarketIdRegistry.UNKNOWN || marketId >= indexes.length())
+            return Mono.empty();
+
+        CandleIndex index = indexes.get(marketId);
+        if (index == null) {
+            indexes.compareAndSet(marketId, null, new CandleIndex(capacity));
+            index = indexes.get(marketId);
+        }
+
+        CandleIndex target = index;
+        long firstShard;
+        long firstOffset;
+        synchronized (target) {
+            firstShard = target.getSourceShard();
+            firstOffset = target.getSourceOffset();
+        }
+        long now = System.currentTimeMillis() / 60_000;
+        long oldest = now - capacity; // 색인이 담을 수 있는 가장 오래된 분
+        long from = firstShard < 0 ? oldest : Math.max(firstShard, CandleShard.startOf(CandleUnit.ONEMINUTE, oldest));
+
+        return Flux.fromIterable(CandleShard.startsBetween(CandleUnit.ONEMINUTE, from, now))
+                .flatMapSequential(shard -> readShard(market, shard, shard == firstShard ? firstOffset : 0))
+                .collectList()
+                .flatMap(reads -> {
+                    if (reads.stream().anyMatch(ShardRead::shrunk)) { // scheduler 가 다시 시작하며 리스트를 새로 만들었다
+                        target.reset();
+                        return findByMarket(market);
+                    }
+                    append(target, firstShard, firstOffset, reads);
+                    return Mono.just(target);
+                });
+    }
+
+    // private
+    // offset 이후의 항목을 읽는다. 이어 읽는 샤드는 길이를 먼저 확인한다.
+    private Mono<ShardRead> readShard(String market, long shard, long offset) {
+        Mono<ShardRead> read = candleRedisRepository.readShard(market, CandleUnit.ONEMINUTE, shard, offset)
+                .map(items -> new ShardRead(shard, offset, items.candles(), items.next(), false));
+        if (offset == 0)
+            return read;
+
+        return candleRedisRepository.sizeOf(market, CandleUnit.ONEMINUTE, shard)
+                .flatMap(length -> {
+                    if (length < offset)
+                        return Mono.just(new ShardRead(shard, offset, List.of(), offset, true));
+                    if (length == offset)
+                        return Mono.just(new ShardRead(shard, offset, List.of(), offset, false));
+                    return read;
+                });
+    }
+
+    private void append(CandleIndex index, long firstShard, long firstOffset, List<ShardRead> reads) {
+        synchronized (index) {
+            if (index.getSourceShard() != firstShard || index.getSourceOffset() != firstOffset)
+                return; // 같은 구간을 먼저 읽어 붙인 요청이 있다
+
+            long lastShard = firstShard;
+            long lastOffset = firstOffset;
+            for (ShardRead read : reads) {
+                for (PCandleV2 candle : read.candles()) {
+                    index.append(Math.floorDiv(candle.getTime(), 60),
+                            candle.getOpen(), candle.getHigh(), candle.getLow(), candle.getClose(), candle.getVolume());
+                }
+                // 항목이 있는 마지막 샤드까지만 나아간다 (뒤의 빈 샤드에는 아직 앞 분의 캔들이 올 수 있다)
+                if (read.next() > read.offset()) {
+                    lastShard = read.shard();
+                    lastOffset = read.next();
+                }
+            }
+            index.setSource(lastShard, lastOffset);
+        }
+    }
+
+    private record ShardRead(long shard, long offset, List<PCandleV2> candles, long next, boolean shrunk) {
+    }
+}
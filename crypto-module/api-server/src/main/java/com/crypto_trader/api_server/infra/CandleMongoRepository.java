@@ -1,24 +1,90 @@
 package com.crypto_trader.api_server.infra;
 
+import com.crypto_trader.api_server.domain.CandleUnit;
 import com.crypto_trader.api_server.domain.entities.Candle;
+import com.crypto_trader.api_server.domain.entities.CandleBucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public class CandleMongoRepository {
 
     private final MongoTemplate mongoTemplate;
+    private final boolean bucketed;
 
-    public CandleMongoRepository(MongoTemplate mongoTemplate) {
+    /**
+     * @param storage 스케줄러의 저장 방식 (series: 시계열 컬렉션, bucket: 하루 문서 {@link CandleBucket})
+     */
+    public CandleMongoRepository(MongoTemplate mongoTemplate,
+                                 @Value("${candle.mongo.storage:series}") String storage) {
         this.mongoTemplate = mongoTemplate;
+        this.bucketed = "bucket".equalsIgnoreCase(storage);
     }
 
-    public List<Candle> findCandlesByMarket(String market) {
-        Query query = new Query(Criteria.where("market").is(market));
+    /**
+     * [from, to) 구간의 캔들을 time 순서(direction)로 최대 limit 개 읽는다. (market_unit_time 인덱스, limit 은 서버에서 적용)
+     *
+     * @param from null 이면 처음부터
+     * @param to   null 이면 끝까지
+     */
+    public List<Candle> findCandles(String market, CandleUnit unit, LocalDateTime from, LocalDateTime to,
+                                    Sort.Direction direction, int limit) {
+        if (bucketed)
+            return findBucketCandles(market, unit, from, to, direction, limit);
+
+        Criteria criteria = Criteria.where("meta.market").is(market).and("meta.unit").is(unit);
+        if (from != null || to != null) {
+            Criteria time = criteria.and("time");
+            if (from != null)
+                time.gte(from);
+            if (to != null)
+                time.lt(to);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(direction, "time"))
+                .limit(limit);
         return mongoTemplate.find(query, Candle.class);
     }
+
+    // private
+    // 하루 문서를 direction 순서로 읽으며 구간을 잘라낸다. limit 개가 모이면 커서를 닫는다.
+    private List<Candle> findBucketCandles(String market, CandleUnit unit, LocalDateTime from, LocalDateTime to,
+                                           Sort.Direction direction, int limit) {
+        Criteria criteria = Criteria.where("market").is(market).and("unit").is(unit);
+        if (from != null || to != null) {
+            Criteria day = criteria.and("day");
+            if (from != null)
+                day.gte(CandleBucket.dayOf(from));
+            if (to != null)
+                day.lt(to);
+        }
+        Query query = new Query(criteria).with(Sort.by(direction, "day"));
+
+        List<Candle> candles = new ArrayList<>();
+        if (limit <= 0)
+            return candles;
+        try (Stream<CandleBucket> stream = mongoTemplate.stream(query, CandleBucket.class)) {
+            for (CandleBucket bucket : (Iterable<CandleBucket>) stream::iterator) {
+                List<Candle> slice = bucket.slice(from, to);
+                if (direction == Sort.Direction.DESC)
+                    Collections.reverse(slice);
+                for (Candle candle : slice) {
+                    candles.add(candle);
+                    if (candles.size() == limit)
+                        return candles;
+                }
+            }
+        }
+        return candles;
+    }
 }
@@ -0,0 +1,190 @@
+package com.crypto_trader.api_server.infra;
+
+import com.crypto_trader.api_server.domain.CandleShard;
+import com.crypto_trader.api_server.domain.CandleUnit;
+import com.google.protobuf.InvalidProtocolBufferException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.crypto_trader.api_server.proto.DataModel.PCandleV2;
+
+/**
+ * 날짜로 나눈 Redis 캔들 키({@link CandleShard})를 읽는다. (scheduler 의 candle.redis.layout 과 같은 배치로)
+ * - list: 샤드마다 캔들 리스트 (항목 = 캔들 하나)
+ * - blob: 샤드마다 고정 크기 레코드({@link CandleRecord})를 담은 문자열 하나 (항목 = 슬롯 하나)
+ */
+@Slf4j
+@Repository
+public class CandleRedisRepository {
+
+    private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final long minuteRetentionMinutes;
+    private final long retentionMinutes;
+    private final boolean blob;
+
+    @Autowired
+    public CandleRedisRepository(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                                 @Value("${candle.redis.minute-retention-hours:48}") long minuteRetentionHours,
+                                 @Value("${candle.redis.retention-days:30}") long retentionDays,
+                                 @Value("${candle.redis.layout:list}") String layout) {
+        this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.minuteRetentionMinutes = minuteRetentionHours * 60;
+        this.retentionMinutes = retentionDays * 1440;
+        this.blob = "blob".equalsIgnoreCase(layout);
+    }
+
+    /**
+     * [fromMinute, toMinute] 구간의 캔들을 오래된 것부터 읽는다. (epoch minute, 포함)
+     * - 구간에 걸친 샤드를 모두 한꺼번에 읽고 (pipelining) 샤드 순서대로 이어 붙인다.
+     * - list: 샤드마다 LRANGE, 구간에 일부만 걸친 첫/끝 샤드는 캔들 시각으로 잘라낸다.
+     * - blob: 샤드마다 구간에 해당하는 바이트만 GETRANGE 로 읽는다.
+     * - 지금 샤드 다음보다 뒤의 샤드는 읽지 않고, 구간 끝에서 보관 기간(scheduler 의 candle.redis.*)보다 앞선 샤드도 읽지 않는다.
+     *   (지금이 아닌 구간 끝을 기준으로 자르므로 REPLAY 로 지난 tape 를 재생해 쌓인 캔들도 그 구간을 요청하면 읽는다)
+     */
+    public Flux<PCandleV2> findCandles(String market, CandleUnit unit, long fromMinute, long toMinute) {
+        long now = System.currentTimeMillis() / 60_000;
+        long to = Math.min(toMinute, now + CandleShard.spanOf(unit));
+        long from = Math.max(fromMinute, to - retentionOf(unit) - CandleShard.spanOf(unit));
+        return Flux.fromIterable(CandleShard.startsBetween(unit, from, to))
+                .flatMapSequential(start -> blob
+                        ? readBlob(market, unit, start, from, to)
+                        : readList(market, unit, start, from, to));
+    }
+
+    /**
+     * Redis 에 남아 있는 캔들 전체 (지금부터 보관 기간, 지난 tape 를 재생해 쌓인 캔들은 findCandles 로 구간을 지정해 읽는다)
+     */
+    public Flux<PCandleV2> findRecentCandles(String market, CandleUnit unit) {
+        long now = System.currentTimeMillis() / 60_000;
+        return findCandles(market, unit, now - retentionOf(unit) - CandleShard.spanOf(unit), now);
+    }
+
+    /**
+     * @return 샤드의 항목 수 (list: LLEN, blob: STRLEN / 레코드 크기)
+     */
+    public Mono<Long> sizeOf(String market, CandleUnit unit, long shard) {
+        if (!blob)
+            return byteArrayRedisTemplate.opsForList().size(CandleShard.keyOf(unit, market, shard));
+
+        ByteBuffer key = keyBuffer(CandleShard.blobKeyOf(unit, market, shard));
+        return byteArrayRedisTemplate.execute(connection -> connection.stringCommands().strLen(key))
+                .next()
+                .map(length -> length / CandleRecord.SIZE);
+    }
+
+    /**
+     * 샤드의 from 번째 항목부터 끝까지 읽는다.
+     *
+     * @return 읽은 캔들과 다음에 읽을 항목 위치 (빈 슬롯 / 읽을 수 없는 항목도 위치는 넘어간다)
+     */
+    public Mono<ShardItems> readShard(String market, CandleUnit unit, long shard, long from) {
+        if (!blob) {
+            return byteArrayRedisTemplate.opsForList()
+                    .range(CandleShard.keyOf(unit, market, shard), from, -1)
+                    .collectList()
+                    .map(items -> {
+                        List<PCandleV2> candles = new ArrayList<>(items.size());
+                        for (byte[] bytes : items) {
+                            try {
+                                candles.add(CandleCodec.decode(bytes));
+                            } catch (InvalidProtocolBufferException | RuntimeException e) {
+                                log.debug("Skipping malformed candle: {}", e.getMessage());
+                            }
+                        }
+                        return new ShardItems(candles, from + items.size());
+                    });
+        }
+
+        ByteBuffer key = keyBuffer(CandleShard.blobKeyOf(unit, market, shard));
+        return byteArrayRedisTemplate.execute(connection -> connection.stringCommands().getRange(key, from * CandleRecord.SIZE, -1))
+                .next()
+                .map(bytes -> {
+                    long read = bytes.remaining() / CandleRecord.SIZE;
+                    return new ShardItems(CandleRecord.readAll(bytes), from + read);
+                })
+                .defaultIfEmpty(new ShardItems(List.of(), from));
+    }
+
+    /**
+     * 새 캔들이 쌓일 때 keyspace 알림을 받을 키 패턴 (모든 날짜 샤드)
+     */
+    public String keyPatternOf(CandleUnit unit, String market) {
+        return (blob ? CandleShard.blobPrefixOf(unit, market) : CandleShard.prefixOf(unit, market)) + "*";
+    }
+
+    /**
+     * key 샤드의 마지막 캔들 (없으면 empty)
+     */
+    public Mono<PCandleV2> findLast(String key) {
+        if (!blob) {
+            return byteArrayRedisTemplate.opsForList()
+                    .range(key, -1, -1)
+                    .next()
+                    .map(CandleRedisRepository::decode);
+        }
+
+        ByteBuffer buffer = keyBuffer(key);
+        return byteArrayRedisTemplate.execute(connection -> connection.stringCommands().getRange(buffer, -CandleRecord.SIZE, -1))
+                .next()
+                .flatMapIterable(CandleRecord::readAll)
+                .next();
+    }
+
+    // private
+    private Flux<PCandleV2> readList(String market, CandleUnit unit, long start, long fromMinute, long toMinute) {
+        Flux<PCandleV2> candles = byteArrayRedisTemplate.opsForList()
+                .range(CandleShard.keyOf(unit, market, start), 0, -1)
+                .map(CandleRedisRepository::decode);
+        if (start >= fromMinute && start + CandleShard.spanOf(unit) - 1 <= toMinute)
+            return candles;
+        return candles.filter(candle -> {
+            long minute = Math.floorDiv(candle.getTime(), 60);
+            return minute >= fromMinute && minute <= toMinute;
+        });
+    }
+
+    private Flux<PCandleV2> readBlob(String market, CandleUnit unit, long start, long fromMinute, long toMinute) {
+        long fromSlot = Math.max(0, -Math.floorDiv(start - fromMinute, unit.num)); // 올림
+        long toSlot = Math.min(CandleShard.slotsOf(unit) - 1, Math.floorDiv(toMinute - start, unit.num));
+        if (fromSlot > toSlot)
+            return Flux.empty();
+
+        ByteBuffer key = keyBuffer(CandleShard.blobKeyOf(unit, market, start));
+        return byteArrayRedisTemplate.execute(connection -> connection.stringCommands()
+                        .getRange(key, fromSlot * CandleRecord.SIZE, (toSlot + 1) * CandleRecord.SIZE - 1))
+                .flatMapIterable(CandleRecord::readAll);
+    }
+
+    private long retentionOf(CandleUnit unit) {
+        return unit == CandleUnit.ONEMINUTE ? minuteRetentionMinutes : retentionMinutes;
+    }
+
+    private static ByteBuffer keyBuffer(String key) {
+        return ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PCandleV2 decode(byte[] bytes) {
+        try {
+            return CandleCodec.decode(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @param candles 읽은 캔들 (오래된 것부터)
+     * @param next    다음에 읽을 항목 위치
+     */
+    public record ShardItems(List<PCandleV2> candles, long next) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.crypto_trader.api_server.infra;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * scheduler 가 Redis market 키로 발행한 마켓 id 테이블 (index = id, 폐지된 마켓은 null)
+ * - id 는 바뀌지 않으므로 마켓별 상태를 id 로 인덱싱한 배열(크기 market.capacity)에 둘 수 있다.
+ * - 바이너리 메시지(PTicker, POrderBook)는 마켓 코드 대신 id 를 싣는다.
+ */
+@Component
+public class MarketIdRegistry {
+
+    public static final int UNKNOWN = -1;
+
+    private final int capacity;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] codes = new String[0];
+
+    @Autowired
+    public MarketIdRegistry(@Value("${market.capacity:1024}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @return 마켓 코드의 id (없으면 UNKNOWN)
+     */
+    public int idOf(String code) {
+        if (code == null)
+            return UNKNOWN;
+        Integer id = ids.get(code);
+        return id == null ? UNKNOWN : id;
+    }
+
+    /**
+     * @return id 의 마켓 코드 (없거나 폐지된 id 면 null)
+     */
+    public String codeOf(int id) {
+        String[] codes = this.codes;
+        return id >= 0 && id < codes.length ? codes[id] : null;
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public synchronized void update(List<String> table) {
+        String[] next = table.subList(0, Math.min(table.size(), capacity)).toArray(new String[0]);
+        codes = next;
+        ids.keySet().removeIf(code -> !table.contains(code));
+        for (int id = 0; id < next.length; id++) {
+            if (next[id] != null)
+                ids.put(next[id], id);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.crypto_trader.api_server.infra;
+
+import com.crypto_trader.api_server.domain.OrderBook;
+import com.google.protobuf.InvalidProtocolBufferException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.crypto_trader.api_server.domain.OrderBook.MAX_DEPTH;
+import static com.crypto_trader.api_server.global.constant.Constants.ORDERBOOK;
+import static com.crypto_trader.api_server.global.constant.Constants.ORDERBOOK_KEY;
+import static com.crypto_trader.api_server.proto.DataModel.POrderBook;
+
+/**
+ * scheduler 가 발행하는 호가를 마켓별 {@link OrderBook} 에 반영해 두는 저장소
+ * - orderbook 채널 메시지는 length-delimited POrderBook (스냅샷 또는 바뀐 단계만 담은 diff) 의 연속이다.
+ *   마켓은 코드 대신 마켓 id 로 실려 온다. ({@link MarketIdRegistry})
+ * - 마켓 목록을 받으면 orderbook:{market} 키에 저장된 마지막 호가를 먼저 읽어 둔다.
+ * - diff 가 이어지지 않아 (놓친 발행, 재구독) 준비되지 않은 마켓은 그 키를 다시 읽어 맞춘다. (마켓마다 한 번에 하나)
+ */
+@Slf4j
+@Repository
+public class OrderBookRepository {
+
+    private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final SimpleMarketRepository simpleMarketRepository;
+    private final MarketIdRegistry marketIds;
+
+    private final AtomicReferenceArray<OrderBook> books; // index = 마켓 id
+    private final Set<String> resyncing = ConcurrentHashMap.newKeySet();
+
+    // apply 전용 (메시지의 repeated 필드를 옮겨 담는 버퍼)
+    private final int[] levels = new int[MAX_DEPTH];
+    private final double[] askPrices = new double[MAX_DEPTH];
+    private final double[] askSizes = new double[MAX_DEPTH];
+    private final double[] bidPrices = new double[MAX_DEPTH];
+    private final double[] bidSizes = new double[MAX_DEPTH];
+
+    @Autowired
+    public OrderBookRepository(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                               SimpleMarketRepository simpleMarketRepository,
+                               MarketIdRegistry marketIds) {
+        this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.simpleMarketRepository = simpleMarketRepository;
+        this.marketIds = marketIds;
+        this.books = new AtomicReferenceArray<>(marketIds.capacity());
+    }
+
+    @PostConstruct
+    public void init() {
+        loadSnapshots();
+        byteArrayRedisTemplate
+                .listenToChannel(ORDERBOOK)
+                .map(ReactiveSubscription.Message::getMessage)
+                .subscribe(this::applyFrame, error -> log.debug("Orderbook subscription failed: {}", error.getMessage()));
+    }
+
+    public OrderBook findByMarket(String market) {
+        int marketId = marketIds.idOf(market);
+        return marketId == MarketIdRegistry.UNKNOWN || marketId >= books.length() ? null : books.get(marketId);
+    }
+
+    // private
+    private void loadSnapshots() {
+        simpleMarketRepository.marketCodesUpdates()
+                .flatMap(marketCodes -> byteArrayRedisTemplate.opsForValue()
+                        .multiGet(marketCodes.stream().map(code -> ORDERBOOK_KEY + code).toList()))
+                .subscribe(snapshots -> {
+                    for (byte[] snapshot : snapshots)
+                        applySnapshot(snapshot);
+                }, error -> log.debug("Failed to load orderbook snapshots: {}", error.getMessage()));
+    }
+
+    private void resync(String market) {
+        if (!resyncing.add(market))
+            return;
+        byteArrayRedisTemplate.opsForValue()
+                .get(ORDERBOOK_KEY + market)
+                .doFinally(signal -> resyncing.remove(market))
+                .subscribe(this::applySnapshot, error -> log.debug("Failed to resync orderbook of {}: {}", market, error.getMessage()));
+    }
+
+    private void applySnapshot(byte[] snapshot) {
+        if (snapshot == null)
+            return;
+        try {
+            apply(POrderBook.parseFrom(snapshot));
+        } catch (InvalidProtocolBufferException e) {
+            log.debug("Failed to parse orderbook snapshot: {}", e.getMessage());
+        }
+    }
+
+    // 배치 프레임 하나를 반영 (깨진 프레임이면 앞에서 읽은 것까지만)
+    private void applyFrame(byte[] message) {
+        ByteArrayInputStream in = new ByteArrayInputStream(message);
+        try {
+            POrderBook orderBook;
+            while ((orderBook = POrderBook.parseDelimitedFrom(in)) != null) {
+                OrderBook applied = apply(orderBook);
+                if (applied != null && !applied.isReady())
+                    resync(applied.getMarket());
+            }
+        } catch (IOException e) {
+            log.debug("Failed to parse POrderBook: {}", e.getMessage());
+        }
+    }
+
+    // 메시지를 반영한 (또는 반영하지 못한) 호가 (모르는 마켓이면 null)
+    private synchronized OrderBook apply(POrderBook message) {
+        boolean byId = message.getMarket().isEmpty();
+        int marketId = byId ? message.getMarketId() : marketIds.idOf(message.getMarket());
+        String market = byId ? marketIds.codeOf(marketId) : message.getMarket();
+        if (market == null || marketId < 0 || marketId >= books.length())
+            return null; // 아직 모르는 id
+
+        int count = Math.min(MAX_DEPTH, Math.min(message.getLevelsCount(),
+                Math.min(Math.min(message.getAskPriceCount(), message.getAskSizeCount()),
+                        Math.min(message.getBidPriceCount(), message.getBidSizeCount()))));
+        for (int i = 0; i < count; i++) {
+            levels[i] = message.getLevels(i);
+            askPrices[i] = message.getAskPrice(i);
+            askSizes[i] = message.getAskSize(i);
+            bidPrices[i] = message.getBidPrice(i);
+            bidSizes[i] = message.getBidSize(i);
+        }
+
+        OrderBook orderBook = books.get(marketId);
+        if (orderBook == null) {
+            orderBook = new OrderBook(market);
+            books.set(marketId, orderBook);
+        }
+        orderBook.apply(message.getTimestamp(), message.getBaseTimestamp(), message.getSnapshot(), message.getDepth(), count,
+                levels, askPrices, askSizes, bidPrices, bidSizes);
+        return orderBook;
+    }
+}
@@ -14,14 +14,21 @@ import reactor.core.publisher.Sinks;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import static com.crypto_trader.api_server.global.constant.Constants.MARKET;
 
+/**
+ * scheduler 가 관리하는 마켓 목록
+ * - market 키는 마켓 id 테이블(index = id, 폐지된 마켓은 null)이다. id 는 {@link MarketIdRegistry} 에 반영하고,
+ *   marketCodesUpdates 로는 상장 중인 마켓 코드만 내보낸다.
+ */
 @Repository
 public class SimpleMarketRepository {
 
     private final ReactiveRedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final MarketIdRegistry marketIds;
 
     private List<String> marketCodes = new ArrayList<>();
 
@@ -29,9 +36,12 @@ public class SimpleMarketRepository {
     private Disposable subscription;
 
     @Autowired
-    public SimpleMarketRepository(ReactiveRedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+    public SimpleMarketRepository(ReactiveRedisTemplate<String, String> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  MarketIdRegistry marketIds) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.marketIds = marketIds;
     }
 
     @PostConstruct
@@ -57,8 +67,12 @@ public class SimpleMarketRepository {
                 .get(MARKET)
                 .subscribe(markets -> {
                     try {
-                        this.marketCodes = objectMapper.readValue(markets, new TypeReference<List<String>>() {
+                        List<String> table = objectMapper.readValue(markets, new TypeReference<List<String>>() {
                         });
+                        marketIds.update(table);
+                        this.marketCodes = table.stream()
+                                .filter(Objects::nonNull)
+                                .toList();
                         sink.tryEmitNext(this.marketCodes);
                     } catch (JsonProcessingException e) {
                         throw new RuntimeException(e);
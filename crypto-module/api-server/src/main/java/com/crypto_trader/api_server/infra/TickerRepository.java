@@ -2,7 +2,10 @@ package com.crypto_trader.api_server.infra;
 
 import com.crypto_trader.api_server.domain.Ticker;
 import com.crypto_trader.api_server.domain.events.TickerChangeEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
 import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.connection.ReactiveSubscription;
@@ -10,21 +13,26 @@ import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static com.crypto_trader.api_server.global.constant.Constants.TICKER;
+import static com.crypto_trader.api_server.proto.DataModel.*;
 
+@Slf4j
 @Repository
 public class TickerRepository {
 
-    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
     private final ApplicationEventPublisher publisher;
     private final SimpleMarketRepository simpleMarketRepository;
+    private final ObjectMapper objectMapper;
+    private final MarketIdRegistry marketIds;
 
-    private final Map<String, Ticker> tickers = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Ticker> tickers; // index = 마켓 id
 
     @PostConstruct
     public void init() {
@@ -32,40 +40,122 @@ public class TickerRepository {
     }
 
     @Autowired
-    public TickerRepository(ReactiveRedisTemplate<String, String> redisTemplate,
+    public TickerRepository(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
                             ApplicationEventPublisher publisher,
-                            SimpleMarketRepository simpleMarketRepository) {
-        this.redisTemplate = redisTemplate;
+                            SimpleMarketRepository simpleMarketRepository,
+                            ObjectMapper objectMapper,
+                            MarketIdRegistry marketIds) {
+        this.byteArrayRedisTemplate = byteArrayRedisTemplate;
         this.publisher = publisher;
         this.simpleMarketRepository = simpleMarketRepository;
+        this.objectMapper = objectMapper;
+        this.marketIds = marketIds;
+        this.tickers = new AtomicReferenceArray<>(marketIds.capacity());
     }
 
+    /**
+     * ticker 의 marketId 가 채워져 있어야 한다. (getChannel 로 받은 ticker)
+     */
     public void save(Ticker ticker) {
-        tickers.put(ticker.getMarket(), ticker);
+        if (ticker.getMarketId() < 0 || ticker.getMarketId() >= tickers.length())
+            return;
+
+        tickers.set(ticker.getMarketId(), ticker);
         publisher.publishEvent(new TickerChangeEvent(this, ticker));
     }
 
     public Ticker findTickerByMarket(String marketCode) {
-        return tickers.get(marketCode);
+        int marketId = marketIds.idOf(marketCode);
+        return marketId == MarketIdRegistry.UNKNOWN || marketId >= tickers.length() ? null : tickers.get(marketId);
     }
 
     public List<Ticker> findAllTickers() {
-        return new ArrayList<>(tickers.values());
+        List<Ticker> all = new ArrayList<>();
+        for (int id = 0, count = Math.min(marketIds.size(), tickers.length()); id < count; id++) {
+            Ticker ticker = tickers.get(id);
+            if (ticker != null && marketIds.codeOf(id) != null)
+                all.add(ticker);
+        }
+        return all;
     }
 
-    public Flux<? extends ReactiveSubscription.Message<String, String>> getChannel() {
-        return redisTemplate
-                .listenToChannel(TICKER);
+    /**
+     * Ticker 채널 구독
+     * - scheduler 가 윈도우 단위로 모아 발행하므로 메시지 하나에 여러 마켓의 ticker 가 들어있다.
+     * - scheduler 의 ticker.publish.format 에 따라 Upbit JSON 배열 또는 length-delimited PTicker 스트림이 들어온다.
+     * - 받은 ticker 에는 marketId 를 채워 넘긴다. (id 테이블에 없는 마켓은 버린다)
+     */
+    public Flux<Ticker> getChannel() {
+        return byteArrayRedisTemplate
+                .listenToChannel(TICKER)
+                .map(ReactiveSubscription.Message::getMessage)
+                .flatMapIterable(this::decode);
     }
 
     private void initTickers() {
         simpleMarketRepository.marketCodesUpdates()
                 .doOnNext(marketCodes -> {
                     for (String marketCode : marketCodes) {
+                        int marketId = marketIds.idOf(marketCode);
+                        if (marketId == MarketIdRegistry.UNKNOWN || marketId >= tickers.length())
+                            continue;
                         Ticker ticker = new Ticker(marketCode, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
-                        tickers.put(marketCode, ticker);
+                        ticker.setMarketId(marketId);
+                        tickers.compareAndSet(marketId, null, ticker);
                     }
                 })
                 .subscribe();
     }
+
+    // 배치 프레임 하나를 Ticker 목록으로 변환 (깨진 프레임이면 앞에서 읽은 것까지만)
+    private List<Ticker> decode(byte[] message) {
+        List<Ticker> decoded = new ArrayList<>();
+        if (message.length == 0)
+            return decoded;
+
+        try {
+            if (message[0] == '{') {
+                addKnown(decoded, objectMapper.readValue(message, Ticker.class));
+                return decoded;
+            }
+            if (message[0] == '[') {
+                for (Ticker ticker : objectMapper.readValue(message, Ticker[].class))
+                    addKnown(decoded, ticker);
+                return decoded;
+            }
+
+            ByteArrayInputStream in = new ByteArrayInputStream(message);
+            PTicker ticker;
+            while ((ticker = PTicker.parseDelimitedFrom(in)) != null) {
+                // scheduler 는 마켓 코드 대신 id 를 싣는다
+                boolean byId = ticker.getMarket().isEmpty();
+                String market = byId ? marketIds.codeOf(ticker.getMarketId()) : ticker.getMarket();
+                if (market == null)
+                    continue; // 아직 모르는 id
+                Ticker decodedTicker = new Ticker(
+                        market,
+                        ticker.getTradePrice(),
+                        ticker.getAccTradePrice24H(),
+                        ticker.getSignedChangePrice(),
+                        ticker.getSignedChangeRate(),
+                        ticker.getHighPrice(),
+                        ticker.getLowPrice(),
+                        ticker.getAccTradeVolume24H()
+                );
+                decodedTicker.setMarketId(byId ? ticker.getMarketId() : marketIds.idOf(market));
+                decoded.add(decodedTicker);
+            }
+        } catch (InvalidProtocolBufferException e) {
+            log.debug("Failed to parse PTicker: {}", e.getMessage());
+        } catch (IOException e) {
+            log.debug("Failed to parse ticker json: {}", e.getMessage());
+        }
+        return decoded;
+    }
+
+    private void addKnown(List<Ticker> decoded, Ticker ticker) {
+        ticker.setMarketId(marketIds.idOf(ticker.getMarket()));
+        if (ticker.getMarketId() != MarketIdRegistry.UNKNOWN)
+            decoded.add(ticker);
+    }
 }
@@ -1,10 +1,13 @@
 package com.crypto_trader.api_server.presentation;
 
+import com.crypto_trader.api_server.application.CandleService;
 import com.crypto_trader.api_server.application.dto.CandleRequestDto;
 import com.crypto_trader.api_server.application.dto.CandleResponseDto;
 import com.crypto_trader.api_server.domain.CandleUnit;
 import com.crypto_trader.api_server.domain.entities.Candle;
+import com.crypto_trader.api_server.infra.CandleCodec;
 import com.crypto_trader.api_server.infra.CandleMongoRepository;
+import com.crypto_trader.api_server.infra.CandleRedisRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,38 +31,44 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.crypto_trader.api_server.proto.DataModel.PCandleV2;
+
 @RestController
 public class CandleController {
 
+    private static final int MAX_UNIT_MINUTES = 7 * 1440;
+
     private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final CandleService candleService;
+    private final CandleRedisRepository candleRedisRepository;
 
-    // TEMP
-    private List<byte[]> tempList;
+    // TEMP (첫 요청에 채운다. Redis 에 아직 캔들이 없으면 다음 요청에 다시 읽는다)
+    private static final int TEMP_SIZE = 1000;
+    private volatile List<byte[]> tempList = List.of();
 
     @Autowired
-    public CandleController(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate) {
+    public CandleController(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                            CandleService candleService,
+                            CandleRedisRepository candleRedisRepository) {
         this.byteArrayRedisTemplate = byteArrayRedisTemplate;
-
-        String key =  "ONEMINUTE:minute_candle:KRW-BTC";
-        this.tempList = byteArrayRedisTemplate.opsForList()
-                .range(key, 0, -1)
-                .collectList()
-                .block();
-
-        int targetSize = 1000;
-        while (tempList.size() < targetSize) {
-            tempList.addAll(tempList);
-        }
-        tempList = tempList.subList(0, targetSize);
+        this.candleService = candleService;
+        this.candleRedisRepository = candleRedisRepository;
     }
 
-    // using protobuf
+    // using protobuf (start / end: epoch minute, 없으면 Redis 에 남은 전체)
     @GetMapping("/api/all-candles")
-    public Mono<List<byte[]>> getAllCandlesP(@ModelAttribute CandleRequestDto dto) {
-        String key = dto.makeKey();
-        return byteArrayRedisTemplate.opsForList()
-                .range(key, 0, -1)
-                .collectList();
+    public Mono<ResponseEntity<List<byte[]>>> getAllCandlesP(@ModelAttribute CandleRequestDto dto) {
+        if (!isValidRange(dto))
+            return Mono.just(ResponseEntity.badRequest().build());
+        return findAllCandles(dto).map(CandleCodec::encodeV1).collectList().map(ResponseEntity::ok);
+    }
+
+    // all-candles 와 같은 캔들을 PCandleBatch 하나로
+    @GetMapping(value = "/api/all-candles/batch", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public Mono<ResponseEntity<byte[]>> getAllCandlesBatch(@ModelAttribute CandleRequestDto dto) {
+        if (!isValidRange(dto))
+            return Mono.just(ResponseEntity.badRequest().build());
+        return findAllCandles(dto).collectList().map(CandleCodec::pack).map(ResponseEntity::ok);
     }
 
     // TEMP
@@ -74,28 +83,83 @@ public class CandleController {
     }
 
     @GetMapping("/api/candles-info")
-    public CandlesInfo getCandlesInfo(@ModelAttribute CandleRequestDto dto) {
-        // 100개 정도 임의 데이터 만들기
-        List<byte[]> bytes = tempList.subList(0, 100);
-        double startDate = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 60.0;
-        double endDate = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 60.0; // 어차피 필요 없음
-        int count = 1000;
-
-        CandlesInfo info = new CandlesInfo(
-                startDate,
-                endDate,
-                count,
-                bytes
-        );
-
-        return info;
+    public Mono<CandlesInfo> getCandlesInfo(@ModelAttribute CandleRequestDto dto) {
+        return tempCandles().map(candles -> {
+            // 100개 정도 임의 데이터 만들기
+            List<byte[]> bytes = candles.subList(0, Math.min(100, candles.size()));
+            double startDate = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 60.0;
+            double endDate = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / 60.0; // 어차피 필요 없음
+            int count = 1000;
+
+            return new CandlesInfo(
+                    startDate,
+                    endDate,
+                    count,
+                    bytes
+            );
+        });
     }
 
+    /**
+     * 임의 단위 캔들 (unit: FIVEMINUTE 같은 단위 이름 또는 분 수, start / end: epoch minute)
+     */
     @GetMapping("/api/candles")
-    public List<byte[]> getCandles(@RequestParam("market") String market,
-                                   @RequestParam("unit")  CandleUnit unit,
-                                   @RequestParam("start") double startDate,
-                                   @RequestParam("end") double endDate) {
-        return tempList.subList(100, 200);
+    public Mono<ResponseEntity<List<byte[]>>> getCandles(@RequestParam("market") String market,
+                                                         @RequestParam("unit") String unit,
+                                                         @RequestParam("start") double startDate,
+                                                         @RequestParam("end") double endDate) {
+        int minutes = CandleUnit.minutesOf(unit);
+        if (minutes <= 0 || minutes > MAX_UNIT_MINUTES)
+            return Mono.just(ResponseEntity.badRequest().build());
+
+        return candleService.getCandles(market, minutes, (long) Math.floor(startDate), (long) Math.floor(endDate))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * /api/candles 와 같은 캔들을 PCandleBatch 하나로
+     */
+    @GetMapping(value = "/api/candles/batch", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public Mono<ResponseEntity<byte[]>> getCandleBatch(@RequestParam("market") String market,
+                                                       @RequestParam("unit") String unit,
+                                                       @RequestParam("start") double startDate,
+                                                       @RequestParam("end") double endDate) {
+        int minutes = CandleUnit.minutesOf(unit);
+        if (minutes <= 0 || minutes > MAX_UNIT_MINUTES)
+            return Mono.just(ResponseEntity.badRequest().build());
+
+        return candleService.getCandleBatch(market, minutes, (long) Math.floor(startDate), (long) Math.floor(endDate))
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // private
+    // KRW-BTC 1분 캔들을 TEMP_SIZE 개가 될 때까지 되풀이한 목록
+    private Mono<List<byte[]>> tempCandles() {
+        List<byte[]> cached = tempList;
+        if (!cached.isEmpty())
+            return Mono.just(cached);
+
+        return candleRedisRepository.findRecentCandles("KRW-BTC", CandleUnit.ONEMINUTE)
+                .map(CandleCodec::encodeV1)
+                .collectList()
+                .map(candles -> {
+                    List<byte[]> filled = new ArrayList<>(TEMP_SIZE);
+                    while (!candles.isEmpty() && filled.size() < TEMP_SIZE)
+                        filled.addAll(candles.subList(0, Math.min(candles.size(), TEMP_SIZE - filled.size())));
+                    tempList = filled;
+                    return filled;
+                });
+    }
+
+    private static boolean isValidRange(CandleRequestDto dto) {
+        return dto.getStart() == null || dto.getEnd() == null || dto.getEnd() >= dto.getStart();
+    }
+
+    private Flux<PCandleV2> findAllCandles(CandleRequestDto dto) {
+        if (dto.getStart() == null || dto.getEnd() == null)
+            return candleRedisRepository.findRecentCandles(dto.getMarket(), dto.getUnit());
+        return candleRedisRepository.findCandles(dto.getMarket(), dto.getUnit(), dto.getStart(), dto.getEnd());
     }
 }
@@ -0,0 +1,37 @@
+package com.crypto_trader.api_server.presentation;
+
+import com.crypto_trader.api_server.application.OrderBookService;
+import com.crypto_trader.api_server.application.dto.FillPriceResponseDto;
+import com.crypto_trader.api_server.application.dto.OrderBookResponseDto;
+import com.crypto_trader.api_server.domain.OrderSide;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/orderbook")
+public class OrderBookController {
+
+    private final OrderBookService orderBookService;
+
+    public OrderBookController(OrderBookService orderBookService) {
+        this.orderBookService = orderBookService;
+    }
+
+    @GetMapping
+    public ResponseEntity<OrderBookResponseDto> getOrderBook(@RequestParam("market") String market,
+                                                             @RequestParam(value = "depth", defaultValue = "15") int depth) {
+        OrderBookResponseDto orderBook = orderBookService.getOrderBook(market, depth);
+        return orderBook == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(orderBook);
+    }
+
+    @GetMapping("/fill-price")
+    public ResponseEntity<FillPriceResponseDto> estimateFillPrice(@RequestParam("market") String market,
+                                                                  @RequestParam("side") OrderSide side,
+                                                                  @RequestParam("quantity") double quantity) {
+        FillPriceResponseDto fillPrice = orderBookService.estimateFillPrice(market, side, quantity);
+        return fillPrice == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(fillPrice);
+    }
+}
@@ -0,0 +1,6437 @@
+package com.crypto_trader.api_server.proto;// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// NO CHECKED-IN PROTOBUF GENCODE
+// source: src/main/resources/proto/DataModel.proto
+// Protobuf Java Version: 4.28.1
+
+public final class DataModel {
+  private DataModel() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 28,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      DataModel.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface PCandleOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PCandle)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>double open = 1;</code>
+     * @return The open.
+     */
+    double getOpen();
+
+    /**
+     * <code>double close = 2;</code>
+     * @return The close.
+     */
+    double getClose();
+
+    /**
+     * <code>double high = 3;</code>
+     * @return The high.
+     */
+    double getHigh();
+
+    /**
+     * <code>double low = 4;</code>
+     * @return The low.
+     */
+    double getLow();
+
+    /**
+     * <code>double volume = 5;</code>
+     * @return The volume.
+     */
+    double getVolume();
+
+    /**
+     * <code>string time = 6;</code>
+     * @return The time.
+     */
+    java.lang.String getTime();
+    /**
+     * <code>string time = 6;</code>
+     * @return The bytes for time.
+     */
+    com.google.protobuf.ByteString
+        getTimeBytes();
+  }
+  /**
+   * Protobuf type {@code PCandle}
+   */
+  public static final class PCandle extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:PCandle)
+      PCandleOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 28,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PCandle.class.getName());
+    }
+    // Use PCandle.newBuilder() to construct.
+    private PCandle(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    public PCandle() {
+      time_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DataModel.internal_static_PCandle_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DataModel.internal_static_PCandle_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DataModel.PCandle.class, DataModel.PCandle.Builder.class);
+    }
+
+    public static final int OPEN_FIELD_NUMBER = 1;
+    private double open_ = 0D;
+    /**
+     * <code>double open = 1;</code>
+     * @return The open.
+     */
+    @java.lang.Override
+    public double getOpen() {
+      return open_;
+    }
+
+    public static final int CLOSE_FIELD_NUMBER = 2;
+    private double close_ = 0D;
+    /**
+     * <code>double close = 2;</code>
+     * @return The close.
+     */
+    @java.lang.Override
+    public double getClose() {
+      return close_;
+    }
+
+    public static final int HIGH_FIELD_NUMBER = 3;
+    private double high_ = 0D;
+    /**
+     * <code>double high = 3;</code>
+     * @return The high.
+     */
+    @java.lang.Override
+    public double getHigh() {
+      return high_;
+    }
+
+    public static final int LOW_FIELD_NUMBER = 4;
+    private double low_ = 0D;
+    /**
+     * <code>double low = 4;</code>
+     * @return The low.
+     */
+    @java.lang.Override
+    public double getLow() {
+      return low_;
+    }
+
+    public static final int VOLUME_FIELD_NUMBER = 5;
+    private double volume_ = 0D;
+    /**
+     * <code>double volume = 5;</code>
+     * @return The volume.
+     */
+    @java.lang.Override
+    public double getVolume() {
+      return volume_;
+    }
+
+    public static final int TIME_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object time_ = "";
+    /**
+     * <code>string time = 6;</code>
+     * @return The time.
+     */
+    @java.lang.Override
+    public java.lang.String getTime() {
+      java.lang.Object ref = time_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        time_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string time = 6;</code>
+     * @return The bytes for time.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTimeBytes() {
+      java.lang.Object ref = time_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        time_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
+        output.writeDouble(1, open_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
+        output.writeDouble(2, close_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
+        output.writeDouble(3, high_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
+        output.writeDouble(4, low_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
+        output.writeDouble(5, volume_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(time_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 6, time_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(1, open_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, close_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, high_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, low_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, volume_);
+      }
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(time_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, time_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof DataModel.PCandle)) {
+        return super.equals(obj);
+      }
+      DataModel.PCandle other = (DataModel.PCandle) obj;
+
+      if (java.lang.Double.doubleToLongBits(getOpen())
+          != java.lang.Double.doubleToLongBits(
+              other.getOpen())) return false;
+      if (java.lang.Double.doubleToLongBits(getClose())
+          != java.lang.Double.doubleToLongBits(
+              other.getClose())) return false;
+      if (java.lang.Double.doubleToLongBits(getHigh())
+          != java.lang.Double.doubleToLongBits(
+              other.getHigh())) return false;
+      if (java.lang.Double.doubleToLongBits(getLow())
+          != java.lang.Double.doubleToLongBits(
+              other.getLow())) return false;
+      if (java.lang.Double.doubleToLongBits(getVolume())
+          != java.lang.Double.doubleToLongBits(
+              other.getVolume())) return false;
+      if (!getTime()
+          .equals(other.getTime())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + OPEN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getOpen()));
+      hash = (37 * hash) + CLOSE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getClose()));
+      hash = (37 * hash) + HIGH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHigh()));
+      hash = (37 * hash) + LOW_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getLow()));
+      hash = (37 * hash) + VOLUME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getVolume()));
+      hash = (37 * hash) + TIME_FIELD_NUMBER;
+      hash = (53 * hash) + getTime().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static DataModel.PCandle parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandle parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandle parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandle parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandle parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandle parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandle parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PCandle parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static DataModel.PCandle parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static DataModel.PCandle parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DataModel.PCandle parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PCandle parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(DataModel.PCandle prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PCandle}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PCandle)
+        DataModel.PCandleOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DataModel.internal_static_PCandle_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DataModel.internal_static_PCandle_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                DataModel.PCandle.class, DataModel.PCandle.Builder.class);
+      }
+
+      // Construct using DataModel.PCandle.newBuilder()
+      public Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        open_ = 0D;
+        close_ = 0D;
+        high_ = 0D;
+        low_ = 0D;
+        volume_ = 0D;
+        time_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DataModel.internal_static_PCandle_descriptor;
+      }
+
+      @java.lang.Override
+      public DataModel.PCandle getDefaultInstanceForType() {
+        return DataModel.PCandle.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public DataModel.PCandle build() {
+        DataModel.PCandle result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public DataModel.PCandle buildPartial() {
+        DataModel.PCandle result = new DataModel.PCandle(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(DataModel.PCandle result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.open_ = open_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.close_ = close_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.high_ = high_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.low_ = low_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.volume_ = volume_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.time_ = time_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof DataModel.PCandle) {
+          return mergeFrom((DataModel.PCandle)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(DataModel.PCandle other) {
+        if (other == DataModel.PCandle.getDefaultInstance()) return this;
+        if (other.getOpen() != 0D) {
+          setOpen(other.getOpen());
+        }
+        if (other.getClose() != 0D) {
+          setClose(other.getClose());
+        }
+        if (other.getHigh() != 0D) {
+          setHigh(other.getHigh());
+        }
+        if (other.getLow() != 0D) {
+          setLow(other.getLow());
+        }
+        if (other.getVolume() != 0D) {
+          setVolume(other.getVolume());
+        }
+        if (!other.getTime().isEmpty()) {
+          time_ = other.time_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 9: {
+                open_ = input.readDouble();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 9
+              case 17: {
+                close_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              case 25: {
+                high_ = input.readDouble();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 25
+              case 33: {
+                low_ = input.readDouble();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 33
+              case 41: {
+                volume_ = input.readDouble();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 41
+              case 50: {
+                time_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private double open_ ;
+      /**
+       * <code>double open = 1;</code>
+       * @return The open.
+       */
+      @java.lang.Override
+      public double getOpen() {
+        return open_;
+      }
+      /**
+       * <code>double open = 1;</code>
+       * @param value The open to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOpen(double value) {
+
+        open_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double open = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOpen() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        open_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double close_ ;
+      /**
+       * <code>double close = 2;</code>
+       * @return The close.
+       */
+      @java.lang.Override
+      public double getClose() {
+        return close_;
+      }
+      /**
+       * <code>double close = 2;</code>
+       * @param value The close to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClose(double value) {
+
+        close_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double close = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClose() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        close_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double high_ ;
+      /**
+       * <code>double high = 3;</code>
+       * @return The high.
+       */
+      @java.lang.Override
+      public double getHigh() {
+        return high_;
+      }
+      /**
+       * <code>double high = 3;</code>
+       * @param value The high to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHigh(double value) {
+
+        high_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double high = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHigh() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        high_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double low_ ;
+      /**
+       * <code>double low = 4;</code>
+       * @return The low.
+       */
+      @java.lang.Override
+      public double getLow() {
+        return low_;
+      }
+      /**
+       * <code>double low = 4;</code>
+       * @param value The low to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLow(double value) {
+
+        low_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double low = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLow() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        low_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double volume_ ;
+      /**
+       * <code>double volume = 5;</code>
+       * @return The volume.
+       */
+      @java.lang.Override
+      public double getVolume() {
+        return volume_;
+      }
+      /**
+       * <code>double volume = 5;</code>
+       * @param value The volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolume(double value) {
+
+        volume_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double volume = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVolume() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        volume_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object time_ = "";
+      /**
+       * <code>string time = 6;</code>
+       * @return The time.
+       */
+      public java.lang.String getTime() {
+        java.lang.Object ref = time_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          time_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string time = 6;</code>
+       * @return The bytes for time.
+       */
+      public com.google.protobuf.ByteString
+          getTimeBytes() {
+        java.lang.Object ref = time_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          time_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string time = 6;</code>
+       * @param value The time to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        time_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string time = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTime() {
+        time_ = getDefaultInstance().getTime();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string time = 6;</code>
+       * @param value The bytes for time to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        time_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:PCandle)
+    }
+
+    // @@protoc_insertion_point(class_scope:PCandle)
+    private static final DataModel.PCandle DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new DataModel.PCandle();
+    }
+
+    public static DataModel.PCandle getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PCandle>
+        PARSER = new com.google.protobuf.AbstractParser<PCandle>() {
+      @java.lang.Override
+      public PCandle parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PCandle> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PCandle> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public DataModel.PCandle getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PCandleV2OrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PCandleV2)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>double open = 1;</code>
+     * @return The open.
+     */
+    double getOpen();
+
+    /**
+     * <code>double close = 2;</code>
+     * @return The close.
+     */
+    double getClose();
+
+    /**
+     * <code>double high = 3;</code>
+     * @return The high.
+     */
+    double getHigh();
+
+    /**
+     * <code>double low = 4;</code>
+     * @return The low.
+     */
+    double getLow();
+
+    /**
+     * <code>double volume = 5;</code>
+     * @return The volume.
+     */
+    double getVolume();
+
+    /**
+     * <code>int64 time = 6;</code>
+     * @return The time.
+     */
+    long getTime();
+  }
+  /**
+   * Protobuf type {@code PCandleV2}
+   */
+  public static final class PCandleV2 extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:PCandleV2)
+      PCandleV2OrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 28,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PCandleV2.class.getName());
+    }
+    // Use PCandleV2.newBuilder() to construct.
+    private PCandleV2(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    public PCandleV2() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DataModel.internal_static_PCandleV2_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DataModel.internal_static_PCandleV2_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DataModel.PCandleV2.class, DataModel.PCandleV2.Builder.class);
+    }
+
+    public static final int OPEN_FIELD_NUMBER = 1;
+    private double open_ = 0D;
+    /**
+     * <code>double open = 1;</code>
+     * @return The open.
+     */
+    @java.lang.Override
+    public double getOpen() {
+      return open_;
+    }
+
+    public static final int CLOSE_FIELD_NUMBER = 2;
+    private double close_ = 0D;
+    /**
+     * <code>double close = 2;</code>
+     * @return The close.
+     */
+    @java.lang.Override
+    public double getClose() {
+      return close_;
+    }
+
+    public static final int HIGH_FIELD_NUMBER = 3;
+    private double high_ = 0D;
+    /**
+     * <code>double high = 3;</code>
+     * @return The high.
+     */
+    @java.lang.Override
+    public double getHigh() {
+      return high_;
+    }
+
+    public static final int LOW_FIELD_NUMBER = 4;
+    private double low_ = 0D;
+    /**
+     * <code>double low = 4;</code>
+     * @return The low.
+     */
+    @java.lang.Override
+    public double getLow() {
+      return low_;
+    }
+
+    public static final int VOLUME_FIELD_NUMBER = 5;
+    private double volume_ = 0D;
+    /**
+     * <code>double volume = 5;</code>
+     * @return The volume.
+     */
+    @java.lang.Override
+    public double getVolume() {
+      return volume_;
+    }
+
+    public static final int TIME_FIELD_NUMBER = 6;
+    private long time_ = 0L;
+    /**
+     * <code>int64 time = 6;</code>
+     * @return The time.
+     */
+    @java.lang.Override
+    public long getTime() {
+      return time_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
+        output.writeDouble(1, open_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
+        output.writeDouble(2, close_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
+        output.writeDouble(3, high_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
+        output.writeDouble(4, low_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
+        output.writeDouble(5, volume_);
+      }
+      if (time_ != 0L) {
+        output.writeInt64(6, time_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (java.lang.Double.doubleToRawLongBits(open_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(1, open_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(close_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, close_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(high_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, high_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(low_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, low_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(volume_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, volume_);
+      }
+      if (time_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(6, time_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof DataModel.PCandleV2)) {
+        return super.equals(obj);
+      }
+      DataModel.PCandleV2 other = (DataModel.PCandleV2) obj;
+
+      if (java.lang.Double.doubleToLongBits(getOpen())
+          != java.lang.Double.doubleToLongBits(
+              other.getOpen())) return false;
+      if (java.lang.Double.doubleToLongBits(getClose())
+          != java.lang.Double.doubleToLongBits(
+              other.getClose())) return false;
+      if (java.lang.Double.doubleToLongBits(getHigh())
+          != java.lang.Double.doubleToLongBits(
+              other.getHigh())) return false;
+      if (java.lang.Double.doubleToLongBits(getLow())
+          != java.lang.Double.doubleToLongBits(
+              other.getLow())) return false;
+      if (java.lang.Double.doubleToLongBits(getVolume())
+          != java.lang.Double.doubleToLongBits(
+              other.getVolume())) return false;
+      if (getTime()
+          != other.getTime()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + OPEN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getOpen()));
+      hash = (37 * hash) + CLOSE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getClose()));
+      hash = (37 * hash) + HIGH_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHigh()));
+      hash = (37 * hash) + LOW_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getLow()));
+      hash = (37 * hash) + VOLUME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getVolume()));
+      hash = (37 * hash) + TIME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTime());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static DataModel.PCandleV2 parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandleV2 parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandleV2 parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandleV2 parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandleV2 parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandleV2 parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandleV2 parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PCandleV2 parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static DataModel.PCandleV2 parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static DataModel.PCandleV2 parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DataModel.PCandleV2 parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PCandleV2 parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(DataModel.PCandleV2 prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PCandleV2}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PCandleV2)
+        DataModel.PCandleV2OrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DataModel.internal_static_PCandleV2_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DataModel.internal_static_PCandleV2_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                DataModel.PCandleV2.class, DataModel.PCandleV2.Builder.class);
+      }
+
+      // Construct using DataModel.PCandleV2.newBuilder()
+      public Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        open_ = 0D;
+        close_ = 0D;
+        high_ = 0D;
+        low_ = 0D;
+        volume_ = 0D;
+        time_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DataModel.internal_static_PCandleV2_descriptor;
+      }
+
+      @java.lang.Override
+      public DataModel.PCandleV2 getDefaultInstanceForType() {
+        return DataModel.PCandleV2.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public DataModel.PCandleV2 build() {
+        DataModel.PCandleV2 result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public DataModel.PCandleV2 buildPartial() {
+        DataModel.PCandleV2 result = new DataModel.PCandleV2(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(DataModel.PCandleV2 result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.open_ = open_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.close_ = close_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.high_ = high_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.low_ = low_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.volume_ = volume_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.time_ = time_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof DataModel.PCandleV2) {
+          return mergeFrom((DataModel.PCandleV2)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(DataModel.PCandleV2 other) {
+        if (other == DataModel.PCandleV2.getDefaultInstance()) return this;
+        if (other.getOpen() != 0D) {
+          setOpen(other.getOpen());
+        }
+        if (other.getClose() != 0D) {
+          setClose(other.getClose());
+        }
+        if (other.getHigh() != 0D) {
+          setHigh(other.getHigh());
+        }
+        if (other.getLow() != 0D) {
+          setLow(other.getLow());
+        }
+        if (other.getVolume() != 0D) {
+          setVolume(other.getVolume());
+        }
+        if (other.getTime() != 0L) {
+          setTime(other.getTime());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 9: {
+                open_ = input.readDouble();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 9
+              case 17: {
+                close_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              case 25: {
+                high_ = input.readDouble();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 25
+              case 33: {
+                low_ = input.readDouble();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 33
+              case 41: {
+                volume_ = input.readDouble();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 41
+              case 48: {
+                time_ = input.readInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private double open_ ;
+      /**
+       * <code>double open = 1;</code>
+       * @return The open.
+       */
+      @java.lang.Override
+      public double getOpen() {
+        return open_;
+      }
+      /**
+       * <code>double open = 1;</code>
+       * @param value The open to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOpen(double value) {
+
+        open_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double open = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOpen() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        open_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double close_ ;
+      /**
+       * <code>double close = 2;</code>
+       * @return The close.
+       */
+      @java.lang.Override
+      public double getClose() {
+        return close_;
+      }
+      /**
+       * <code>double close = 2;</code>
+       * @param value The close to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClose(double value) {
+
+        close_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double close = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClose() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        close_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double high_ ;
+      /**
+       * <code>double high = 3;</code>
+       * @return The high.
+       */
+      @java.lang.Override
+      public double getHigh() {
+        return high_;
+      }
+      /**
+       * <code>double high = 3;</code>
+       * @param value The high to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHigh(double value) {
+
+        high_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double high = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHigh() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        high_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double low_ ;
+      /**
+       * <code>double low = 4;</code>
+       * @return The low.
+       */
+      @java.lang.Override
+      public double getLow() {
+        return low_;
+      }
+      /**
+       * <code>double low = 4;</code>
+       * @param value The low to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLow(double value) {
+
+        low_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double low = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLow() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        low_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double volume_ ;
+      /**
+       * <code>double volume = 5;</code>
+       * @return The volume.
+       */
+      @java.lang.Override
+      public double getVolume() {
+        return volume_;
+      }
+      /**
+       * <code>double volume = 5;</code>
+       * @param value The volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolume(double value) {
+
+        volume_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double volume = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVolume() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        volume_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long time_ ;
+      /**
+       * <code>int64 time = 6;</code>
+       * @return The time.
+       */
+      @java.lang.Override
+      public long getTime() {
+        return time_;
+      }
+      /**
+       * <code>int64 time = 6;</code>
+       * @param value The time to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTime(long value) {
+
+        time_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 time = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTime() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        time_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:PCandleV2)
+    }
+
+    // @@protoc_insertion_point(class_scope:PCandleV2)
+    private static final DataModel.PCandleV2 DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new DataModel.PCandleV2();
+    }
+
+    public static DataModel.PCandleV2 getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PCandleV2>
+        PARSER = new com.google.protobuf.AbstractParser<PCandleV2>() {
+      @java.lang.Override
+      public PCandleV2 parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PCandleV2> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PCandleV2> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public DataModel.PCandleV2 getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PCandleBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PCandleBatch)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated int64 time = 1;</code>
+     * @return A list containing the time.
+     */
+    java.util.List<java.lang.Long> getTimeList();
+    /**
+     * <code>repeated int64 time = 1;</code>
+     * @return The count of time.
+     */
+    int getTimeCount();
+    /**
+     * <code>repeated int64 time = 1;</code>
+     * @param index The index of the element to return.
+     * @return The time at the given index.
+     */
+    long getTime(int index);
+
+    /**
+     * <code>repeated double open = 2;</code>
+     * @return A list containing the open.
+     */
+    java.util.List<java.lang.Double> getOpenList();
+    /**
+     * <code>repeated double open = 2;</code>
+     * @return The count of open.
+     */
+    int getOpenCount();
+    /**
+     * <code>repeated double open = 2;</code>
+     * @param index The index of the element to return.
+     * @return The open at the given index.
+     */
+    double getOpen(int index);
+
+    /**
+     * <code>repeated double close = 3;</code>
+     * @return A list containing the close.
+     */
+    java.util.List<java.lang.Double> getCloseList();
+    /**
+     * <code>repeated double close = 3;</code>
+     * @return The count of close.
+     */
+    int getCloseCount();
+    /**
+     * <code>repeated double close = 3;</code>
+     * @param index The index of the element to return.
+     * @return The close at the given index.
+     */
+    double getClose(int index);
+
+    /**
+     * <code>repeated double high = 4;</code>
+     * @return A list containing the high.
+     */
+    java.util.List<java.lang.Double> getHighList();
+    /**
+     * <code>repeated double high = 4;</code>
+     * @return The count of high.
+     */
+    int getHighCount();
+    /**
+     * <code>repeated double high = 4;</code>
+     * @param index The index of the element to return.
+     * @return The high at the given index.
+     */
+    double getHigh(int index);
+
+    /**
+     * <code>repeated double low = 5;</code>
+     * @return A list containing the low.
+     */
+    java.util.List<java.lang.Double> getLowList();
+    /**
+     * <code>repeated double low = 5;</code>
+     * @return The count of low.
+     */
+    int getLowCount();
+    /**
+     * <code>repeated double low = 5;</code>
+     * @param index The index of the element to return.
+     * @return The low at the given index.
+     */
+    double getLow(int index);
+
+    /**
+     * <code>repeated double volume = 6;</code>
+     * @return A list containing the volume.
+     */
+    java.util.List<java.lang.Double> getVolumeList();
+    /**
+     * <code>repeated double volume = 6;</code>
+     * @return The count of volume.
+     */
+    int getVolumeCount();
+    /**
+     * <code>repeated double volume = 6;</code>
+     * @param index The index of the element to return.
+     * @return The volume at the given index.
+     */
+    double getVolume(int index);
+  }
+  /**
+   * Protobuf type {@code PCandleBatch}
+   */
+  public static final class PCandleBatch extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:PCandleBatch)
+      PCandleBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 28,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PCandleBatch.class.getName());
+    }
+    // Use PCandleBatch.newBuilder() to construct.
+    private PCandleBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    public PCandleBatch() {
+      time_ = emptyLongList();
+      open_ = emptyDoubleList();
+      close_ = emptyDoubleList();
+      high_ = emptyDoubleList();
+      low_ = emptyDoubleList();
+      volume_ = emptyDoubleList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DataModel.internal_static_PCandleBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DataModel.internal_static_PCandleBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DataModel.PCandleBatch.class, DataModel.PCandleBatch.Builder.class);
+    }
+
+    public static final int TIME_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList time_ =
+        emptyLongList();
+    /**
+     * <code>repeated int64 time = 1;</code>
+     * @return A list containing the time.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getTimeList() {
+      return time_;
+    }
+    /**
+     * <code>repeated int64 time = 1;</code>
+     * @return The count of time.
+     */
+    public int getTimeCount() {
+      return time_.size();
+    }
+    /**
+     * <code>repeated int64 time = 1;</code>
+     * @param index The index of the element to return.
+     * @return The time at the given index.
+     */
+    public long getTime(int index) {
+      return time_.getLong(index);
+    }
+    private int timeMemoizedSerializedSize = -1;
+
+    public static final int OPEN_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList open_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double open = 2;</code>
+     * @return A list containing the open.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getOpenList() {
+      return open_;
+    }
+    /**
+     * <code>repeated double open = 2;</code>
+     * @return The count of open.
+     */
+    public int getOpenCount() {
+      return open_.size();
+    }
+    /**
+     * <code>repeated double open = 2;</code>
+     * @param index The index of the element to return.
+     * @return The open at the given index.
+     */
+    public double getOpen(int index) {
+      return open_.getDouble(index);
+    }
+    private int openMemoizedSerializedSize = -1;
+
+    public static final int CLOSE_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList close_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double close = 3;</code>
+     * @return A list containing the close.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getCloseList() {
+      return close_;
+    }
+    /**
+     * <code>repeated double close = 3;</code>
+     * @return The count of close.
+     */
+    public int getCloseCount() {
+      return close_.size();
+    }
+    /**
+     * <code>repeated double close = 3;</code>
+     * @param index The index of the element to return.
+     * @return The close at the given index.
+     */
+    public double getClose(int index) {
+      return close_.getDouble(index);
+    }
+    private int closeMemoizedSerializedSize = -1;
+
+    public static final int HIGH_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList high_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double high = 4;</code>
+     * @return A list containing the high.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getHighList() {
+      return high_;
+    }
+    /**
+     * <code>repeated double high = 4;</code>
+     * @return The count of high.
+     */
+    public int getHighCount() {
+      return high_.size();
+    }
+    /**
+     * <code>repeated double high = 4;</code>
+     * @param index The index of the element to return.
+     * @return The high at the given index.
+     */
+    public double getHigh(int index) {
+      return high_.getDouble(index);
+    }
+    private int highMemoizedSerializedSize = -1;
+
+    public static final int LOW_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList low_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double low = 5;</code>
+     * @return A list containing the low.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getLowList() {
+      return low_;
+    }
+    /**
+     * <code>repeated double low = 5;</code>
+     * @return The count of low.
+     */
+    public int getLowCount() {
+      return low_.size();
+    }
+    /**
+     * <code>repeated double low = 5;</code>
+     * @param index The index of the element to return.
+     * @return The low at the given index.
+     */
+    public double getLow(int index) {
+      return low_.getDouble(index);
+    }
+    private int lowMemoizedSerializedSize = -1;
+
+    public static final int VOLUME_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList volume_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double volume = 6;</code>
+     * @return A list containing the volume.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getVolumeList() {
+      return volume_;
+    }
+    /**
+     * <code>repeated double volume = 6;</code>
+     * @return The count of volume.
+     */
+    public int getVolumeCount() {
+      return volume_.size();
+    }
+    /**
+     * <code>repeated double volume = 6;</code>
+     * @param index The index of the element to return.
+     * @return The volume at the given index.
+     */
+    public double getVolume(int index) {
+      return volume_.getDouble(index);
+    }
+    private int volumeMemoizedSerializedSize = -1;
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getTimeList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(timeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < time_.size(); i++) {
+        output.writeInt64NoTag(time_.getLong(i));
+      }
+      if (getOpenList().size() > 0) {
+        output.writeUInt32NoTag(18);
+        output.writeUInt32NoTag(openMemoizedSerializedSize);
+      }
+      for (int i = 0; i < open_.size(); i++) {
+        output.writeDoubleNoTag(open_.getDouble(i));
+      }
+      if (getCloseList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(closeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < close_.size(); i++) {
+        output.writeDoubleNoTag(close_.getDouble(i));
+      }
+      if (getHighList().size() > 0) {
+        output.writeUInt32NoTag(34);
+        output.writeUInt32NoTag(highMemoizedSerializedSize);
+      }
+      for (int i = 0; i < high_.size(); i++) {
+        output.writeDoubleNoTag(high_.getDouble(i));
+      }
+      if (getLowList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(lowMemoizedSerializedSize);
+      }
+      for (int i = 0; i < low_.size(); i++) {
+        output.writeDoubleNoTag(low_.getDouble(i));
+      }
+      if (getVolumeList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(volumeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < volume_.size(); i++) {
+        output.writeDoubleNoTag(volume_.getDouble(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < time_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(time_.getLong(i));
+        }
+        size += dataSize;
+        if (!getTimeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        timeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getOpenList().size();
+        size += dataSize;
+        if (!getOpenList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        openMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getCloseList().size();
+        size += dataSize;
+        if (!getCloseList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        closeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getHighList().size();
+        size += dataSize;
+        if (!getHighList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        highMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getLowList().size();
+        size += dataSize;
+        if (!getLowList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        lowMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getVolumeList().size();
+        size += dataSize;
+        if (!getVolumeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        volumeMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof DataModel.PCandleBatch)) {
+        return super.equals(obj);
+      }
+      DataModel.PCandleBatch other = (DataModel.PCandleBatch) obj;
+
+      if (!getTimeList()
+          .equals(other.getTimeList())) return false;
+      if (!getOpenList()
+          .equals(other.getOpenList())) return false;
+      if (!getCloseList()
+          .equals(other.getCloseList())) return false;
+      if (!getHighList()
+          .equals(other.getHighList())) return false;
+      if (!getLowList()
+          .equals(other.getLowList())) return false;
+      if (!getVolumeList()
+          .equals(other.getVolumeList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getTimeCount() > 0) {
+        hash = (37 * hash) + TIME_FIELD_NUMBER;
+        hash = (53 * hash) + getTimeList().hashCode();
+      }
+      if (getOpenCount() > 0) {
+        hash = (37 * hash) + OPEN_FIELD_NUMBER;
+        hash = (53 * hash) + getOpenList().hashCode();
+      }
+      if (getCloseCount() > 0) {
+        hash = (37 * hash) + CLOSE_FIELD_NUMBER;
+        hash = (53 * hash) + getCloseList().hashCode();
+      }
+      if (getHighCount() > 0) {
+        hash = (37 * hash) + HIGH_FIELD_NUMBER;
+        hash = (53 * hash) + getHighList().hashCode();
+      }
+      if (getLowCount() > 0) {
+        hash = (37 * hash) + LOW_FIELD_NUMBER;
+        hash = (53 * hash) + getLowList().hashCode();
+      }
+      if (getVolumeCount() > 0) {
+        hash = (37 * hash) + VOLUME_FIELD_NUMBER;
+        hash = (53 * hash) + getVolumeList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static DataModel.PCandleBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandleBatch parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandleBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandleBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandleBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PCandleBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PCandleBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PCandleBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static DataModel.PCandleBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static DataModel.PCandleBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DataModel.PCandleBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PCandleBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(DataModel.PCandleBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PCandleBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PCandleBatch)
+        DataModel.PCandleBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DataModel.internal_static_PCandleBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DataModel.internal_static_PCandleBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                DataModel.PCandleBatch.class, DataModel.PCandleBatch.Builder.class);
+      }
+
+      // Construct using DataModel.PCandleBatch.newBuilder()
+      public Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        time_ = emptyLongList();
+        open_ = emptyDoubleList();
+        close_ = emptyDoubleList();
+        high_ = emptyDoubleList();
+        low_ = emptyDoubleList();
+        volume_ = emptyDoubleList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DataModel.internal_static_PCandleBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public DataModel.PCandleBatch getDefaultInstanceForType() {
+        return DataModel.PCandleBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public DataModel.PCandleBatch build() {
+        DataModel.PCandleBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public DataModel.PCandleBatch buildPartial() {
+        DataModel.PCandleBatch result = new DataModel.PCandleBatch(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(DataModel.PCandleBatch result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          time_.makeImmutable();
+          result.time_ = time_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          open_.makeImmutable();
+          result.open_ = open_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          close_.makeImmutable();
+          result.close_ = close_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          high_.makeImmutable();
+          result.high_ = high_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          low_.makeImmutable();
+          result.low_ = low_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          volume_.makeImmutable();
+          result.volume_ = volume_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof DataModel.PCandleBatch) {
+          return mergeFrom((DataModel.PCandleBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(DataModel.PCandleBatch other) {
+        if (other == DataModel.PCandleBatch.getDefaultInstance()) return this;
+        if (!other.time_.isEmpty()) {
+          if (time_.isEmpty()) {
+            time_ = other.time_;
+            time_.makeImmutable();
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureTimeIsMutable();
+            time_.addAll(other.time_);
+          }
+          onChanged();
+        }
+        if (!other.open_.isEmpty()) {
+          if (open_.isEmpty()) {
+            open_ = other.open_;
+            open_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureOpenIsMutable();
+            open_.addAll(other.open_);
+          }
+          onChanged();
+        }
+        if (!other.close_.isEmpty()) {
+          if (close_.isEmpty()) {
+            close_ = other.close_;
+            close_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureCloseIsMutable();
+            close_.addAll(other.close_);
+          }
+          onChanged();
+        }
+        if (!other.high_.isEmpty()) {
+          if (high_.isEmpty()) {
+            high_ = other.high_;
+            high_.makeImmutable();
+            bitField0_ |= 0x00000008;
+          } else {
+            ensureHighIsMutable();
+            high_.addAll(other.high_);
+          }
+          onChanged();
+        }
+        if (!other.low_.isEmpty()) {
+          if (low_.isEmpty()) {
+            low_ = other.low_;
+            low_.makeImmutable();
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureLowIsMutable();
+            low_.addAll(other.low_);
+          }
+          onChanged();
+        }
+        if (!other.volume_.isEmpty()) {
+          if (volume_.isEmpty()) {
+            volume_ = other.volume_;
+            volume_.makeImmutable();
+            bitField0_ |= 0x00000020;
+          } else {
+            ensureVolumeIsMutable();
+            volume_.addAll(other.volume_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                long v = input.readInt64();
+                ensureTimeIsMutable();
+                time_.addLong(v);
+                break;
+              } // case 8
+              case 10: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureTimeIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  time_.addLong(input.readInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 10
+              case 17: {
+                double v = input.readDouble();
+                ensureOpenIsMutable();
+                open_.addDouble(v);
+                break;
+              } // case 17
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureOpenIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  open_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 25: {
+                double v = input.readDouble();
+                ensureCloseIsMutable();
+                close_.addDouble(v);
+                break;
+              } // case 25
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureCloseIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  close_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              case 33: {
+                double v = input.readDouble();
+                ensureHighIsMutable();
+                high_.addDouble(v);
+                break;
+              } // case 33
+              case 34: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureHighIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  high_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 34
+              case 41: {
+                double v = input.readDouble();
+                ensureLowIsMutable();
+                low_.addDouble(v);
+                break;
+              } // case 41
+              case 42: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureLowIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  low_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 42
+              case 49: {
+                double v = input.readDouble();
+                ensureVolumeIsMutable();
+                volume_.addDouble(v);
+                break;
+              } // case 49
+              case 50: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureVolumeIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  volume_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList time_ = emptyLongList();
+      private void ensureTimeIsMutable() {
+        if (!time_.isModifiable()) {
+          time_ = makeMutableCopy(time_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated int64 time = 1;</code>
+       * @return A list containing the time.
+       */
+      public java.util.List<java.lang.Long>
+          getTimeList() {
+        time_.makeImmutable();
+        return time_;
+      }
+      /**
+       * <code>repeated int64 time = 1;</code>
+       * @return The count of time.
+       */
+      public int getTimeCount() {
+        return time_.size();
+      }
+      /**
+       * <code>repeated int64 time = 1;</code>
+       * @param index The index of the element to return.
+       * @return The time at the given index.
+       */
+      public long getTime(int index) {
+        return time_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 time = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The time to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTime(
+          int index, long value) {
+
+        ensureTimeIsMutable();
+        time_.setLong(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 time = 1;</code>
+       * @param value The time to add.
+       * @return This builder for chaining.
+       */
+      public Builder addTime(long value) {
+
+        ensureTimeIsMutable();
+        time_.addLong(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 time = 1;</code>
+       * @param values The time to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllTime(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureTimeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, time_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 time = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTime() {
+        time_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList open_ = emptyDoubleList();
+      private void ensureOpenIsMutable() {
+        if (!open_.isModifiable()) {
+          open_ = makeMutableCopy(open_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated double open = 2;</code>
+       * @return A list containing the open.
+       */
+      public java.util.List<java.lang.Double>
+          getOpenList() {
+        open_.makeImmutable();
+        return open_;
+      }
+      /**
+       * <code>repeated double open = 2;</code>
+       * @return The count of open.
+       */
+      public int getOpenCount() {
+        return open_.size();
+      }
+      /**
+       * <code>repeated double open = 2;</code>
+       * @param index The index of the element to return.
+       * @return The open at the given index.
+       */
+      public double getOpen(int index) {
+        return open_.getDouble(index);
+      }
+      /**
+       * <code>repeated double open = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The open to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOpen(
+          int index, double value) {
+
+        ensureOpenIsMutable();
+        open_.setDouble(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double open = 2;</code>
+       * @param value The open to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOpen(double value) {
+
+        ensureOpenIsMutable();
+        open_.addDouble(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double open = 2;</code>
+       * @param values The open to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllOpen(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureOpenIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, open_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double open = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOpen() {
+        open_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList close_ = emptyDoubleList();
+      private void ensureCloseIsMutable() {
+        if (!close_.isModifiable()) {
+          close_ = makeMutableCopy(close_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated double close = 3;</code>
+       * @return A list containing the close.
+       */
+      public java.util.List<java.lang.Double>
+          getCloseList() {
+        close_.makeImmutable();
+        return close_;
+      }
+      /**
+       * <code>repeated double close = 3;</code>
+       * @return The count of close.
+       */
+      public int getCloseCount() {
+        return close_.size();
+      }
+      /**
+       * <code>repeated double close = 3;</code>
+       * @param index The index of the element to return.
+       * @return The close at the given index.
+       */
+      public double getClose(int index) {
+        return close_.getDouble(index);
+      }
+      /**
+       * <code>repeated double close = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The close to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClose(
+          int index, double value) {
+
+        ensureCloseIsMutable();
+        close_.setDouble(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double close = 3;</code>
+       * @param value The close to add.
+       * @return This builder for chaining.
+       */
+      public Builder addClose(double value) {
+
+        ensureCloseIsMutable();
+        close_.addDouble(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double close = 3;</code>
+       * @param values The close to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllClose(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureCloseIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, close_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double close = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClose() {
+        close_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList high_ = emptyDoubleList();
+      private void ensureHighIsMutable() {
+        if (!high_.isModifiable()) {
+          high_ = makeMutableCopy(high_);
+        }
+        bitField0_ |= 0x00000008;
+      }
+      /**
+       * <code>repeated double high = 4;</code>
+       * @return A list containing the high.
+       */
+      public java.util.List<java.lang.Double>
+          getHighList() {
+        high_.makeImmutable();
+        return high_;
+      }
+      /**
+       * <code>repeated double high = 4;</code>
+       * @return The count of high.
+       */
+      public int getHighCount() {
+        return high_.size();
+      }
+      /**
+       * <code>repeated double high = 4;</code>
+       * @param index The index of the element to return.
+       * @return The high at the given index.
+       */
+      public double getHigh(int index) {
+        return high_.getDouble(index);
+      }
+      /**
+       * <code>repeated double high = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The high to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHigh(
+          int index, double value) {
+
+        ensureHighIsMutable();
+        high_.setDouble(index, value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double high = 4;</code>
+       * @param value The high to add.
+       * @return This builder for chaining.
+       */
+      public Builder addHigh(double value) {
+
+        ensureHighIsMutable();
+        high_.addDouble(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double high = 4;</code>
+       * @param values The high to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllHigh(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureHighIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, high_);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double high = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHigh() {
+        high_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList low_ = emptyDoubleList();
+      private void ensureLowIsMutable() {
+        if (!low_.isModifiable()) {
+          low_ = makeMutableCopy(low_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <code>repeated double low = 5;</code>
+       * @return A list containing the low.
+       */
+      public java.util.List<java.lang.Double>
+          getLowList() {
+        low_.makeImmutable();
+        return low_;
+      }
+      /**
+       * <code>repeated double low = 5;</code>
+       * @return The count of low.
+       */
+      public int getLowCount() {
+        return low_.size();
+      }
+      /**
+       * <code>repeated double low = 5;</code>
+       * @param index The index of the element to return.
+       * @return The low at the given index.
+       */
+      public double getLow(int index) {
+        return low_.getDouble(index);
+      }
+      /**
+       * <code>repeated double low = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The low to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLow(
+          int index, double value) {
+
+        ensureLowIsMutable();
+        low_.setDouble(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double low = 5;</code>
+       * @param value The low to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLow(double value) {
+
+        ensureLowIsMutable();
+        low_.addDouble(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double low = 5;</code>
+       * @param values The low to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLow(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureLowIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, low_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double low = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLow() {
+        low_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList volume_ = emptyDoubleList();
+      private void ensureVolumeIsMutable() {
+        if (!volume_.isModifiable()) {
+          volume_ = makeMutableCopy(volume_);
+        }
+        bitField0_ |= 0x00000020;
+      }
+      /**
+       * <code>repeated double volume = 6;</code>
+       * @return A list containing the volume.
+       */
+      public java.util.List<java.lang.Double>
+          getVolumeList() {
+        volume_.makeImmutable();
+        return volume_;
+      }
+      /**
+       * <code>repeated double volume = 6;</code>
+       * @return The count of volume.
+       */
+      public int getVolumeCount() {
+        return volume_.size();
+      }
+      /**
+       * <code>repeated double volume = 6;</code>
+       * @param index The index of the element to return.
+       * @return The volume at the given index.
+       */
+      public double getVolume(int index) {
+        return volume_.getDouble(index);
+      }
+      /**
+       * <code>repeated double volume = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The volume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVolume(
+          int index, double value) {
+
+        ensureVolumeIsMutable();
+        volume_.setDouble(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double volume = 6;</code>
+       * @param value The volume to add.
+       * @return This builder for chaining.
+       */
+      public Builder addVolume(double value) {
+
+        ensureVolumeIsMutable();
+        volume_.addDouble(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double volume = 6;</code>
+       * @param values The volume to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllVolume(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureVolumeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, volume_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double volume = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVolume() {
+        volume_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:PCandleBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:PCandleBatch)
+    private static final DataModel.PCandleBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new DataModel.PCandleBatch();
+    }
+
+    public static DataModel.PCandleBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PCandleBatch>
+        PARSER = new com.google.protobuf.AbstractParser<PCandleBatch>() {
+      @java.lang.Override
+      public PCandleBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PCandleBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PCandleBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public DataModel.PCandleBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PTickerOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PTicker)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string market = 1;</code>
+     * @return The market.
+     */
+    java.lang.String getMarket();
+    /**
+     * <code>string market = 1;</code>
+     * @return The bytes for market.
+     */
+    com.google.protobuf.ByteString
+        getMarketBytes();
+
+    /**
+     * <code>double trade_price = 2;</code>
+     * @return The tradePrice.
+     */
+    double getTradePrice();
+
+    /**
+     * <code>double acc_trade_price_24h = 3;</code>
+     * @return The accTradePrice24H.
+     */
+    double getAccTradePrice24H();
+
+    /**
+     * <code>double signed_change_price = 4;</code>
+     * @return The signedChangePrice.
+     */
+    double getSignedChangePrice();
+
+    /**
+     * <code>double signed_change_rate = 5;</code>
+     * @return The signedChangeRate.
+     */
+    double getSignedChangeRate();
+
+    /**
+     * <code>double high_price = 6;</code>
+     * @return The highPrice.
+     */
+    double getHighPrice();
+
+    /**
+     * <code>double low_price = 7;</code>
+     * @return The lowPrice.
+     */
+    double getLowPrice();
+
+    /**
+     * <code>double acc_trade_volume_24h = 8;</code>
+     * @return The accTradeVolume24H.
+     */
+    double getAccTradeVolume24H();
+
+    /**
+     * <code>double acc_trade_volume = 9;</code>
+     * @return The accTradeVolume.
+     */
+    double getAccTradeVolume();
+
+    /**
+     * <code>int64 trade_timestamp = 10;</code>
+     * @return The tradeTimestamp.
+     */
+    long getTradeTimestamp();
+
+    /**
+     * <code>int64 timestamp = 11;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>int32 market_id = 12;</code>
+     * @return The marketId.
+     */
+    int getMarketId();
+  }
+  /**
+   * Protobuf type {@code PTicker}
+   */
+  public static final class PTicker extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:PTicker)
+      PTickerOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 28,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        PTicker.class.getName());
+    }
+    // Use PTicker.newBuilder() to construct.
+    private PTicker(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    public PTicker() {
+      market_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DataModel.internal_static_PTicker_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DataModel.internal_static_PTicker_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DataModel.PTicker.class, DataModel.PTicker.Builder.class);
+    }
+
+    public static final int MARKET_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object market_ = "";
+    /**
+     * <code>string market = 1;</code>
+     * @return The market.
+     */
+    @java.lang.Override
+    public java.lang.String getMarket() {
+      java.lang.Object ref = market_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        market_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string market = 1;</code>
+     * @return The bytes for market.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMarketBytes() {
+      java.lang.Object ref = market_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        market_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TRADE_PRICE_FIELD_NUMBER = 2;
+    private double tradePrice_ = 0D;
+    /**
+     * <code>double trade_price = 2;</code>
+     * @return The tradePrice.
+     */
+    @java.lang.Override
+    public double getTradePrice() {
+      return tradePrice_;
+    }
+
+    public static final int ACC_TRADE_PRICE_24H_FIELD_NUMBER = 3;
+    private double accTradePrice24H_ = 0D;
+    /**
+     * <code>double acc_trade_price_24h = 3;</code>
+     * @return The accTradePrice24H.
+     */
+    @java.lang.Override
+    public double getAccTradePrice24H() {
+      return accTradePrice24H_;
+    }
+
+    public static final int SIGNED_CHANGE_PRICE_FIELD_NUMBER = 4;
+    private double signedChangePrice_ = 0D;
+    /**
+     * <code>double signed_change_price = 4;</code>
+     * @return The signedChangePrice.
+     */
+    @java.lang.Override
+    public double getSignedChangePrice() {
+      return signedChangePrice_;
+    }
+
+    public static final int SIGNED_CHANGE_RATE_FIELD_NUMBER = 5;
+    private double signedChangeRate_ = 0D;
+    /**
+     * <code>double signed_change_rate = 5;</code>
+     * @return The signedChangeRate.
+     */
+    @java.lang.Override
+    public double getSignedChangeRate() {
+      return signedChangeRate_;
+    }
+
+    public static final int HIGH_PRICE_FIELD_NUMBER = 6;
+    private double highPrice_ = 0D;
+    /**
+     * <code>double high_price = 6;</code>
+     * @return The highPrice.
+     */
+    @java.lang.Override
+    public double getHighPrice() {
+      return highPrice_;
+    }
+
+    public static final int LOW_PRICE_FIELD_NUMBER = 7;
+    private double lowPrice_ = 0D;
+    /**
+     * <code>double low_price = 7;</code>
+     * @return The lowPrice.
+     */
+    @java.lang.Override
+    public double getLowPrice() {
+      return lowPrice_;
+    }
+
+    public static final int ACC_TRADE_VOLUME_24H_FIELD_NUMBER = 8;
+    private double accTradeVolume24H_ = 0D;
+    /**
+     * <code>double acc_trade_volume_24h = 8;</code>
+     * @return The accTradeVolume24H.
+     */
+    @java.lang.Override
+    public double getAccTradeVolume24H() {
+      return accTradeVolume24H_;
+    }
+
+    public static final int ACC_TRADE_VOLUME_FIELD_NUMBER = 9;
+    private double accTradeVolume_ = 0D;
+    /**
+     * <code>double acc_trade_volume = 9;</code>
+     * @return The accTradeVolume.
+     */
+    @java.lang.Override
+    public double getAccTradeVolume() {
+      return accTradeVolume_;
+    }
+
+    public static final int TRADE_TIMESTAMP_FIELD_NUMBER = 10;
+    private long tradeTimestamp_ = 0L;
+    /**
+     * <code>int64 trade_timestamp = 10;</code>
+     * @return The tradeTimestamp.
+     */
+    @java.lang.Override
+    public long getTradeTimestamp() {
+      return tradeTimestamp_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 11;
+    private long timestamp_ = 0L;
+    /**
+     * <code>int64 timestamp = 11;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int MARKET_ID_FIELD_NUMBER = 12;
+    private int marketId_ = 0;
+    /**
+     * <code>int32 market_id = 12;</code>
+     * @return The marketId.
+     */
+    @java.lang.Override
+    public int getMarketId() {
+      return marketId_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(market_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, market_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(tradePrice_) != 0) {
+        output.writeDouble(2, tradePrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(accTradePrice24H_) != 0) {
+        output.writeDouble(3, accTradePrice24H_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(signedChangePrice_) != 0) {
+        output.writeDouble(4, signedChangePrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(signedChangeRate_) != 0) {
+        output.writeDouble(5, signedChangeRate_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(highPrice_) != 0) {
+        output.writeDouble(6, highPrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(lowPrice_) != 0) {
+        output.writeDouble(7, lowPrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(accTradeVolume24H_) != 0) {
+        output.writeDouble(8, accTradeVolume24H_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(accTradeVolume_) != 0) {
+        output.writeDouble(9, accTradeVolume_);
+      }
+      if (tradeTimestamp_ != 0L) {
+        output.writeInt64(10, tradeTimestamp_);
+      }
+      if (timestamp_ != 0L) {
+        output.writeInt64(11, timestamp_);
+      }
+      if (marketId_ != 0) {
+        output.writeInt32(12, marketId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(market_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, market_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(tradePrice_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(2, tradePrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(accTradePrice24H_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(3, accTradePrice24H_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(signedChangePrice_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(4, signedChangePrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(signedChangeRate_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(5, signedChangeRate_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(highPrice_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(6, highPrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(lowPrice_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(7, lowPrice_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(accTradeVolume24H_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(8, accTradeVolume24H_);
+      }
+      if (java.lang.Double.doubleToRawLongBits(accTradeVolume_) != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeDoubleSize(9, accTradeVolume_);
+      }
+      if (tradeTimestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(10, tradeTimestamp_);
+      }
+      if (timestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(11, timestamp_);
+      }
+      if (marketId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(12, marketId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof DataModel.PTicker)) {
+        return super.equals(obj);
+      }
+      DataModel.PTicker other = (DataModel.PTicker) obj;
+
+      if (!getMarket()
+          .equals(other.getMarket())) return false;
+      if (java.lang.Double.doubleToLongBits(getTradePrice())
+          != java.lang.Double.doubleToLongBits(
+              other.getTradePrice())) return false;
+      if (java.lang.Double.doubleToLongBits(getAccTradePrice24H())
+          != java.lang.Double.doubleToLongBits(
+              other.getAccTradePrice24H())) return false;
+      if (java.lang.Double.doubleToLongBits(getSignedChangePrice())
+          != java.lang.Double.doubleToLongBits(
+              other.getSignedChangePrice())) return false;
+      if (java.lang.Double.doubleToLongBits(getSignedChangeRate())
+          != java.lang.Double.doubleToLongBits(
+              other.getSignedChangeRate())) return false;
+      if (java.lang.Double.doubleToLongBits(getHighPrice())
+          != java.lang.Double.doubleToLongBits(
+              other.getHighPrice())) return false;
+      if (java.lang.Double.doubleToLongBits(getLowPrice())
+          != java.lang.Double.doubleToLongBits(
+              other.getLowPrice())) return false;
+      if (java.lang.Double.doubleToLongBits(getAccTradeVolume24H())
+          != java.lang.Double.doubleToLongBits(
+              other.getAccTradeVolume24H())) return false;
+      if (java.lang.Double.doubleToLongBits(getAccTradeVolume())
+          != java.lang.Double.doubleToLongBits(
+              other.getAccTradeVolume())) return false;
+      if (getTradeTimestamp()
+          != other.getTradeTimestamp()) return false;
+      if (getTimestamp()
+          != other.getTimestamp()) return false;
+      if (getMarketId()
+          != other.getMarketId()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MARKET_FIELD_NUMBER;
+      hash = (53 * hash) + getMarket().hashCode();
+      hash = (37 * hash) + TRADE_PRICE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getTradePrice()));
+      hash = (37 * hash) + ACC_TRADE_PRICE_24H_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getAccTradePrice24H()));
+      hash = (37 * hash) + SIGNED_CHANGE_PRICE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getSignedChangePrice()));
+      hash = (37 * hash) + SIGNED_CHANGE_RATE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getSignedChangeRate()));
+      hash = (37 * hash) + HIGH_PRICE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getHighPrice()));
+      hash = (37 * hash) + LOW_PRICE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getLowPrice()));
+      hash = (37 * hash) + ACC_TRADE_VOLUME_24H_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getAccTradeVolume24H()));
+      hash = (37 * hash) + ACC_TRADE_VOLUME_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          java.lang.Double.doubleToLongBits(getAccTradeVolume()));
+      hash = (37 * hash) + TRADE_TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTradeTimestamp());
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (37 * hash) + MARKET_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getMarketId();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static DataModel.PTicker parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PTicker parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PTicker parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PTicker parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PTicker parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.PTicker parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.PTicker parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PTicker parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static DataModel.PTicker parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static DataModel.PTicker parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DataModel.PTicker parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.PTicker parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(DataModel.PTicker prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code PTicker}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PTicker)
+        DataModel.PTickerOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DataModel.internal_static_PTicker_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DataModel.internal_static_PTicker_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                DataModel.PTicker.class, DataModel.PTicker.Builder.class);
+      }
+
+      // Construct using DataModel.PTicker.newBuilder()
+      public Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        market_ = "";
+        tradePrice_ = 0D;
+        accTradePrice24H_ = 0D;
+        signedChangePrice_ = 0D;
+        signedChangeRate_ = 0D;
+        highPrice_ = 0D;
+        lowPrice_ = 0D;
+        accTradeVolume24H_ = 0D;
+        accTradeVolume_ = 0D;
+        tradeTimestamp_ = 0L;
+        timestamp_ = 0L;
+        marketId_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DataModel.internal_static_PTicker_descriptor;
+      }
+
+      @java.lang.Override
+      public DataModel.PTicker getDefaultInstanceForType() {
+        return DataModel.PTicker.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public DataModel.PTicker build() {
+        DataModel.PTicker result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public DataModel.PTicker buildPartial() {
+        DataModel.PTicker result = new DataModel.PTicker(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(DataModel.PTicker result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.market_ = market_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.tradePrice_ = tradePrice_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.accTradePrice24H_ = accTradePrice24H_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.signedChangePrice_ = signedChangePrice_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.signedChangeRate_ = signedChangeRate_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.highPrice_ = highPrice_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.lowPrice_ = lowPrice_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.accTradeVolume24H_ = accTradeVolume24H_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.accTradeVolume_ = accTradeVolume_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.tradeTimestamp_ = tradeTimestamp_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.timestamp_ = timestamp_;
+        }
+        if (((from_bitField0_ & 0x00000800) != 0)) {
+          result.marketId_ = marketId_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof DataModel.PTicker) {
+          return mergeFrom((DataModel.PTicker)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(DataModel.PTicker other) {
+        if (other == DataModel.PTicker.getDefaultInstance()) return this;
+        if (!other.getMarket().isEmpty()) {
+          market_ = other.market_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getTradePrice() != 0D) {
+          setTradePrice(other.getTradePrice());
+        }
+        if (other.getAccTradePrice24H() != 0D) {
+          setAccTradePrice24H(other.getAccTradePrice24H());
+        }
+        if (other.getSignedChangePrice() != 0D) {
+          setSignedChangePrice(other.getSignedChangePrice());
+        }
+        if (other.getSignedChangeRate() != 0D) {
+          setSignedChangeRate(other.getSignedChangeRate());
+        }
+        if (other.getHighPrice() != 0D) {
+          setHighPrice(other.getHighPrice());
+        }
+        if (other.getLowPrice() != 0D) {
+          setLowPrice(other.getLowPrice());
+        }
+        if (other.getAccTradeVolume24H() != 0D) {
+          setAccTradeVolume24H(other.getAccTradeVolume24H());
+        }
+        if (other.getAccTradeVolume() != 0D) {
+          setAccTradeVolume(other.getAccTradeVolume());
+        }
+        if (other.getTradeTimestamp() != 0L) {
+          setTradeTimestamp(other.getTradeTimestamp());
+        }
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.getMarketId() != 0) {
+          setMarketId(other.getMarketId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                market_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 17: {
+                tradePrice_ = input.readDouble();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              case 25: {
+                accTradePrice24H_ = input.readDouble();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 25
+              case 33: {
+                signedChangePrice_ = input.readDouble();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 33
+              case 41: {
+                signedChangeRate_ = input.readDouble();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 41
+              case 49: {
+                highPrice_ = input.readDouble();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 49
+              case 57: {
+                lowPrice_ = input.readDouble();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 57
+              case 65: {
+                accTradeVolume24H_ = input.readDouble();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 65
+              case 73: {
+                accTradeVolume_ = input.readDouble();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 73
+              case 80: {
+                tradeTimestamp_ = input.readInt64();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              case 88: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 88
+              case 96: {
+                marketId_ = input.readInt32();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 96
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object market_ = "";
+      /**
+       * <code>string market = 1;</code>
+       * @return The market.
+       */
+      public java.lang.String getMarket() {
+        java.lang.Object ref = market_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          market_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @return The bytes for market.
+       */
+      public com.google.protobuf.ByteString
+          getMarketBytes() {
+        java.lang.Object ref = market_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          market_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @param value The market to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarket(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        market_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarket() {
+        market_ = getDefaultInstance().getMarket();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @param value The bytes for market to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        market_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private double tradePrice_ ;
+      /**
+       * <code>double trade_price = 2;</code>
+       * @return The tradePrice.
+       */
+      @java.lang.Override
+      public double getTradePrice() {
+        return tradePrice_;
+      }
+      /**
+       * <code>double trade_price = 2;</code>
+       * @param value The tradePrice to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTradePrice(double value) {
+
+        tradePrice_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double trade_price = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTradePrice() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        tradePrice_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double accTradePrice24H_ ;
+      /**
+       * <code>double acc_trade_price_24h = 3;</code>
+       * @return The accTradePrice24H.
+       */
+      @java.lang.Override
+      public double getAccTradePrice24H() {
+        return accTradePrice24H_;
+      }
+      /**
+       * <code>double acc_trade_price_24h = 3;</code>
+       * @param value The accTradePrice24H to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccTradePrice24H(double value) {
+
+        accTradePrice24H_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double acc_trade_price_24h = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAccTradePrice24H() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        accTradePrice24H_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double signedChangePrice_ ;
+      /**
+       * <code>double signed_change_price = 4;</code>
+       * @return The signedChangePrice.
+       */
+      @java.lang.Override
+      public double getSignedChangePrice() {
+        return signedChangePrice_;
+      }
+      /**
+       * <code>double signed_change_price = 4;</code>
+       * @param value The signedChangePrice to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSignedChangePrice(double value) {
+
+        signedChangePrice_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double signed_change_price = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSignedChangePrice() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        signedChangePrice_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double signedChangeRate_ ;
+      /**
+       * <code>double signed_change_rate = 5;</code>
+       * @return The signedChangeRate.
+       */
+      @java.lang.Override
+      public double getSignedChangeRate() {
+        return signedChangeRate_;
+      }
+      /**
+       * <code>double signed_change_rate = 5;</code>
+       * @param value The signedChangeRate to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSignedChangeRate(double value) {
+
+        signedChangeRate_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double signed_change_rate = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSignedChangeRate() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        signedChangeRate_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double highPrice_ ;
+      /**
+       * <code>double high_price = 6;</code>
+       * @return The highPrice.
+       */
+      @java.lang.Override
+      public double getHighPrice() {
+        return highPrice_;
+      }
+      /**
+       * <code>double high_price = 6;</code>
+       * @param value The highPrice to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHighPrice(double value) {
+
+        highPrice_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double high_price = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHighPrice() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        highPrice_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double lowPrice_ ;
+      /**
+       * <code>double low_price = 7;</code>
+       * @return The lowPrice.
+       */
+      @java.lang.Override
+      public double getLowPrice() {
+        return lowPrice_;
+      }
+      /**
+       * <code>double low_price = 7;</code>
+       * @param value The lowPrice to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLowPrice(double value) {
+
+        lowPrice_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double low_price = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLowPrice() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        lowPrice_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double accTradeVolume24H_ ;
+      /**
+       * <code>double acc_trade_volume_24h = 8;</code>
+       * @return The accTradeVolume24H.
+       */
+      @java.lang.Override
+      public double getAccTradeVolume24H() {
+        return accTradeVolume24H_;
+      }
+      /**
+       * <code>double acc_trade_volume_24h = 8;</code>
+       * @param value The accTradeVolume24H to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccTradeVolume24H(double value) {
+
+        accTradeVolume24H_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double acc_trade_volume_24h = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAccTradeVolume24H() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        accTradeVolume24H_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private double accTradeVolume_ ;
+      /**
+       * <code>double acc_trade_volume = 9;</code>
+       * @return The accTradeVolume.
+       */
+      @java.lang.Override
+      public double getAccTradeVolume() {
+        return accTradeVolume_;
+      }
+      /**
+       * <code>double acc_trade_volume = 9;</code>
+       * @param value The accTradeVolume to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAccTradeVolume(double value) {
+
+        accTradeVolume_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>double acc_trade_volume = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAccTradeVolume() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        accTradeVolume_ = 0D;
+        onChanged();
+        return this;
+      }
+
+      private long tradeTimestamp_ ;
+      /**
+       * <code>int64 trade_timestamp = 10;</code>
+       * @return The tradeTimestamp.
+       */
+      @java.lang.Override
+      public long getTradeTimestamp() {
+        return tradeTimestamp_;
+      }
+      /**
+       * <code>int64 trade_timestamp = 10;</code>
+       * @param value The tradeTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTradeTimestamp(long value) {
+
+        tradeTimestamp_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 trade_timestamp = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTradeTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        tradeTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>int64 timestamp = 11;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>int64 timestamp = 11;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 timestamp = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int marketId_ ;
+      /**
+       * <code>int32 market_id = 12;</code>
+       * @return The marketId.
+       */
+      @java.lang.Override
+      public int getMarketId() {
+        return marketId_;
+      }
+      /**
+       * <code>int32 market_id = 12;</code>
+       * @param value The marketId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketId(int value) {
+
+        marketId_ = value;
+        bitField0_ |= 0x00000800;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 market_id = 12;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketId() {
+        bitField0_ = (bitField0_ & ~0x00000800);
+        marketId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:PTicker)
+    }
+
+    // @@protoc_insertion_point(class_scope:PTicker)
+    private static final DataModel.PTicker DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new DataModel.PTicker();
+    }
+
+    public static DataModel.PTicker getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PTicker>
+        PARSER = new com.google.protobuf.AbstractParser<PTicker>() {
+      @java.lang.Override
+      public PTicker parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PTicker> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PTicker> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public DataModel.PTicker getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface POrderBookOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:POrderBook)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string market = 1;</code>
+     * @return The market.
+     */
+    java.lang.String getMarket();
+    /**
+     * <code>string market = 1;</code>
+     * @return The bytes for market.
+     */
+    com.google.protobuf.ByteString
+        getMarketBytes();
+
+    /**
+     * <code>int64 timestamp = 2;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>bool snapshot = 3;</code>
+     * @return The snapshot.
+     */
+    boolean getSnapshot();
+
+    /**
+     * <code>int32 depth = 4;</code>
+     * @return The depth.
+     */
+    int getDepth();
+
+    /**
+     * <code>repeated int32 levels = 5;</code>
+     * @return A list containing the levels.
+     */
+    java.util.List<java.lang.Integer> getLevelsList();
+    /**
+     * <code>repeated int32 levels = 5;</code>
+     * @return The count of levels.
+     */
+    int getLevelsCount();
+    /**
+     * <code>repeated int32 levels = 5;</code>
+     * @param index The index of the element to return.
+     * @return The levels at the given index.
+     */
+    int getLevels(int index);
+
+    /**
+     * <code>repeated double ask_price = 6;</code>
+     * @return A list containing the askPrice.
+     */
+    java.util.List<java.lang.Double> getAskPriceList();
+    /**
+     * <code>repeated double ask_price = 6;</code>
+     * @return The count of askPrice.
+     */
+    int getAskPriceCount();
+    /**
+     * <code>repeated double ask_price = 6;</code>
+     * @param index The index of the element to return.
+     * @return The askPrice at the given index.
+     */
+    double getAskPrice(int index);
+
+    /**
+     * <code>repeated double ask_size = 7;</code>
+     * @return A list containing the askSize.
+     */
+    java.util.List<java.lang.Double> getAskSizeList();
+    /**
+     * <code>repeated double ask_size = 7;</code>
+     * @return The count of askSize.
+     */
+    int getAskSizeCount();
+    /**
+     * <code>repeated double ask_size = 7;</code>
+     * @param index The index of the element to return.
+     * @return The askSize at the given index.
+     */
+    double getAskSize(int index);
+
+    /**
+     * <code>repeated double bid_price = 8;</code>
+     * @return A list containing the bidPrice.
+     */
+    java.util.List<java.lang.Double> getBidPriceList();
+    /**
+     * <code>repeated double bid_price = 8;</code>
+     * @return The count of bidPrice.
+     */
+    int getBidPriceCount();
+    /**
+     * <code>repeated double bid_price = 8;</code>
+     * @param index The index of the element to return.
+     * @return The bidPrice at the given index.
+     */
+    double getBidPrice(int index);
+
+    /**
+     * <code>repeated double bid_size = 9;</code>
+     * @return A list containing the bidSize.
+     */
+    java.util.List<java.lang.Double> getBidSizeList();
+    /**
+     * <code>repeated double bid_size = 9;</code>
+     * @return The count of bidSize.
+     */
+    int getBidSizeCount();
+    /**
+     * <code>repeated double bid_size = 9;</code>
+     * @param index The index of the element to return.
+     * @return The bidSize at the given index.
+     */
+    double getBidSize(int index);
+
+    /**
+     * <code>int32 market_id = 10;</code>
+     * @return The marketId.
+     */
+    int getMarketId();
+
+    /**
+     * <code>int64 base_timestamp = 11;</code>
+     * @return The baseTimestamp.
+     */
+    long getBaseTimestamp();
+  }
+  /**
+   * Protobuf type {@code POrderBook}
+   */
+  public static final class POrderBook extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:POrderBook)
+      POrderBookOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 28,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        POrderBook.class.getName());
+    }
+    // Use POrderBook.newBuilder() to construct.
+    private POrderBook(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    public POrderBook() {
+      market_ = "";
+      levels_ = emptyIntList();
+      askPrice_ = emptyDoubleList();
+      askSize_ = emptyDoubleList();
+      bidPrice_ = emptyDoubleList();
+      bidSize_ = emptyDoubleList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return DataModel.internal_static_POrderBook_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return DataModel.internal_static_POrderBook_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              DataModel.POrderBook.class, DataModel.POrderBook.Builder.class);
+    }
+
+    public static final int MARKET_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object market_ = "";
+    /**
+     * <code>string market = 1;</code>
+     * @return The market.
+     */
+    @java.lang.Override
+    public java.lang.String getMarket() {
+      java.lang.Object ref = market_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        market_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string market = 1;</code>
+     * @return The bytes for market.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMarketBytes() {
+      java.lang.Object ref = market_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        market_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 2;
+    private long timestamp_ = 0L;
+    /**
+     * <code>int64 timestamp = 2;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int SNAPSHOT_FIELD_NUMBER = 3;
+    private boolean snapshot_ = false;
+    /**
+     * <code>bool snapshot = 3;</code>
+     * @return The snapshot.
+     */
+    @java.lang.Override
+    public boolean getSnapshot() {
+      return snapshot_;
+    }
+
+    public static final int DEPTH_FIELD_NUMBER = 4;
+    private int depth_ = 0;
+    /**
+     * <code>int32 depth = 4;</code>
+     * @return The depth.
+     */
+    @java.lang.Override
+    public int getDepth() {
+      return depth_;
+    }
+
+    public static final int LEVELS_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList levels_ =
+        emptyIntList();
+    /**
+     * <code>repeated int32 levels = 5;</code>
+     * @return A list containing the levels.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getLevelsList() {
+      return levels_;
+    }
+    /**
+     * <code>repeated int32 levels = 5;</code>
+     * @return The count of levels.
+     */
+    public int getLevelsCount() {
+      return levels_.size();
+    }
+    /**
+     * <code>repeated int32 levels = 5;</code>
+     * @param index The index of the element to return.
+     * @return The levels at the given index.
+     */
+    public int getLevels(int index) {
+      return levels_.getInt(index);
+    }
+    private int levelsMemoizedSerializedSize = -1;
+
+    public static final int ASK_PRICE_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList askPrice_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double ask_price = 6;</code>
+     * @return A list containing the askPrice.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getAskPriceList() {
+      return askPrice_;
+    }
+    /**
+     * <code>repeated double ask_price = 6;</code>
+     * @return The count of askPrice.
+     */
+    public int getAskPriceCount() {
+      return askPrice_.size();
+    }
+    /**
+     * <code>repeated double ask_price = 6;</code>
+     * @param index The index of the element to return.
+     * @return The askPrice at the given index.
+     */
+    public double getAskPrice(int index) {
+      return askPrice_.getDouble(index);
+    }
+    private int askPriceMemoizedSerializedSize = -1;
+
+    public static final int ASK_SIZE_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList askSize_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double ask_size = 7;</code>
+     * @return A list containing the askSize.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getAskSizeList() {
+      return askSize_;
+    }
+    /**
+     * <code>repeated double ask_size = 7;</code>
+     * @return The count of askSize.
+     */
+    public int getAskSizeCount() {
+      return askSize_.size();
+    }
+    /**
+     * <code>repeated double ask_size = 7;</code>
+     * @param index The index of the element to return.
+     * @return The askSize at the given index.
+     */
+    public double getAskSize(int index) {
+      return askSize_.getDouble(index);
+    }
+    private int askSizeMemoizedSerializedSize = -1;
+
+    public static final int BID_PRICE_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList bidPrice_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double bid_price = 8;</code>
+     * @return A list containing the bidPrice.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getBidPriceList() {
+      return bidPrice_;
+    }
+    /**
+     * <code>repeated double bid_price = 8;</code>
+     * @return The count of bidPrice.
+     */
+    public int getBidPriceCount() {
+      return bidPrice_.size();
+    }
+    /**
+     * <code>repeated double bid_price = 8;</code>
+     * @param index The index of the element to return.
+     * @return The bidPrice at the given index.
+     */
+    public double getBidPrice(int index) {
+      return bidPrice_.getDouble(index);
+    }
+    private int bidPriceMemoizedSerializedSize = -1;
+
+    public static final int BID_SIZE_FIELD_NUMBER = 9;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.DoubleList bidSize_ =
+        emptyDoubleList();
+    /**
+     * <code>repeated double bid_size = 9;</code>
+     * @return A list containing the bidSize.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Double>
+        getBidSizeList() {
+      return bidSize_;
+    }
+    /**
+     * <code>repeated double bid_size = 9;</code>
+     * @return The count of bidSize.
+     */
+    public int getBidSizeCount() {
+      return bidSize_.size();
+    }
+    /**
+     * <code>repeated double bid_size = 9;</code>
+     * @param index The index of the element to return.
+     * @return The bidSize at the given index.
+     */
+    public double getBidSize(int index) {
+      return bidSize_.getDouble(index);
+    }
+    private int bidSizeMemoizedSerializedSize = -1;
+
+    public static final int MARKET_ID_FIELD_NUMBER = 10;
+    private int marketId_ = 0;
+    /**
+     * <code>int32 market_id = 10;</code>
+     * @return The marketId.
+     */
+    @java.lang.Override
+    public int getMarketId() {
+      return marketId_;
+    }
+
+    public static final int BASE_TIMESTAMP_FIELD_NUMBER = 11;
+    private long baseTimestamp_ = 0L;
+    /**
+     * <code>int64 base_timestamp = 11;</code>
+     * @return The baseTimestamp.
+     */
+    @java.lang.Override
+    public long getBaseTimestamp() {
+      return baseTimestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(market_)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, market_);
+      }
+      if (timestamp_ != 0L) {
+        output.writeInt64(2, timestamp_);
+      }
+      if (snapshot_ != false) {
+        output.writeBool(3, snapshot_);
+      }
+      if (depth_ != 0) {
+        output.writeInt32(4, depth_);
+      }
+      if (getLevelsList().size() > 0) {
+        output.writeUInt32NoTag(42);
+        output.writeUInt32NoTag(levelsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < levels_.size(); i++) {
+        output.writeInt32NoTag(levels_.getInt(i));
+      }
+      if (getAskPriceList().size() > 0) {
+        output.writeUInt32NoTag(50);
+        output.writeUInt32NoTag(askPriceMemoizedSerializedSize);
+      }
+      for (int i = 0; i < askPrice_.size(); i++) {
+        output.writeDoubleNoTag(askPrice_.getDouble(i));
+      }
+      if (getAskSizeList().size() > 0) {
+        output.writeUInt32NoTag(58);
+        output.writeUInt32NoTag(askSizeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < askSize_.size(); i++) {
+        output.writeDoubleNoTag(askSize_.getDouble(i));
+      }
+      if (getBidPriceList().size() > 0) {
+        output.writeUInt32NoTag(66);
+        output.writeUInt32NoTag(bidPriceMemoizedSerializedSize);
+      }
+      for (int i = 0; i < bidPrice_.size(); i++) {
+        output.writeDoubleNoTag(bidPrice_.getDouble(i));
+      }
+      if (getBidSizeList().size() > 0) {
+        output.writeUInt32NoTag(74);
+        output.writeUInt32NoTag(bidSizeMemoizedSerializedSize);
+      }
+      for (int i = 0; i < bidSize_.size(); i++) {
+        output.writeDoubleNoTag(bidSize_.getDouble(i));
+      }
+      if (marketId_ != 0) {
+        output.writeInt32(10, marketId_);
+      }
+      if (baseTimestamp_ != 0L) {
+        output.writeInt64(11, baseTimestamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessage.isStringEmpty(market_)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, market_);
+      }
+      if (timestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, timestamp_);
+      }
+      if (snapshot_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, snapshot_);
+      }
+      if (depth_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, depth_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < levels_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(levels_.getInt(i));
+        }
+        size += dataSize;
+        if (!getLevelsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        levelsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getAskPriceList().size();
+        size += dataSize;
+        if (!getAskPriceList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        askPriceMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getAskSizeList().size();
+        size += dataSize;
+        if (!getAskSizeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        askSizeMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getBidPriceList().size();
+        size += dataSize;
+        if (!getBidPriceList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        bidPriceMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getBidSizeList().size();
+        size += dataSize;
+        if (!getBidSizeList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        bidSizeMemoizedSerializedSize = dataSize;
+      }
+      if (marketId_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(10, marketId_);
+      }
+      if (baseTimestamp_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(11, baseTimestamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof DataModel.POrderBook)) {
+        return super.equals(obj);
+      }
+      DataModel.POrderBook other = (DataModel.POrderBook) obj;
+
+      if (!getMarket()
+          .equals(other.getMarket())) return false;
+      if (getTimestamp()
+          != other.getTimestamp()) return false;
+      if (getSnapshot()
+          != other.getSnapshot()) return false;
+      if (getDepth()
+          != other.getDepth()) return false;
+      if (!getLevelsList()
+          .equals(other.getLevelsList())) return false;
+      if (!getAskPriceList()
+          .equals(other.getAskPriceList())) return false;
+      if (!getAskSizeList()
+          .equals(other.getAskSizeList())) return false;
+      if (!getBidPriceList()
+          .equals(other.getBidPriceList())) return false;
+      if (!getBidSizeList()
+          .equals(other.getBidSizeList())) return false;
+      if (getMarketId()
+          != other.getMarketId()) return false;
+      if (getBaseTimestamp()
+          != other.getBaseTimestamp()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + MARKET_FIELD_NUMBER;
+      hash = (53 * hash) + getMarket().hashCode();
+      hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestamp());
+      hash = (37 * hash) + SNAPSHOT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSnapshot());
+      hash = (37 * hash) + DEPTH_FIELD_NUMBER;
+      hash = (53 * hash) + getDepth();
+      if (getLevelsCount() > 0) {
+        hash = (37 * hash) + LEVELS_FIELD_NUMBER;
+        hash = (53 * hash) + getLevelsList().hashCode();
+      }
+      if (getAskPriceCount() > 0) {
+        hash = (37 * hash) + ASK_PRICE_FIELD_NUMBER;
+        hash = (53 * hash) + getAskPriceList().hashCode();
+      }
+      if (getAskSizeCount() > 0) {
+        hash = (37 * hash) + ASK_SIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getAskSizeList().hashCode();
+      }
+      if (getBidPriceCount() > 0) {
+        hash = (37 * hash) + BID_PRICE_FIELD_NUMBER;
+        hash = (53 * hash) + getBidPriceList().hashCode();
+      }
+      if (getBidSizeCount() > 0) {
+        hash = (37 * hash) + BID_SIZE_FIELD_NUMBER;
+        hash = (53 * hash) + getBidSizeList().hashCode();
+      }
+      hash = (37 * hash) + MARKET_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getMarketId();
+      hash = (37 * hash) + BASE_TIMESTAMP_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getBaseTimestamp());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static DataModel.POrderBook parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.POrderBook parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.POrderBook parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.POrderBook parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.POrderBook parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static DataModel.POrderBook parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static DataModel.POrderBook parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.POrderBook parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static DataModel.POrderBook parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static DataModel.POrderBook parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static DataModel.POrderBook parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static DataModel.POrderBook parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(DataModel.POrderBook prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code POrderBook}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:POrderBook)
+        DataModel.POrderBookOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return DataModel.internal_static_POrderBook_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return DataModel.internal_static_POrderBook_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                DataModel.POrderBook.class, DataModel.POrderBook.Builder.class);
+      }
+
+      // Construct using DataModel.POrderBook.newBuilder()
+      public Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        market_ = "";
+        timestamp_ = 0L;
+        snapshot_ = false;
+        depth_ = 0;
+        levels_ = emptyIntList();
+        askPrice_ = emptyDoubleList();
+        askSize_ = emptyDoubleList();
+        bidPrice_ = emptyDoubleList();
+        bidSize_ = emptyDoubleList();
+        marketId_ = 0;
+        baseTimestamp_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return DataModel.internal_static_POrderBook_descriptor;
+      }
+
+      @java.lang.Override
+      public DataModel.POrderBook getDefaultInstanceForType() {
+        return DataModel.POrderBook.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public DataModel.POrderBook build() {
+        DataModel.POrderBook result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public DataModel.POrderBook buildPartial() {
+        DataModel.POrderBook result = new DataModel.POrderBook(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(DataModel.POrderBook result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.market_ = market_;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.timestamp_ = timestamp_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.snapshot_ = snapshot_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.depth_ = depth_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          levels_.makeImmutable();
+          result.levels_ = levels_;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          askPrice_.makeImmutable();
+          result.askPrice_ = askPrice_;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          askSize_.makeImmutable();
+          result.askSize_ = askSize_;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          bidPrice_.makeImmutable();
+          result.bidPrice_ = bidPrice_;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          bidSize_.makeImmutable();
+          result.bidSize_ = bidSize_;
+        }
+        if (((from_bitField0_ & 0x00000200) != 0)) {
+          result.marketId_ = marketId_;
+        }
+        if (((from_bitField0_ & 0x00000400) != 0)) {
+          result.baseTimestamp_ = baseTimestamp_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof DataModel.POrderBook) {
+          return mergeFrom((DataModel.POrderBook)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(DataModel.POrderBook other) {
+        if (other == DataModel.POrderBook.getDefaultInstance()) return this;
+        if (!other.getMarket().isEmpty()) {
+          market_ = other.market_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.getTimestamp() != 0L) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.getSnapshot() != false) {
+          setSnapshot(other.getSnapshot());
+        }
+        if (other.getDepth() != 0) {
+          setDepth(other.getDepth());
+        }
+        if (!other.levels_.isEmpty()) {
+          if (levels_.isEmpty()) {
+            levels_ = other.levels_;
+            levels_.makeImmutable();
+            bitField0_ |= 0x00000010;
+          } else {
+            ensureLevelsIsMutable();
+            levels_.addAll(other.levels_);
+          }
+          onChanged();
+        }
+        if (!other.askPrice_.isEmpty()) {
+          if (askPrice_.isEmpty()) {
+            askPrice_ = other.askPrice_;
+            askPrice_.makeImmutable();
+            bitField0_ |= 0x00000020;
+          } else {
+            ensureAskPriceIsMutable();
+            askPrice_.addAll(other.askPrice_);
+          }
+          onChanged();
+        }
+        if (!other.askSize_.isEmpty()) {
+          if (askSize_.isEmpty()) {
+            askSize_ = other.askSize_;
+            askSize_.makeImmutable();
+            bitField0_ |= 0x00000040;
+          } else {
+            ensureAskSizeIsMutable();
+            askSize_.addAll(other.askSize_);
+          }
+          onChanged();
+        }
+        if (!other.bidPrice_.isEmpty()) {
+          if (bidPrice_.isEmpty()) {
+            bidPrice_ = other.bidPrice_;
+            bidPrice_.makeImmutable();
+            bitField0_ |= 0x00000080;
+          } else {
+            ensureBidPriceIsMutable();
+            bidPrice_.addAll(other.bidPrice_);
+          }
+          onChanged();
+        }
+        if (!other.bidSize_.isEmpty()) {
+          if (bidSize_.isEmpty()) {
+            bidSize_ = other.bidSize_;
+            bidSize_.makeImmutable();
+            bitField0_ |= 0x00000100;
+          } else {
+            ensureBidSizeIsMutable();
+            bidSize_.addAll(other.bidSize_);
+          }
+          onChanged();
+        }
+        if (other.getMarketId() != 0) {
+          setMarketId(other.getMarketId());
+        }
+        if (other.getBaseTimestamp() != 0L) {
+          setBaseTimestamp(other.getBaseTimestamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                market_ = input.readStringRequireUtf8();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                timestamp_ = input.readInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                snapshot_ = input.readBool();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                depth_ = input.readInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                int v = input.readInt32();
+                ensureLevelsIsMutable();
+                levels_.addInt(v);
+                break;
+              } // case 40
+              case 42: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureLevelsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  levels_.addInt(input.readInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 42
+              case 49: {
+                double v = input.readDouble();
+                ensureAskPriceIsMutable();
+                askPrice_.addDouble(v);
+                break;
+              } // case 49
+              case 50: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureAskPriceIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  askPrice_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 50
+              case 57: {
+                double v = input.readDouble();
+                ensureAskSizeIsMutable();
+                askSize_.addDouble(v);
+                break;
+              } // case 57
+              case 58: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureAskSizeIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  askSize_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 58
+              case 65: {
+                double v = input.readDouble();
+                ensureBidPriceIsMutable();
+                bidPrice_.addDouble(v);
+                break;
+              } // case 65
+              case 66: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureBidPriceIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  bidPrice_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 66
+              case 73: {
+                double v = input.readDouble();
+                ensureBidSizeIsMutable();
+                bidSize_.addDouble(v);
+                break;
+              } // case 73
+              case 74: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureBidSizeIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  bidSize_.addDouble(input.readDouble());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 74
+              case 80: {
+                marketId_ = input.readInt32();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              case 88: {
+                baseTimestamp_ = input.readInt64();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 88
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object market_ = "";
+      /**
+       * <code>string market = 1;</code>
+       * @return The market.
+       */
+      public java.lang.String getMarket() {
+        java.lang.Object ref = market_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          market_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @return The bytes for market.
+       */
+      public com.google.protobuf.ByteString
+          getMarketBytes() {
+        java.lang.Object ref = market_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          market_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @param value The market to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarket(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        market_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarket() {
+        market_ = getDefaultInstance().getMarket();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string market = 1;</code>
+       * @param value The bytes for market to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        checkByteStringIsUtf8(value);
+        market_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private long timestamp_ ;
+      /**
+       * <code>int64 timestamp = 2;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>int64 timestamp = 2;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 timestamp = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean snapshot_ ;
+      /**
+       * <code>bool snapshot = 3;</code>
+       * @return The snapshot.
+       */
+      @java.lang.Override
+      public boolean getSnapshot() {
+        return snapshot_;
+      }
+      /**
+       * <code>bool snapshot = 3;</code>
+       * @param value The snapshot to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshot(boolean value) {
+
+        snapshot_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool snapshot = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshot() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        snapshot_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int depth_ ;
+      /**
+       * <code>int32 depth = 4;</code>
+       * @return The depth.
+       */
+      @java.lang.Override
+      public int getDepth() {
+        return depth_;
+      }
+      /**
+       * <code>int32 depth = 4;</code>
+       * @param value The depth to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDepth(int value) {
+
+        depth_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 depth = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDepth() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        depth_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList levels_ = emptyIntList();
+      private void ensureLevelsIsMutable() {
+        if (!levels_.isModifiable()) {
+          levels_ = makeMutableCopy(levels_);
+        }
+        bitField0_ |= 0x00000010;
+      }
+      /**
+       * <code>repeated int32 levels = 5;</code>
+       * @return A list containing the levels.
+       */
+      public java.util.List<java.lang.Integer>
+          getLevelsList() {
+        levels_.makeImmutable();
+        return levels_;
+      }
+      /**
+       * <code>repeated int32 levels = 5;</code>
+       * @return The count of levels.
+       */
+      public int getLevelsCount() {
+        return levels_.size();
+      }
+      /**
+       * <code>repeated int32 levels = 5;</code>
+       * @param index The index of the element to return.
+       * @return The levels at the given index.
+       */
+      public int getLevels(int index) {
+        return levels_.getInt(index);
+      }
+      /**
+       * <code>repeated int32 levels = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The levels to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLevels(
+          int index, int value) {
+
+        ensureLevelsIsMutable();
+        levels_.setInt(index, value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 levels = 5;</code>
+       * @param value The levels to add.
+       * @return This builder for chaining.
+       */
+      public Builder addLevels(int value) {
+
+        ensureLevelsIsMutable();
+        levels_.addInt(value);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 levels = 5;</code>
+       * @param values The levels to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllLevels(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureLevelsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, levels_);
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 levels = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLevels() {
+        levels_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList askPrice_ = emptyDoubleList();
+      private void ensureAskPriceIsMutable() {
+        if (!askPrice_.isModifiable()) {
+          askPrice_ = makeMutableCopy(askPrice_);
+        }
+        bitField0_ |= 0x00000020;
+      }
+      /**
+       * <code>repeated double ask_price = 6;</code>
+       * @return A list containing the askPrice.
+       */
+      public java.util.List<java.lang.Double>
+          getAskPriceList() {
+        askPrice_.makeImmutable();
+        return askPrice_;
+      }
+      /**
+       * <code>repeated double ask_price = 6;</code>
+       * @return The count of askPrice.
+       */
+      public int getAskPriceCount() {
+        return askPrice_.size();
+      }
+      /**
+       * <code>repeated double ask_price = 6;</code>
+       * @param index The index of the element to return.
+       * @return The askPrice at the given index.
+       */
+      public double getAskPrice(int index) {
+        return askPrice_.getDouble(index);
+      }
+      /**
+       * <code>repeated double ask_price = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The askPrice to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAskPrice(
+          int index, double value) {
+
+        ensureAskPriceIsMutable();
+        askPrice_.setDouble(index, value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double ask_price = 6;</code>
+       * @param value The askPrice to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAskPrice(double value) {
+
+        ensureAskPriceIsMutable();
+        askPrice_.addDouble(value);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double ask_price = 6;</code>
+       * @param values The askPrice to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllAskPrice(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureAskPriceIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, askPrice_);
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double ask_price = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAskPrice() {
+        askPrice_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList askSize_ = emptyDoubleList();
+      private void ensureAskSizeIsMutable() {
+        if (!askSize_.isModifiable()) {
+          askSize_ = makeMutableCopy(askSize_);
+        }
+        bitField0_ |= 0x00000040;
+      }
+      /**
+       * <code>repeated double ask_size = 7;</code>
+       * @return A list containing the askSize.
+       */
+      public java.util.List<java.lang.Double>
+          getAskSizeList() {
+        askSize_.makeImmutable();
+        return askSize_;
+      }
+      /**
+       * <code>repeated double ask_size = 7;</code>
+       * @return The count of askSize.
+       */
+      public int getAskSizeCount() {
+        return askSize_.size();
+      }
+      /**
+       * <code>repeated double ask_size = 7;</code>
+       * @param index The index of the element to return.
+       * @return The askSize at the given index.
+       */
+      public double getAskSize(int index) {
+        return askSize_.getDouble(index);
+      }
+      /**
+       * <code>repeated double ask_size = 7;</code>
+       * @param index The index to set the value at.
+       * @param value The askSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAskSize(
+          int index, double value) {
+
+        ensureAskSizeIsMutable();
+        askSize_.setDouble(index, value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double ask_size = 7;</code>
+       * @param value The askSize to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAskSize(double value) {
+
+        ensureAskSizeIsMutable();
+        askSize_.addDouble(value);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double ask_size = 7;</code>
+       * @param values The askSize to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllAskSize(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureAskSizeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, askSize_);
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double ask_size = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAskSize() {
+        askSize_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList bidPrice_ = emptyDoubleList();
+      private void ensureBidPriceIsMutable() {
+        if (!bidPrice_.isModifiable()) {
+          bidPrice_ = makeMutableCopy(bidPrice_);
+        }
+        bitField0_ |= 0x00000080;
+      }
+      /**
+       * <code>repeated double bid_price = 8;</code>
+       * @return A list containing the bidPrice.
+       */
+      public java.util.List<java.lang.Double>
+          getBidPriceList() {
+        bidPrice_.makeImmutable();
+        return bidPrice_;
+      }
+      /**
+       * <code>repeated double bid_price = 8;</code>
+       * @return The count of bidPrice.
+       */
+      public int getBidPriceCount() {
+        return bidPrice_.size();
+      }
+      /**
+       * <code>repeated double bid_price = 8;</code>
+       * @param index The index of the element to return.
+       * @return The bidPrice at the given index.
+       */
+      public double getBidPrice(int index) {
+        return bidPrice_.getDouble(index);
+      }
+      /**
+       * <code>repeated double bid_price = 8;</code>
+       * @param index The index to set the value at.
+       * @param value The bidPrice to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBidPrice(
+          int index, double value) {
+
+        ensureBidPriceIsMutable();
+        bidPrice_.setDouble(index, value);
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bid_price = 8;</code>
+       * @param value The bidPrice to add.
+       * @return This builder for chaining.
+       */
+      public Builder addBidPrice(double value) {
+
+        ensureBidPriceIsMutable();
+        bidPrice_.addDouble(value);
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bid_price = 8;</code>
+       * @param values The bidPrice to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllBidPrice(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureBidPriceIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, bidPrice_);
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bid_price = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBidPrice() {
+        bidPrice_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.DoubleList bidSize_ = emptyDoubleList();
+      private void ensureBidSizeIsMutable() {
+        if (!bidSize_.isModifiable()) {
+          bidSize_ = makeMutableCopy(bidSize_);
+        }
+        bitField0_ |= 0x00000100;
+      }
+      /**
+       * <code>repeated double bid_size = 9;</code>
+       * @return A list containing the bidSize.
+       */
+      public java.util.List<java.lang.Double>
+          getBidSizeList() {
+        bidSize_.makeImmutable();
+        return bidSize_;
+      }
+      /**
+       * <code>repeated double bid_size = 9;</code>
+       * @return The count of bidSize.
+       */
+      public int getBidSizeCount() {
+        return bidSize_.size();
+      }
+      /**
+       * <code>repeated double bid_size = 9;</code>
+       * @param index The index of the element to return.
+       * @return The bidSize at the given index.
+       */
+      public double getBidSize(int index) {
+        return bidSize_.getDouble(index);
+      }
+      /**
+       * <code>repeated double bid_size = 9;</code>
+       * @param index The index to set the value at.
+       * @param value The bidSize to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBidSize(
+          int index, double value) {
+
+        ensureBidSizeIsMutable();
+        bidSize_.setDouble(index, value);
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bid_size = 9;</code>
+       * @param value The bidSize to add.
+       * @return This builder for chaining.
+       */
+      public Builder addBidSize(double value) {
+
+        ensureBidSizeIsMutable();
+        bidSize_.addDouble(value);
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bid_size = 9;</code>
+       * @param values The bidSize to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllBidSize(
+          java.lang.Iterable<? extends java.lang.Double> values) {
+        ensureBidSizeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, bidSize_);
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated double bid_size = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBidSize() {
+        bidSize_ = emptyDoubleList();
+        bitField0_ = (bitField0_ & ~0x00000100);
+        onChanged();
+        return this;
+      }
+
+      private int marketId_ ;
+      /**
+       * <code>int32 market_id = 10;</code>
+       * @return The marketId.
+       */
+      @java.lang.Override
+      public int getMarketId() {
+        return marketId_;
+      }
+      /**
+       * <code>int32 market_id = 10;</code>
+       * @param value The marketId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketId(int value) {
+
+        marketId_ = value;
+        bitField0_ |= 0x00000200;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 market_id = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketId() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        marketId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long baseTimestamp_ ;
+      /**
+       * <code>int64 base_timestamp = 11;</code>
+       * @return The baseTimestamp.
+       */
+      @java.lang.Override
+      public long getBaseTimestamp() {
+        return baseTimestamp_;
+      }
+      /**
+       * <code>int64 base_timestamp = 11;</code>
+       * @param value The baseTimestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBaseTimestamp(long value) {
+
+        baseTimestamp_ = value;
+        bitField0_ |= 0x00000400;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 base_timestamp = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBaseTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000400);
+        baseTimestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:POrderBook)
+    }
+
+    // @@protoc_insertion_point(class_scope:POrderBook)
+    private static final DataModel.POrderBook DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new DataModel.POrderBook();
+    }
+
+    public static DataModel.POrderBook getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<POrderBook>
+        PARSER = new com.google.protobuf.AbstractParser<POrderBook>() {
+      @java.lang.Override
+      public POrderBook parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<POrderBook> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<POrderBook> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public DataModel.POrderBook getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PCandle_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PCandle_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PCandleV2_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PCandleV2_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PCandleBatch_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PCandleBatch_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_PTicker_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_PTicker_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_POrderBook_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_POrderBook_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n(src/main/resources/proto/DataModel.pro" +
+      "to\"_\n\007PCandle\022\014\n\004open\030\001 \001(\001\022\r\n\005close\030\002 \001" +
+      "(\001\022\014\n\004high\030\003 \001(\001\022\013\n\003low\030\004 \001(\001\022\016\n\006volume\030" +
+      "\005 \001(\001\022\014\n\004time\030\006 \001(\t\"a\n\tPCandleV2\022\014\n\004open" +
+      "\030\001 \001(\001\022\r\n\005close\030\002 \001(\001\022\014\n\004high\030\003 \001(\001\022\013\n\003l" +
+      "ow\030\004 \001(\001\022\016\n\006volume\030\005 \001(\001\022\014\n\004time\030\006 \001(\003\"d" +
+      "\n\014PCandleBatch\022\014\n\004time\030\001 \003(\003\022\014\n\004open\030\002 \003" +
+      "(\001\022\r\n\005close\030\003 \003(\001\022\014\n\004high\030\004 \003(\001\022\013\n\003low\030\005" +
+      " \003(\001\022\016\n\006volume\030\006 \003(\001\"\242\002\n\007PTicker\022\016\n\006mark" +
+      "et\030\001 \001(\t\022\023\n\013trade_price\030\002 \001(\001\022\033\n\023acc_tra" +
+      "de_price_24h\030\003 \001(\001\022\033\n\023signed_change_pric" +
+      "e\030\004 \001(\001\022\032\n\022signed_change_rate\030\005 \001(\001\022\022\n\nh" +
+      "igh_price\030\006 \001(\001\022\021\n\tlow_price\030\007 \001(\001\022\034\n\024ac" +
+      "c_trade_volume_24h\030\010 \001(\001\022\030\n\020acc_trade_vo" +
+      "lume\030\t \001(\001\022\027\n\017trade_timestamp\030\n \001(\003\022\021\n\tt" +
+      "imestamp\030\013 \001(\003\022\021\n\tmarket_id\030\014 \001(\005\"\325\001\n\nPO" +
+      "rderBook\022\016\n\006market\030\001 \001(\t\022\021\n\ttimestamp\030\002 " +
+      "\001(\003\022\020\n\010snapshot\030\003 \001(\010\022\r\n\005depth\030\004 \001(\005\022\016\n\006" +
+      "levels\030\005 \003(\005\022\021\n\task_price\030\006 \003(\001\022\020\n\010ask_s" +
+      "ize\030\007 \003(\001\022\021\n\tbid_price\030\010 \003(\001\022\020\n\010bid_size" +
+      "\030\t \003(\001\022\021\n\tmarket_id\030\n \001(\005\022\026\n\016base" +
+      "_timestamp\030\013 \001(\003b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_PCandle_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_PCandle_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PCandle_descriptor,
+        new java.lang.String[] { "Open", "Close", "High", "Low", "Volume", "Time", });
+    internal_static_PCandleV2_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_PCandleV2_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PCandleV2_descriptor,
+        new java.lang.String[] { "Open", "Close", "High", "Low", "Volume", "Time", });
+    internal_static_PCandleBatch_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_PCandleBatch_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PCandleBatch_descriptor,
+        new java.lang.String[] { "Time", "Open", "Close", "High", "Low", "Volume", });
+    internal_static_PTicker_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_PTicker_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_PTicker_descriptor,
+        new java.lang.String[] { "Market", "TradePrice", "AccTradePrice24H", "SignedChangePrice", "SignedChangeRate", "HighPrice", "LowPrice", "AccTradeVolume24H", "AccTradeVolume", "TradeTimestamp", "Timestamp", "MarketId", });
+    internal_static_POrderBook_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_POrderBook_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_POrderBook_descriptor,
+        new java.lang.String[] { "Market", "Timestamp", "Snapshot", "Depth", "Levels", "AskPrice", "AskSize", "BidPrice", "BidSize", "MarketId", "BaseTimestamp", });
+    descriptor.resolveAllFeaturesImmutable();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
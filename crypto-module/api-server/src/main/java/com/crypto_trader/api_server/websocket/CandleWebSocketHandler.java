@@ -1,6 +1,8 @@
 package com.crypto_trader.api_server.websocket;
 
 import com.crypto_trader.api_server.application.dto.CandleRequestDto;
+import com.crypto_trader.api_server.infra.CandleCodec;
+import com.crypto_trader.api_server.infra.CandleRedisRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,18 +19,25 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static io.lettuce.core.protocol.CommandType.RPUSH;
+import static io.lettuce.core.protocol.CommandType.SETRANGE;
 
 @Slf4j
 @Component
 public class CandleWebSocketHandler extends JsonWebSocketHandler<CandleRequestDto, String> {
 
+    private static final String KEYSPACE = "__keyspace@0__:";
+
     private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final CandleRedisRepository candleRedisRepository;
     private final Map<String, Disposable> sessionMap = new ConcurrentHashMap<>();
 
     @Autowired
-    public CandleWebSocketHandler(ObjectMapper objectMapper, ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate) {
+    public CandleWebSocketHandler(ObjectMapper objectMapper,
+                                  ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                                  CandleRedisRepository candleRedisRepository) {
         super(objectMapper);
         this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.candleRedisRepository = candleRedisRepository;
     }
 
     @Override
@@ -38,8 +47,7 @@ public class CandleWebSocketHandler extends JsonWebSocketHandler<CandleRequestDt
             disposable.dispose();
         }
 
-        String key = instance.makeKey();
-        subscribeLast(key, session);
+        subscribeLast(candleRedisRepository.keyPatternOf(instance.getUnit(), instance.getMarket()), session);
     }
 
     @Override
@@ -51,17 +59,19 @@ public class CandleWebSocketHandler extends JsonWebSocketHandler<CandleRequestDt
         }
     }
 
-    public void subscribeLast(String key, WebSocketSession session) {
-        PatternTopic topic = new PatternTopic("__keyspace@0__:" + key);
+    // 캔들 키는 날짜로 나뉘므로 패턴으로 구독하고, 알림이 온 키의 마지막 캔들을 보낸다 (list: RPUSH, blob: SETRANGE)
+    public void subscribeLast(String keyPattern, WebSocketSession session) {
+        PatternTopic topic = new PatternTopic(KEYSPACE + keyPattern);
         Disposable subscribe = byteArrayRedisTemplate
                 .listenTo(topic)
                 .subscribe(value -> {
                     String message = new String(value.getMessage());
                     log.debug("Received event: {}", value.getMessage());
-                    if (!message.equals(RPUSH.name().toLowerCase()))
+                    if (!message.equals(RPUSH.name().toLowerCase()) && !message.equals(SETRANGE.name().toLowerCase()))
                         return;
-                    byteArrayRedisTemplate.opsForList()
-                            .range(key, -1, -1)
+                    String key = value.getChannel().substring(KEYSPACE.length());
+                    candleRedisRepository.findLast(key)
+                            .map(CandleCodec::encodeV1)
                             .subscribe(candle -> {
                                 try {
                                     session.sendMessage(new BinaryMessage(candle));
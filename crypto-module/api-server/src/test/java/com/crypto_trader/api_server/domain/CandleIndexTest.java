@@ -0,0 +1,105 @@
+package com.crypto_trader.api_server.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleIndexTest {
+
+    private static final long BASE = 28_000_000L; // 임의의 epoch minute (1440 의 배수가 아니어도 된다)
+
+    @Test
+    void matchesNaiveAggregationForArbitraryUnits() {
+        CandleIndex index = new CandleIndex(1024);
+        Random random = new Random(7);
+        int minutes = 700;
+        double[][] raw = new double[minutes][]; // open, high, low, close, volume
+        for (int i = 0; i < minutes; i++) {
+            double open = 100 + random.nextInt(50);
+            double close = 100 + random.nextInt(50);
+            double high = Math.max(open, close) + random.nextInt(5);
+            double low = Math.min(open, close) - random.nextInt(5);
+            raw[i] = new double[]{open, high, low, close, random.nextInt(10)};
+            index.append(BASE + i, open, high, low, close, raw[i][4]);
+        }
+
+        for (int unit : new int[]{1, 3, 7, 45, 60, 240}) {
+            long from = BASE + 13;
+            long to = BASE + 650;
+            List<double[]> bars = query(index, from, to, unit, 1000);
+
+            int expected = (int) (Math.floorDiv(to, unit) - Math.floorDiv(from, unit) + 1);
+            assertEquals(expected, bars.size(), "unit " + unit);
+            for (double[] bar : bars) {
+                long start = Math.max((long) bar[0], from);
+                long end = Math.min((long) bar[0] + unit - 1, to);
+                double high = Double.NEGATIVE_INFINITY, low = Double.POSITIVE_INFINITY, volume = 0;
+                for (long m = start; m <= end; m++) {
+                    double[] candle = raw[(int) (m - BASE)];
+                    high = Math.max(high, candle[1]);
+                    low = Math.min(low, candle[2]);
+                    volume += candle[4];
+                }
+                assertEquals(0, Math.floorMod((long) bar[0], unit));
+                assertEquals(raw[(int) (start - BASE)][0], bar[1]);
+                assertEquals(high, bar[2]);
+                assertEquals(low, bar[3]);
+                assertEquals(raw[(int) (end - BASE)][3], bar[4]);
+                assertEquals(volume, bar[5], 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void fillsGapsWithLastClose() {
+        CandleIndex index = new CandleIndex(16);
+        index.append(BASE, 10, 12, 9, 11, 1);
+        index.append(BASE + 3, 20, 21, 19, 20, 1);
+        assertFalse(index.append(BASE + 2, 1, 1, 1, 1, 1));
+
+        List<double[]> bars = query(index, BASE, BASE + 3, 1, 10);
+
+        assertEquals(4, bars.size());
+        assertEquals(11.0, bars.get(1)[1]);
+        assertEquals(11.0, bars.get(2)[4]);
+        assertEquals(0.0, bars.get(2)[5]);
+    }
+
+    @Test
+    void compactsWhenFull() {
+        CandleIndex index = new CandleIndex(8);
+        for (int i = 0; i < 20; i++)
+            index.append(BASE + i, i, i, i, i, 1);
+
+        assertEquals(BASE + 19, index.lastMinute());
+        assertTrue(index.size() <= 8);
+        List<double[]> bars = query(index, BASE, BASE + 19, 4, 10);
+        double[] last = bars.get(bars.size() - 1);
+        assertEquals(19.0, last[2]);
+        assertEquals(19.0, last[4]);
+        assertEquals(index.firstMinute() - BASE, bars.get(0)[1], 0.0); // 버린 분은 조회되지 않는다
+    }
+
+    @Test
+    void returnsMostRecentBarsWhenLimited() {
+        CandleIndex index = new CandleIndex(64);
+        for (int i = 0; i < 30; i++)
+            index.append(BASE + i, i, i, i, i, 1);
+
+        List<double[]> bars = query(index, BASE, BASE + 29, 1, 5);
+
+        assertEquals(5, bars.size());
+        assertEquals(BASE + 25, (long) bars.get(0)[0]);
+    }
+
+    private static List<double[]> query(CandleIndex index, long from, long to, int unit, int maxBars) {
+        List<double[]> bars = new ArrayList<>();
+        index.query(from, to, unit, maxBars, (minute, open, high, low, close, volume) ->
+                bars.add(new double[]{minute, open, high, low, close, volume}));
+        return bars;
+    }
+}
@@ -0,0 +1,58 @@
+package com.crypto_trader.api_server.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBookTest {
+
+    private final OrderBook orderBook = new OrderBook("KRW-BTC");
+
+    @Test
+    void ignoresDiffBeforeSnapshot() {
+        assertFalse(orderBook.apply(1000L, 0L, false, 2, 1, new int[]{0},
+                new double[]{101}, new double[]{1}, new double[]{99}, new double[]{1}));
+        assertTrue(Double.isNaN(orderBook.estimateFillPrice(OrderSide.BID, 0.5)));
+    }
+
+    @Test
+    void appliesDiffOnSnapshot() {
+        snapshot();
+        assertTrue(orderBook.apply(1001L, 1000L, false, 2, 1, new int[]{1},
+                new double[]{103}, new double[]{4}, new double[]{97}, new double[]{4}));
+
+        assertEquals(101.0, orderBook.getAskPrice(0));
+        assertEquals(103.0, orderBook.getAskPrice(1));
+        assertEquals(4.0, orderBook.getBidSize(1));
+    }
+
+    @Test
+    void diffWithStaleBaseWaitsForSnapshot() {
+        snapshot();
+        // 1001 의 diff 를 놓쳤다
+        assertFalse(orderBook.apply(1002L, 1001L, false, 2, 1, new int[]{0},
+                new double[]{100}, new double[]{3}, new double[]{98}, new double[]{3}));
+        assertFalse(orderBook.isReady());
+        assertEquals(101.0, orderBook.getAskPrice(0));
+
+        assertTrue(orderBook.apply(1003L, 0L, true, 2, 2, new int[]{0, 1},
+                new double[]{100, 102}, new double[]{3, 2}, new double[]{98, 97}, new double[]{3, 2}));
+        assertTrue(orderBook.isReady());
+        assertTrue(orderBook.apply(1004L, 1003L, false, 2, 1, new int[]{1},
+                new double[]{103}, new double[]{1}, new double[]{97}, new double[]{1}));
+    }
+
+    @Test
+    void estimateFillPriceWalksLevels() {
+        snapshot();
+
+        assertEquals(101.5, orderBook.estimateFillPrice(OrderSide.BID, 2.0), 1e-9); // 101 x 1 + 102 x 1
+        assertEquals(99.0, orderBook.estimateFillPrice(OrderSide.ASK, 0.5), 1e-9);
+        assertTrue(Double.isNaN(orderBook.estimateFillPrice(OrderSide.BID, 10.0))); // 잔량 부족
+    }
+
+    private void snapshot() {
+        orderBook.apply(1000L, 0L, true, 2, 2, new int[]{0, 1},
+                new double[]{101, 102}, new double[]{1, 2}, new double[]{99, 98}, new double[]{1, 2});
+    }
+}
@@ -1,24 +1,25 @@
 package com.crypto_trader.scheduler.application;
 
-import com.crypto_trader.scheduler.domain.Ticker;
-import com.crypto_trader.scheduler.domain.entity.Candle;
+import com.crypto_trader.scheduler.domain.TickerRecord;
 import com.crypto_trader.scheduler.infra.CandleMongoRepository;
+import com.crypto_trader.scheduler.infra.CandleSnapshotStore;
+import com.crypto_trader.scheduler.infra.MarketIdRegistry;
+import com.crypto_trader.scheduler.infra.RedisKeyCleaner;
 import com.crypto_trader.scheduler.infra.SimpleCandleRepository;
+import com.crypto_trader.scheduler.infra.TickerMessageCodec;
+import com.crypto_trader.scheduler.infra.TickerRingDispatcher;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.function.Consumer;
 
-import static com.crypto_trader.scheduler.domain.CandleUnit.ONEMINUTE;
 import static com.crypto_trader.scheduler.global.constant.RedisConst.*;
-import static com.crypto_trader.scheduler.proto.DataModel.*;
 
 @Slf4j
 @Service
@@ -26,98 +27,77 @@ public class CandleService {
 
     private final SimpleCandleRepository candleRepository;
     private final CandleMongoRepository candleMongoRepository;
+    private final CandleSnapshotStore candleSnapshotStore;
+    private final CandleWarmUpLoader candleWarmUpLoader;
     private final MarketService marketService;
     private final ObjectMapper objectMapper;
-    private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
+    private final RedisKeyCleaner redisKeyCleaner;
     private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
     private final TickerService tickerService;
+    private final TickerRingDispatcher ringDispatcher;
+    private final MarketIdRegistry marketIds;
+    private final boolean migrateOnStart;
 
     public CandleService(SimpleCandleRepository candleRepository,
                          CandleMongoRepository candleMongoRepository,
+                         CandleSnapshotStore candleSnapshotStore,
+                         CandleWarmUpLoader candleWarmUpLoader,
                          MarketService marketService,
                          ObjectMapper objectMapper,
-                         ReactiveRedisTemplate<String, String> stringRedisTemplate,
-                         ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate, TickerService tickerService) {
+                         RedisKeyCleaner redisKeyCleaner,
+                         ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate, TickerService tickerService,
+                         TickerRingDispatcher ringDispatcher,
+                         MarketIdRegistry marketIds,
+                         @Value("${candle.mongo.migrate-on-start:false}") boolean migrateOnStart) {
         this.candleRepository = candleRepository;
         this.candleMongoRepository = candleMongoRepository;
+        this.candleSnapshotStore = candleSnapshotStore;
+        this.candleWarmUpLoader = candleWarmUpLoader;
         this.marketService = marketService;
         this.objectMapper = objectMapper;
-        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisKeyCleaner = redisKeyCleaner;
         this.byteArrayRedisTemplate = byteArrayRedisTemplate;
         this.tickerService = tickerService;
+        this.ringDispatcher = ringDispatcher;
+        this.marketIds = marketIds;
+        this.migrateOnStart = migrateOnStart;
     }
 
     @EventListener(ApplicationReadyEvent.class)
     public void init() {
-        marketService.renewalMarkets();
-
-        cleanRedisDB()
-                .then(Mono.fromRunnable(this::initRedisCandleFromMongo))
-                .subscribe(success -> log.debug("Redis initialized with Mongo data."),
-                        error -> log.debug("Error initializing Redis: {}", error.getMessage()));
+        candleMongoRepository.ensureCollection();
+        // 1회성 마이그레이션: 일반 컬렉션의 중복 캔들 문서를 합친 뒤 시계열 컬렉션으로 옮긴다
+        if (migrateOnStart) {
+            candleMongoRepository.mergeDuplicates();
+            candleMongoRepository.migrateLegacy();
+        }
 
-        // Redis Ticker 구독 설정
-        stringRedisTemplate
+        marketService.renewalMarkets();
+        // 마켓 id 가 정해진 뒤, tick 을 받기 전에 진행 중이던 캔들을 되돌린다
+        candleSnapshotStore.restore();
+
+        // Redis 를 비운 뒤 Mongo 의 최근 캔들로 채우고, 다 채운 뒤에 ticker 수집을 시작한다 (샤드 키 안의 시간 순서)
+        redisKeyCleaner.purge()
+                .then(Mono.defer(candleWarmUpLoader::load))
+                .doFinally(signal -> tickerService.fetchStart())
+                .subscribe(result -> log.debug("Redis initialized with Mongo data."),
+                        error -> log.warn("Error initializing Redis: {}", error.getMessage()));
+
+        // 같은 JVM 에서 수집 중이면 링 버퍼 소비자가 캔들을 갱신한다
+        if (ringDispatcher.isCandleFromRing())
+            return;
+
+        // Redis Ticker 구독 설정 (onNext 는 순차 호출되므로 코덱/레코드를 재사용)
+        // 한 메시지는 여러 마켓의 ticker 를 담은 배치 프레임이다.
+        TickerMessageCodec codec = new TickerMessageCodec();
+        TickerRecord record = new TickerRecord();
+        // PTicker 는 마켓 id 를, JSON 은 마켓 코드를 싣는다
+        Consumer<TickerRecord> updateCandle = (ticker) -> {
+            int marketId = ticker.getMarketId() >= 0 ? ticker.getMarketId() : marketIds.idOf(ticker.getMarket());
+            candleRepository.update(marketId, ticker.getTradeTimestamp(), ticker.getTradePrice(), ticker.getAccTradeVolume());
+        };
+        byteArrayRedisTemplate
                 .listenToChannel(REDIS_TICKER)
-                .subscribe((value) -> {
-                    String message = value.getMessage();
-                    try {
-                        Ticker ticker = objectMapper.readValue(message, Ticker.class);
-                        candleRepository.update(ticker.getMarket(), ticker.getTradePrice(), ticker.getAccTradeVolume());
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
-                    }
-                });
-    }
-
-    private void initRedisCandleFromMongo() {
-        log.debug("Starting initRedisCandleFromMongo...");
-
-        List<String> markets = marketService.getAllMarketCodes().subList(0, 12);
-        List<Candle> candles = new ArrayList<>();
-
-        markets.parallelStream().forEach(m -> {
-            log.debug("Fetching candles for market: {}", m);
-            List<Candle> candlesByMarket = candleMongoRepository.findCandlesByMarket(m).subList(0, 200);
-            candles.addAll(candlesByMarket);
-        });
-
-        System.out.println("all candle datas fetched");
-
-        // 각 캔들 데이터를 Redis에 저장
-        // TODO: 5분봉, 10분봉 추가
-        candles.forEach(candle -> {
-            String key = ONEMINUTE + ":minute_candle:" + candle.getMarket();
-            try {
-                PCandle pCandle = new PCandle.Builder()
-                        .setOpen(candle.getOpen())
-                        .setClose(candle.getClose())
-                        .setHigh(candle.getHigh())
-                        .setLow(candle.getLow())
-                        .setVolume(candle.getVolume())
-                        .setTime(candle.getTime().toString())
-                        .build();
-
-                byteArrayRedisTemplate.opsForList()
-                        .rightPush(key, pCandle.toByteArray())  // Redis 리스트에 저장
-                        .subscribe();
-            } catch (Exception e) {
-                log.debug("Error serializing candle data: {}", e.getMessage());
-            }
-        });
-
-
-        tickerService.fetchStart();
-    }
-
-    // Redis 데이터베이스에서 "market" 키를 제외한 모든 데이터를 삭제
-    private Mono<Void> cleanRedisDB() {
-        return stringRedisTemplate.keys("*")
-                .filter(key -> !key.equals(MARKET))
-                .flatMap(stringRedisTemplate::delete)
-                .then(Mono.just("Redis cache cleared except 'market' key on startup."))
-                .doOnSuccess(log::debug)
-                .doOnError(Throwable::printStackTrace)
-                .then();
+                .subscribe((value) -> codec.decode(value.getMessage(), record, updateCandle));
     }
 }
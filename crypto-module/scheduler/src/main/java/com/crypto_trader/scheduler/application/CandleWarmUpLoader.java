@@ -0,0 +1,128 @@
+package com.crypto_trader.scheduler.application;
+
+import com.crypto_trader.scheduler.domain.CandleState;
+import com.crypto_trader.scheduler.domain.CandleUnit;
+import com.crypto_trader.scheduler.domain.entity.Candle;
+import com.crypto_trader.scheduler.infra.CandleMongoRepository;
+import com.crypto_trader.scheduler.infra.CandleRedisRepository;
+import com.crypto_trader.scheduler.infra.CandleRedisRepository.CandleWrite;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시작할 때 Mongo 의 최근 캔들을 Redis 샤드 키에 채운다.
+ * - 모든 마켓 x 모든 단위마다 최근 candle.warm-up.size 개를 읽는다. ({@link CandleMongoRepository#findLatestCandles})
+ * - Mongo 읽기는 candle.warm-up.parallelism 개까지 동시에 한다. (boundedElastic)
+ * - Redis 에는 candle.warm-up.batch-size 개씩 한 배치로 보낸다. ({@link CandleRedisRepository#saveCandles})
+ *   배치는 하나씩 차례로 보내므로 키 안의 캔들은 시간 순서를 지킨다.
+ */
+@Slf4j
+@Component
+public class CandleWarmUpLoader {
+
+    private final CandleMongoRepository candleMongoRepository;
+    private final CandleRedisRepository candleRedisRepository;
+    private final MarketService marketService;
+    private final int size;
+    private final int parallelism;
+    private final int batchSize;
+
+    @Autowired
+    public CandleWarmUpLoader(CandleMongoRepository candleMongoRepository,
+                              CandleRedisRepository candleRedisRepository,
+                              MarketService marketService,
+                              @Value("${candle.warm-up.size:200}") int size,
+                              @Value("${candle.warm-up.parallelism:4}") int parallelism,
+                              @Value("${candle.warm-up.batch-size:2000}") int batchSize) {
+        this.candleMongoRepository = candleMongoRepository;
+        this.candleRedisRepository = candleRedisRepository;
+        this.marketService = marketService;
+        this.size = size;
+        this.parallelism = Math.max(1, parallelism);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * 읽은 (마켓, 단위) 수가 10% 늘 때마다 진행 상황을 남긴다.
+     * 한 (마켓, 단위)를 읽지 못해도 나머지는 계속 채운다.
+     *
+     * @return 모든 배치의 응답을 받으면 완료되는 결과
+     */
+    public Mono<WarmUpResult> load() {
+        List<Target> targets = new ArrayList<>();
+        for (String market : marketService.getAllMarketCodes()) {
+            for (CandleUnit unit : CandleUnit.values())
+                targets.add(new Target(market, unit));
+        }
+
+        long startedAt = System.nanoTime();
+        int step = Math.max(1, targets.size() / 10);
+        AtomicInteger read = new AtomicInteger();
+        AtomicLong candles = new AtomicLong();
+        AtomicInteger failures = new AtomicInteger();
+        log.debug("Warming up Redis candles for {} market-units ({} each)", targets.size(), size);
+
+        return Flux.fromIterable(targets)
+                .flatMap(target -> Mono.fromCallable(() -> readTarget(target))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(error -> {
+                            failures.incrementAndGet();
+                            log.warn("Failed to read candles for {} {}: {}", target.market(), target.unit(), error.getMessage());
+                            return Mono.just(List.of());
+                        })
+                        .doOnNext(writes -> {
+                            candles.addAndGet(writes.size());
+                            int done = read.incrementAndGet();
+                            if (done % step == 0 || done == targets.size())
+                                log.debug("Warm-up read {}/{} market-units, {} candles, {} ms",
+                                        done, targets.size(), candles.get(), elapsedMs(startedAt));
+                        }), parallelism)
+                .concatMapIterable(writes -> writes)
+                .buffer(batchSize)
+                .concatMap(candleRedisRepository::saveCandles)
+                .reduce(new WarmUpResult(targets.size(), 0, 0, 0),
+                        (result, batch) -> new WarmUpResult(result.targets(), result.written() + batch.written(),
+                                result.failures() + batch.failures().size(), 0))
+                .map(result -> new WarmUpResult(result.targets(), result.written(), result.failures() + failures.get(), elapsedMs(startedAt)))
+                .doOnNext(result -> log.debug("Warm-up done: {} candles for {} market-units, {} failures, {} ms",
+                        result.written(), result.targets(), result.failures(), result.elapsedMs()));
+    }
+
+    // private
+    private List<CandleWrite> readTarget(Target target) {
+        List<Candle> candles = candleMongoRepository.findLatestCandles(target.market(), target.unit(), size);
+        List<CandleWrite> writes = new ArrayList<>(candles.size());
+        for (Candle candle : candles) {
+            writes.add(new CandleWrite(target.market(), target.unit(), new CandleState(
+                    candle.getOpen(), candle.getClose(), candle.getHigh(), candle.getLow(), candle.getVolume(), candle.getTime())));
+        }
+        return writes;
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+
+    /**
+     * @param targets   채운 (마켓, 단위) 수
+     * @param written   Redis 에 저장한 캔들 수
+     * @param failures  읽지 못한 (마켓, 단위) 수 + 저장에 실패한 키 수
+     * @param elapsedMs 걸린 시간
+     */
+    public record WarmUpResult(int targets, long written, int failures, long elapsedMs) {
+    }
+
+    private record Target(String market, CandleUnit unit) {
+    }
+}
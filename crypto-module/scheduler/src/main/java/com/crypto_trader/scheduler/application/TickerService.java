@@ -1,35 +1,175 @@
 package com.crypto_trader.scheduler.application;
 
+import com.crypto_trader.scheduler.global.constant.TickerSource;
+import com.crypto_trader.scheduler.infra.MarketIdRegistry;
+import com.crypto_trader.scheduler.infra.OrderBookStore;
+import com.crypto_trader.scheduler.infra.TickTapeRecorder;
+import com.crypto_trader.scheduler.infra.TickTapeReplayer;
+import com.crypto_trader.scheduler.infra.TickerArbiter;
+import com.crypto_trader.scheduler.infra.TickerRingDispatcher;
 import com.crypto_trader.scheduler.infra.TickerWebSocketHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.client.WebSocketConnectionManager;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.crypto_trader.scheduler.global.constant.WebSocketConst.WEBSOCKET_URL;
 
+/**
+ * Upbit ticker 수집
+ * - 마켓을 ticker.ingest.shards 개의 샤드로 나누고, 샤드마다 ticker.ingest.feeds 개의 연결로 같은 마켓을 구독한다.
+ *   (기본 1 / 1 = 단일 연결, feeds 2 = hot standby)
+ * - 마켓 -> 샤드 배정은 마켓 코드 해시로 고정되므로 마켓 목록이 바뀌어도 기존 마켓은 같은 샤드에 남는다.
+ * - 끊기거나 ticker.ingest.stall-ms 동안 메시지가 없는 연결은 다시 연결한다.
+ * - orderbook.enabled 면 같은 연결에서 orderbook 도 구독한다. ({@link OrderBookStore})
+ * - ticker.ingest.source=REPLAY 면 연결 대신 녹화된 tick tape 를 첫 번째 핸들러로 흘려보낸다.
+ */
+@Slf4j
 @Service
 public class TickerService {
 
-    private final TickerWebSocketHandler tickerWebSocketHandler;
+    private final TaskScheduler taskScheduler;
+    private final TickTapeReplayer tapeReplayer;
+    private final TickerSource source;
+    private final int shardCount;
+    private final int feedCount;
+    private final long reconnectDelayMs;
+    private final long stallMs;
+
+    // index = shard * feedCount + feed
+    private final List<TickerWebSocketHandler> handlers = new ArrayList<>();
+    private final List<WebSocketConnectionManager> connections = new ArrayList<>();
+    private final Counter disconnects;
+    private boolean started;
 
     @Autowired
-    public TickerService(TickerWebSocketHandler tickerWebSocketHandler) {
-        this.tickerWebSocketHandler = tickerWebSocketHandler;
+    public TickerService(ApplicationEventPublisher publisher,
+                         ObjectMapper objectMapper,
+                         MarketIdRegistry marketIds,
+                         TickerRingDispatcher ringDispatcher,
+                         TickerArbiter arbiter,
+                         TaskScheduler taskScheduler,
+                         MeterRegistry meterRegistry,
+                         TickTapeRecorder tapeRecorder,
+                         TickTapeReplayer tapeReplayer,
+                         OrderBookStore orderBookStore,
+                         @Value("${ticker.ingest.source:LIVE}") TickerSource source,
+                         @Value("${ticker.ingest.shards:1}") int shardCount,
+                         @Value("${ticker.ingest.feeds:1}") int feedCount,
+                         @Value("${ticker.ingest.reconnect-delay-ms:1000}") long reconnectDelayMs,
+                         @Value("${ticker.ingest.stall-ms:10000}") long stallMs) {
+        this.taskScheduler = taskScheduler;
+        this.tapeReplayer = tapeReplayer;
+        this.source = source;
+        this.shardCount = Math.max(1, shardCount);
+        this.feedCount = Math.max(1, feedCount);
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.stallMs = stallMs;
+        this.disconnects = Counter.builder("ticker.feed.disconnects")
+                .description("끊겼거나 stall 로 재연결한 횟수")
+                .register(meterRegistry);
+
+        // 재생 중에는 다시 녹화하지 않는다
+        TickTapeRecorder recorder = source == TickerSource.LIVE && tapeRecorder.isEnabled() ? tapeRecorder : null;
+        OrderBookStore orderBooks = orderBookStore.isEnabled() ? orderBookStore : null;
+        for (int shard = 0; shard < this.shardCount; shard++) {
+            for (int feed = 0; feed < this.feedCount; feed++)
+                handlers.add(new TickerWebSocketHandler(shard, feed, publisher, objectMapper, marketIds, ringDispatcher.newRing(), arbiter, recorder, orderBooks));
+        }
     }
 
+    /**
+     * 마켓 목록을 샤드별로 나눠 각 연결에 구독 요청한다.
+     * - 배정이 바뀐 연결만 다시 구독한다. (TickerWebSocketHandler#fetchAllTicker)
+     */
     public void fetchAllTickers(List<String> marketCodes) {
-        tickerWebSocketHandler.fetchAllTicker(marketCodes);
+        List<List<String>> assigned = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++)
+            assigned.add(new ArrayList<>());
+
+        marketCodes.stream()
+                .sorted()
+                .forEach(code -> assigned.get(shardOf(code, shardCount)).add(code));
+
+        for (int i = 0; i < handlers.size(); i++)
+            handlers.get(i).fetchAllTicker(assigned.get(i / feedCount));
+    }
+
+    public synchronized void fetchStart() {
+        if (started)
+            return;
+        started = true;
+
+        if (source == TickerSource.REPLAY) {
+            tapeReplayer.start(handlers.get(0));
+            log.debug("Ticker ingestion started from tick tape");
+            return;
+        }
+
+        // 수신은 세션 단위로 순차 처리되고, 세션끼리는 웹소켓 컨테이너의 I/O 스레드에서 병렬로 처리된다
+        for (TickerWebSocketHandler handler : handlers) {
+            WebSocketConnectionManager webSocketConnectionManager = new WebSocketConnectionManager(
+                    new StandardWebSocketClient(),
+                    handler,
+                    WEBSOCKET_URL
+            );
+            webSocketConnectionManager.start();
+            connections.add(webSocketConnectionManager);
+        }
+        log.debug("Ticker ingestion started with {} shard(s) x {} feed(s)", shardCount, feedCount);
+    }
+
+    /**
+     * 끊긴 연결을 reconnect-delay-ms 뒤에 다시 연다.
+     */
+    public synchronized void reconnect(int shard, int feed) {
+        int index = shard * feedCount + feed;
+        if (index >= connections.size())
+            return;
+
+        disconnects.increment();
+        handlers.get(index).markReconnecting();
+        WebSocketConnectionManager connection = connections.get(index);
+        taskScheduler.schedule(() -> {
+            log.debug("Reconnecting ticker shard {} feed {}", shard, feed);
+            connection.stop();
+            connection.start();
+        }, Instant.now().plusMillis(reconnectDelayMs));
+    }
+
+    /**
+     * stall-ms 동안 메시지가 없는 연결을 닫는다. (열린 세션이 없으면 바로 재연결)
+     */
+    public void checkStalledFeeds() {
+        if (connections.isEmpty())
+            return;
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < handlers.size(); i++) {
+            TickerWebSocketHandler handler = handlers.get(i);
+            if (!handler.isStalled(now, stallMs))
+                continue;
+
+            log.warn("Ticker shard {} feed {} stalled for over {} ms", i / feedCount, i % feedCount, stallMs);
+            handler.markReconnecting();
+            if (!handler.closeSession())
+                reconnect(i / feedCount, i % feedCount);
+        }
     }
 
-    public void fetchStart() {
-        WebSocketConnectionManager webSocketConnectionManager = new WebSocketConnectionManager(
-                new StandardWebSocketClient(),
-                tickerWebSocketHandler,
-                WEBSOCKET_URL
-        );
-        webSocketConnectionManager.start();
+    // String#hashCode 는 JVM 과 무관하게 같으므로 재시작해도 배정이 유지된다
+    static int shardOf(String marketCode, int shardCount) {
+        return Math.floorMod(marketCode.hashCode(), shardCount);
     }
 }
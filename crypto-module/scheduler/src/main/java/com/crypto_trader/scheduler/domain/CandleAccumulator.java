@@ -0,0 +1,228 @@
+package com.crypto_trader.scheduler.domain;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 마켓 하나의 진행 중인 1분 캔들 (이벤트 시간 기준)
+ * - tick 은 체결 시각이 속한 분(epoch minute)의 버퍼로 간다. 버퍼는 분 % 4 로 돌려 쓰므로
+ *   마감을 기다리는 이전 분(grace 구간의 늦은 tick)과 새 분이 동시에 열려 있을 수 있다.
+ * - writer(캔들 소비자 스레드 하나)는 락을 잡지 않는다. close 는 마감선(closedThrough)을 먼저 올린 뒤
+ *   그 전에 시작된 쓰기 하나가 끝나기를 기다렸다가 버퍼를 읽는다. 그 뒤에 도착한 같은 분의 tick 은 늦은 tick 으로 버린다.
+ * - 마감이 3분 넘게 밀려 버퍼가 모자라면 writer 가 마감을 기다린다. (테이프 재생처럼 이벤트 시간이 빨리 갈 때의 backpressure)
+ * - update 는 한 스레드에서만 호출해야 한다.
+ */
+public class CandleAccumulator {
+
+    public static final long MINUTE_MS = 60_000L;
+
+    private static final int SLOTS = 4;
+    private static final int MASK = SLOTS - 1;
+
+    // [long closedThrough][long firstMinute][double prevVolume][double lastClose] + 버퍼마다 [long minute][double open, close, high, low, volume][long count]
+    public static final int SNAPSHOT_BYTES = 4 * Long.BYTES + SLOTS * (2 * Long.BYTES + 5 * Double.BYTES);
+
+    private final Buffer[] buffers = new Buffer[SLOTS];
+    private final AtomicLong writes = new AtomicLong(); // 홀수면 쓰는 중
+    private volatile long closedThrough = Long.MIN_VALUE; // 마지막으로 마감한 분 (이하의 tick 은 늦은 tick)
+    private volatile long released = Long.MIN_VALUE; // 마지막으로 읽기를 끝낸 분 (이하의 버퍼는 재사용 가능)
+
+    // writer 전용
+    private long firstMinute = Long.MIN_VALUE; // 첫 tick 의 분 (이전 분은 마감 대상이 아니다)
+    private double prevVolume = Double.NaN; // 직전 tick 의 당일 누적 거래량
+
+    // close 전용
+    private double lastClose = Double.NaN;
+
+    public CandleAccumulator() {
+        for (int i = 0; i < SLOTS; i++)
+            buffers[i] = new Buffer();
+    }
+
+    public static long minuteOf(long timestampMs) {
+        return Math.floorDiv(timestampMs, MINUTE_MS);
+    }
+
+    public static LocalDateTime timeOf(long minute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(minute * MINUTE_MS), ZoneId.systemDefault());
+    }
+
+    /**
+     * @param timestampMs 체결 시각 (ms)
+     * @param price       현재가
+     * @param accVolume   당일 누적 거래량 (직전 tick 과의 차이를 거래량으로 더한다)
+     * @return 늦게 도착해 (이미 마감된 분의 tick) 버렸으면 false
+     */
+    public boolean update(long timestampMs, double price, double accVolume) {
+        long minute = minuteOf(timestampMs);
+        if (firstMinute == Long.MIN_VALUE)
+            firstMinute = minute;
+        if (minute < firstMinute)
+            return false;
+
+        Buffer buffer = buffers[(int) (minute & MASK)];
+        long held = buffer.minute;
+        if (held > minute)
+            return false; // 같은 버퍼를 이미 4분 뒤가 쓰고 있다
+        if (held != minute)
+            awaitRelease(held);
+
+        // 마감선을 읽기 전에 쓰는 중임을 알린다 (volatile RMW 라 아래의 closedThrough 읽기보다 먼저 보인다)
+        long write = writes.incrementAndGet();
+        try {
+            if (minute <= closedThrough)
+                return false;
+
+            if (held != minute)
+                buffer.reset(minute);
+            double volume = Double.isNaN(prevVolume) ? 0 : Math.max(accVolume - prevVolume, 0);
+            prevVolume = accVolume;
+            buffer.add(price, volume);
+            return true;
+        } finally {
+            writes.lazySet(write + 1);
+        }
+    }
+
+    /**
+     * minute 분의 캔들을 마감한다. 분마다 한 번, 오름차순으로 호출해야 한다.
+     *
+     * @return 마감된 캔들 (체결이 없었으면 직전 종가로 채운 캔들, 한 번도 체결이 없었으면 null)
+     */
+    public synchronized CandleState close(long minute) {
+        if (minute <= closedThrough)
+            return null;
+        closedThrough = minute;
+
+        long write = writes.get();
+        if ((write & 1) != 0) {
+            while (writes.get() == write)
+                Thread.onSpinWait(); // 마감선을 올리기 전에 시작된 tick 하나
+        }
+
+        Buffer buffer = buffers[(int) (minute & MASK)];
+        CandleState candle;
+        LocalDateTime time = timeOf(minute);
+        if (buffer.minute == minute && buffer.count > 0)
+            candle = new CandleState(buffer.open, buffer.close, buffer.high, buffer.low, buffer.volume, time);
+        else if (!Double.isNaN(lastClose))
+            candle = new CandleState(lastClose, lastClose, lastClose, lastClose, 0, time);
+        else
+            candle = null;
+
+        if (candle != null)
+            lastClose = candle.getLast();
+        released = minute;
+        return candle;
+    }
+
+    /**
+     * @return 다음에 마감할 분 (한 번도 tick 을 받지 않았고 마감한 적도 없으면 Long.MIN_VALUE)
+     */
+    public synchronized long nextMinuteToClose() {
+        if (closedThrough != Long.MIN_VALUE)
+            return closedThrough + 1;
+        return firstMinute;
+    }
+
+    /**
+     * 상태를 SNAPSHOT_BYTES 만큼 out 에 쓴다. (close 와 겹치지 않는다)
+     * - writer 와 동시에 부르면 쓰는 중인 tick 하나가 반쯤 반영될 수 있다. (재시작 복원용이므로 허용한다)
+     */
+    public synchronized void writeSnapshot(ByteBuffer out) {
+        out.putLong(closedThrough);
+        out.putLong(firstMinute);
+        out.putDouble(prevVolume);
+        out.putDouble(lastClose);
+        for (Buffer buffer : buffers) {
+            out.putLong(buffer.minute);
+            out.putDouble(buffer.open);
+            out.putDouble(buffer.close);
+            out.putDouble(buffer.high);
+            out.putDouble(buffer.low);
+            out.putDouble(buffer.volume);
+            out.putLong(buffer.count);
+        }
+    }
+
+    /**
+     * writeSnapshot 으로 쓴 상태로 되돌린다. 첫 update 전에 호출해야 한다.
+     */
+    public synchronized void readSnapshot(ByteBuffer in) {
+        closedThrough = in.getLong();
+        released = closedThrough;
+        firstMinute = in.getLong();
+        prevVolume = in.getDouble();
+        lastClose = in.getDouble();
+        for (Buffer buffer : buffers) {
+            buffer.minute = in.getLong();
+            buffer.open = in.getDouble();
+            buffer.close = in.getDouble();
+            buffer.high = in.getDouble();
+            buffer.low = in.getDouble();
+            buffer.volume = in.getDouble();
+            buffer.count = in.getLong();
+        }
+    }
+
+    /**
+     * minute 분까지는 이미 저장된 캔들로 보고 마감한 것으로 친다. (그 분 이하의 버퍼는 버린다)
+     *
+     * @param close minute 분 캔들의 종가 (이후 체결이 없는 분을 채운다)
+     */
+    public synchronized void skipThrough(long minute, double close) {
+        if (minute <= closedThrough)
+            return;
+        closedThrough = minute;
+        released = minute;
+        lastClose = close;
+    }
+
+    // private
+    private void awaitRelease(long held) {
+        int idle = 0;
+        while (held > released) { // 4분 전 캔들의 마감을 기다린다
+            if (idle++ < 100)
+                Thread.onSpinWait();
+            else
+                LockSupport.parkNanos(50_000);
+        }
+    }
+
+    private static class Buffer {
+        volatile long minute = Long.MIN_VALUE;
+        double open;
+        double close;
+        double high;
+        double low;
+        double volume;
+        long count;
+
+        void add(double price, double volume) {
+            if (count++ == 0) {
+                open = price;
+                high = price;
+                low = price;
+            } else {
+                high = Math.max(high, price);
+                low = Math.min(low, price);
+            }
+            close = price;
+            this.volume += volume;
+        }
+
+        void reset(long minute) {
+            this.minute = minute;
+            open = 0;
+            close = 0;
+            high = 0;
+            low = 0;
+            volume = 0;
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.crypto_trader.scheduler.domain;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 마켓 하나의 상위 단위 캔들 (1m -> 5m -> 10m / 15m -> 1h -> 4h -> 1d)
+ * - 마감된 캔들이 들어오면 그 단위를 parent 로 둔 단위의 진행 중인 캔들에 더하고,
+ *   구간의 마지막 캔들이면 상위 캔들을 마감해 다시 그 위 단위로 넘긴다. 캔들당 O(1)
+ * - 구간은 epoch minute 기준이다. 프로세스 시작 뒤 첫 구간은 시작 이후의 캔들로만 만든다.
+ * - 한 스레드(캔들 마감 스케줄러)에서만 사용해야 한다.
+ */
+public class CandleRollup {
+
+    private static final CandleUnit[] UNITS = CandleUnit.values();
+
+    // 단위마다 [long start][double open, close, high, low, volume][int count]
+    public static final int SNAPSHOT_BYTES = UNITS.length * (Long.BYTES + 5 * Double.BYTES + Integer.BYTES);
+
+    private final Bucket[] buckets = new Bucket[UNITS.length];
+
+    public CandleRollup() {
+        for (int i = 0; i < UNITS.length; i++)
+            buckets[i] = new Bucket();
+    }
+
+    /**
+     * 마감된 1분 캔들을 더하고, 그 캔들로 마감되는 상위 캔들을 낮은 단위부터 sink 로 넘긴다.
+     *
+     * @param minute 캔들의 분 (epoch minute)
+     */
+    public void add(long minute, CandleState candle, Sink sink) {
+        cascade(CandleUnit.ONEMINUTE, minute, candle, sink);
+    }
+
+    /**
+     * 모으는 중인 상위 단위 캔들을 SNAPSHOT_BYTES 만큼 out 에 쓴다.
+     */
+    public void writeSnapshot(ByteBuffer out) {
+        for (Bucket bucket : buckets) {
+            out.putLong(bucket.start);
+            out.putDouble(bucket.open);
+            out.putDouble(bucket.close);
+            out.putDouble(bucket.high);
+            out.putDouble(bucket.low);
+            out.putDouble(bucket.volume);
+            out.putInt(bucket.count);
+        }
+    }
+
+    public void readSnapshot(ByteBuffer in) {
+        for (Bucket bucket : buckets) {
+            bucket.start = in.getLong();
+            bucket.open = in.getDouble();
+            bucket.close = in.getDouble();
+            bucket.high = in.getDouble();
+            bucket.low = in.getDouble();
+            bucket.volume = in.getDouble();
+            bucket.count = in.getInt();
+        }
+    }
+
+    // private
+    private void cascade(CandleUnit from, long start, CandleState candle, Sink sink) {
+        for (CandleUnit unit : UNITS) {
+            if (unit.parent != from)
+                continue;
+
+            Bucket bucket = buckets[unit.ordinal()];
+            long bucketStart = Math.floorDiv(start, unit.num) * unit.num;
+            if (bucket.count > 0 && bucket.start != bucketStart) // 구간 끝의 캔들이 빠졌으면 모인 만큼으로 마감
+                close(unit, bucket, sink);
+
+            bucket.add(bucketStart, candle);
+            if (start + from.num == bucketStart + unit.num)
+                close(unit, bucket, sink);
+        }
+    }
+
+    private void close(CandleUnit unit, Bucket bucket, Sink sink) {
+        long start = bucket.start;
+        CandleState closed = new CandleState(bucket.open, bucket.close, bucket.high, bucket.low, bucket.volume,
+                CandleAccumulator.timeOf(start));
+        bucket.clear();
+
+        sink.accept(unit, closed);
+        cascade(unit, start, closed, sink);
+    }
+
+    @FunctionalInterface
+    public interface Sink {
+        void accept(CandleUnit unit, CandleState candle);
+    }
+
+    private static class Bucket {
+        long start;
+        double open;
+        double close;
+        double high;
+        double low;
+        double volume;
+        int count;
+
+        void add(long start, CandleState candle) {
+            if (count++ == 0) {
+                this.start = start;
+                open = candle.getOpen();
+                high = candle.getHigh();
+                low = candle.getLow();
+            } else {
+                high = Math.max(high, candle.getHigh());
+                low = Math.min(low, candle.getLow());
+            }
+            close = candle.getLast();
+            volume += candle.getVolume();
+        }
+
+        void clear() {
+            start = 0;
+            open = 0;
+            close = 0;
+            high = 0;
+            low = 0;
+            volume = 0;
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.crypto_trader.scheduler.domain;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.crypto_trader.scheduler.global.constant.RedisConst.CANDLE_BLOB;
+import static com.crypto_trader.scheduler.global.constant.RedisConst.MINUTE_CANDLE;
+
+/**
+ * Redis 캔들 키 샤딩: {unit}:minute_candle:{market}:{shard}
+ * - 1분 캔들은 한 시간(UTC)마다, 나머지 단위는 하루(UTC)마다 키를 나눈다. shard 는 구간 시작의 yyyyMMddHH / yyyyMMdd
+ * - 키 하나에는 구간 안의 캔들만 시간 순서로 쌓인다.
+ * - blob 배치(candle.redis.layout=blob)는 {unit}:candle_blob:{market}:{shard} 문자열 하나에 고정 크기 레코드를 슬롯 순서로 둔다.
+ */
+public final class CandleShard {
+
+    private static final DateTimeFormatter HOUR = DateTimeFormatter.ofPattern("yyyyMMddHH").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    public static final int MAX_SHARDS = 1024; // 한 번에 읽는 샤드 수 상한 (보관 기간보다 넉넉하게)
+
+    private CandleShard() {}
+
+    /**
+     * @return 샤드 하나가 담는 분 수
+     */
+    public static int spanOf(CandleUnit unit) {
+        return unit == CandleUnit.ONEMINUTE ? 60 : 1440;
+    }
+
+    /**
+     * @return minute(epoch minute)이 속한 샤드의 시작 분
+     */
+    public static long startOf(CandleUnit unit, long minute) {
+        int span = spanOf(unit);
+        return Math.floorDiv(minute, span) * span;
+    }
+
+    public static String prefixOf(CandleUnit unit, String market) {
+        return unit + MINUTE_CANDLE + market + ":";
+    }
+
+    public static String blobPrefixOf(CandleUnit unit, String market) {
+        return unit + CANDLE_BLOB + market + ":";
+    }
+
+    /**
+     * @return minute(epoch minute)의 캔들을 담는 키
+     */
+    public static String keyOf(CandleUnit unit, String market, long minute) {
+        return prefixOf(unit, market) + suffixOf(unit, minute);
+    }
+
+    /**
+     * @return minute(epoch minute)의 캔들을 담는 blob 키
+     */
+    public static String blobKeyOf(CandleUnit unit, String market, long minute) {
+        return blobPrefixOf(unit, market) + suffixOf(unit, minute);
+    }
+
+    /**
+     * @return minute 분 캔들의 샤드 안 위치 (unit 캔들 단위)
+     */
+    public static int slotOf(CandleUnit unit, long minute) {
+        return (int) ((minute - startOf(unit, minute)) / unit.num);
+    }
+
+    /**
+     * @return 샤드 하나의 슬롯 수
+     */
+    public static int slotsOf(CandleUnit unit) {
+        return spanOf(unit) / unit.num;
+    }
+
+    /**
+     * @return [fromMinute, toMinute] 구간에 걸친 샤드들의 시작 분 (오래된 것부터, 최대 MAX_SHARDS 개)
+     */
+    public static List<Long> startsBetween(CandleUnit unit, long fromMinute, long toMinute) {
+        List<Long> starts = new ArrayList<>();
+        for (long start = startOf(unit, fromMinute); start <= toMinute && starts.size() < MAX_SHARDS; start += spanOf(unit))
+            starts.add(start);
+        return starts;
+    }
+
+    /**
+     * 캔들 시각(시스템 시간대)의 epoch minute
+     */
+    public static long minuteOf(LocalDateTime time) {
+        return Math.floorDiv(time.atZone(ZoneId.systemDefault()).toEpochSecond(), 60);
+    }
+
+    // private
+    private static String suffixOf(CandleUnit unit, long minute) {
+        Instant start = Instant.ofEpochSecond(startOf(unit, minute) * 60);
+        return (unit == CandleUnit.ONEMINUTE ? HOUR : DAY).format(start);
+    }
+}
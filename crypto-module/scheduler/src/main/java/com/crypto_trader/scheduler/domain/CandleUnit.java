@@ -1,15 +1,24 @@
 package com.crypto_trader.scheduler.domain;
 
+/**
+ * 캔들 단위 (num 분). 상위 단위는 parent 단위의 마감된 캔들로 만든다. ({@link CandleRollup})
+ * - 모든 단위가 하루(1440분)를 나누므로 epoch minute 기준 구간이 UTC 기준 구간과 같다.
+ */
 public enum CandleUnit {
-    ONEMINUTE(1),
-    FIVEMINUTE(5),
-    TENMINUTE(10),
-    ONEHOUR(60),
+    ONEMINUTE(1, null),
+    FIVEMINUTE(5, ONEMINUTE),
+    TENMINUTE(10, FIVEMINUTE),
+    FIFTEENMINUTE(15, FIVEMINUTE),
+    ONEHOUR(60, FIFTEENMINUTE),
+    FOURHOUR(240, ONEHOUR),
+    ONEDAY(1440, FOURHOUR),
     ;
 
     final public int num;
+    final public CandleUnit parent;
 
-    CandleUnit(int num) {
+    CandleUnit(int num, CandleUnit parent) {
         this.num = num;
+        this.parent = parent;
     }
 }
@@ -0,0 +1,31 @@
+package com.crypto_trader.scheduler.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 디코더가 재사용하는 가변 호가 레코드 (호가 단계별 가격/잔량을 고정 크기 배열에 담는다)
+ * - 단계 0 이 최우선 호가
+ * - 한 스레드에서만 사용해야 한다.
+ */
+@Getter
+@Setter
+public class OrderBookRecord {
+    public static final int MAX_DEPTH = 30; // Upbit 최대 호가 단계
+
+    private String market; // 마켓 코드 (디코더가 intern 한 인스턴스)
+    private int marketId = -1; // 마켓 id (MarketIdRegistry, 모르면 -1)
+    private long timestamp; // 메시지 타임스탬프 (ms)
+    private int depth; // 채워진 호가 단계 수
+    private final double[] askPrices = new double[MAX_DEPTH];
+    private final double[] askSizes = new double[MAX_DEPTH];
+    private final double[] bidPrices = new double[MAX_DEPTH];
+    private final double[] bidSizes = new double[MAX_DEPTH];
+
+    public void clear() {
+        market = null;
+        marketId = -1;
+        timestamp = 0;
+        depth = 0;
+    }
+}
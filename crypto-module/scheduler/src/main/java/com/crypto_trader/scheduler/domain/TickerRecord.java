@@ -0,0 +1,55 @@
+package com.crypto_trader.scheduler.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 디코더가 재사용하는 가변 Ticker 레코드 (tick 마다 객체를 새로 만들지 않기 위함)
+ * - 한 스레드(웹소켓 세션 또는 Redis 리스너)에서만 사용해야 한다.
+ */
+@Getter
+@Setter
+public class TickerRecord {
+    private String market; // 마켓 코드 (디코더가 intern 한 인스턴스)
+    private int marketId = -1; // 마켓 id (MarketIdRegistry, 모르면 -1)
+    private double tradePrice; // 현재가
+    private double accTradePrice24h; // 24시간 누적 거래대금
+    private double signedChangePrice; // 전일 대비 값
+    private double signedChangeRate; // 전일 대비 등락율
+    private double highPrice; // 고가
+    private double lowPrice; // 저가
+    private double accTradeVolume24h; // 24시간 누적 거래량
+    private double accTradeVolume; // 당일 누적 거래량
+    private long tradeTimestamp; // 체결 타임스탬프 (ms)
+    private long timestamp; // 메시지 타임스탬프 (ms)
+
+    public void clear() {
+        market = null;
+        marketId = -1;
+        tradePrice = 0;
+        accTradePrice24h = 0;
+        signedChangePrice = 0;
+        signedChangeRate = 0;
+        highPrice = 0;
+        lowPrice = 0;
+        accTradeVolume24h = 0;
+        accTradeVolume = 0;
+        tradeTimestamp = 0;
+        timestamp = 0;
+    }
+
+    public void copyFrom(TickerRecord other) {
+        market = other.market;
+        marketId = other.marketId;
+        tradePrice = other.tradePrice;
+        accTradePrice24h = other.accTradePrice24h;
+        signedChangePrice = other.signedChangePrice;
+        signedChangeRate = other.signedChangeRate;
+        highPrice = other.highPrice;
+        lowPrice = other.lowPrice;
+        accTradeVolume24h = other.accTradeVolume24h;
+        accTradeVolume = other.accTradeVolume;
+        tradeTimestamp = other.tradeTimestamp;
+        timestamp = other.timestamp;
+    }
+}
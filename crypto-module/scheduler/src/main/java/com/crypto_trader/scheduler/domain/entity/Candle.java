@@ -1,19 +1,28 @@
 package com.crypto_trader.scheduler.domain.entity;
 
+import com.crypto_trader.scheduler.domain.CandleUnit;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
 
 import java.time.LocalDateTime;
 
+/**
+ * (market, unit, time) 이 캔들 하나를 가리키는 키다. time 은 구간 시작 시각
+ * - 시계열 컬렉션에 저장한다. (meta: market + unit, 분 단위 bucket)
+ * - 시계열 컬렉션은 unique 인덱스를 지원하지 않는다. 키의 유일성은 upsert 로 지킨다.
+ */
 @Getter
-@Document(collection = "candle")
+@TimeSeries(collection = "candle_series", timeField = "time", metaField = "meta", granularity = Granularity.MINUTES)
+@CompoundIndex(name = "market_unit_time", def = "{'meta.market': 1, 'meta.unit': 1, 'time': -1}")
 public class Candle {
 
     @Id
     private String id;
-    private String market;
+    private CandleMeta meta;
     private double open;
     private double close;
     private double high;
@@ -23,14 +32,22 @@ public class Candle {
 
     public Candle() {}
 
-    public Candle(String market, double open, double close, double high, double low, double volume) {
-        this.market = market;
+    public Candle(String market, CandleUnit unit, double open, double close, double high, double low, double volume, LocalDateTime time) {
+        this.meta = new CandleMeta(market, unit);
         this.open = open;
         this.close = close;
         this.high = high;
         this.low = low;
-        this.time = LocalDateTime.now().withSecond(0).withNano(0);
+        this.time = time;
         this.volume = volume;
     }
 
+    public String getMarket() {
+        return meta.getMarket();
+    }
+
+    public CandleUnit getUnit() {
+        return meta.getUnit();
+    }
+
 }
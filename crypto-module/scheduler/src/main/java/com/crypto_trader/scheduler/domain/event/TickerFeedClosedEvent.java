@@ -0,0 +1,16 @@
+package com.crypto_trader.scheduler.domain.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class TickerFeedClosedEvent extends ApplicationEvent {
+    private final int shard;
+    private final int feed;
+
+    public TickerFeedClosedEvent(Object source, int shard, int feed) {
+        super(source);
+        this.shard = shard;
+        this.feed = feed;
+    }
+}
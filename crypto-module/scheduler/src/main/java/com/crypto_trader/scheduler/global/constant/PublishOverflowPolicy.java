@@ -0,0 +1,13 @@
+package com.crypto_trader.scheduler.global.constant;
+
+/**
+ * ticker 발행 단계가 밀릴 때의 처리 방식 (ticker.publish.overflow)
+ * - BLOCK: 큐가 가득 차면 링 소비자를 멈춰 세운다. (링 -> 웹소켓 수신까지 역압, 유실 없음)
+ * - DROP_OLDEST: 큐가 가득 차면 가장 오래된 tick 을 버린다.
+ * - CONFLATE: 마켓별 최신 tick 만 남긴다. (마켓 수만큼만 메모리 사용)
+ */
+public enum PublishOverflowPolicy {
+    BLOCK,
+    DROP_OLDEST,
+    CONFLATE,
+}
@@ -5,4 +5,7 @@ public class RedisConst {
     public static final String MARKET = "market";
     public static final String REDIS_TICKER = "ticker";
     public static final String MINUTE_CANDLE = ":minute_candle:";
+    public static final String CANDLE_BLOB = ":candle_blob:";
+    public static final String ORDERBOOK = "orderbook";
+    public static final String ORDERBOOK_KEY = "orderbook:";
 }
@@ -0,0 +1,11 @@
+package com.crypto_trader.scheduler.global.constant;
+
+/**
+ * Redis ticker 채널로 발행하는 메시지 포맷 (ticker.publish.format)
+ * - JSON: Upbit 원본 프레임의 JSON 배열 (롤아웃 기간 호환용)
+ * - PROTOBUF: length-delimited PTicker 의 연속
+ */
+public enum TickerFormat {
+    JSON,
+    PROTOBUF,
+}
@@ -0,0 +1,11 @@
+package com.crypto_trader.scheduler.global.constant;
+
+/**
+ * ticker 수집 소스 (ticker.ingest.source)
+ * - LIVE: Upbit 웹소켓
+ * - REPLAY: 녹화된 tick tape (ticker.tape.dir)
+ */
+public enum TickerSource {
+    LIVE,
+    REPLAY,
+}
@@ -0,0 +1,93 @@
+package com.crypto_trader.scheduler.infra;
+
+import java.util.function.Consumer;
+
+/**
+ * 마켓별 캔들 마감 시각을 담는 hashed timing wheel
+ * - 슬롯 하나가 tickMs 를 맡고, 마감 시각(deadline)이 속한 슬롯의 연결 리스트에 항목을 건다.
+ * - advance 는 지난 슬롯만 돌며 deadline 이 지난 항목을 넘긴다. 마켓 수와 상관없이 슬롯당 걸린 항목만 본다.
+ * - 항목은 마켓마다 하나를 만들어 분마다 다시 건다. (할당 없음)
+ * - 한 스레드(캔들 마감 스케줄러)에서만 사용해야 한다.
+ */
+public class CandleCloseWheel {
+
+    private final Entry[] slots;
+    private final int mask;
+    private final long tickMs;
+
+    private long currentTick = Long.MIN_VALUE; // 마지막으로 처리한 tick
+    private int size;
+
+    /**
+     * @param tickMs 슬롯 하나가 맡는 시간 (ms)
+     * @param slots  슬롯 수 (2의 거듭제곱으로 올림, 한 바퀴가 1분 + grace 보다 길어야 한 번에 찾는다)
+     */
+    public CandleCloseWheel(long tickMs, int slots) {
+        int length = Integer.highestOneBit(Math.max(2, slots) - 1) << 1;
+        this.slots = new Entry[length];
+        this.mask = length - 1;
+        this.tickMs = Math.max(1, tickMs);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void schedule(Entry entry) {
+        long tick = entry.deadline / tickMs;
+        if (currentTick != Long.MIN_VALUE && tick <= currentTick)
+            tick = currentTick + 1; // 이미 지난 마감은 다음 advance 에서 처리
+
+        int slot = (int) (tick & mask);
+        entry.next = slots[slot];
+        slots[slot] = entry;
+        size++;
+    }
+
+    /**
+     * now 까지 지난 슬롯을 돌며 deadline <= now 인 항목을 꺼내 due 로 넘긴다.
+     * - due 안에서 다시 schedule 할 수 있다. (deadline 이 now 보다 뒤여야 한다)
+     */
+    public void advance(long now, Consumer<Entry> due) {
+        long nowTick = now / tickMs;
+        if (nowTick <= currentTick)
+            return;
+
+        // deadline 을 직접 비교하므로 한 바퀴 넘게 밀렸어도 한 바퀴만 돌면 된다
+        long from = currentTick == Long.MIN_VALUE ? nowTick - mask : Math.max(currentTick + 1, nowTick - mask);
+        currentTick = nowTick;
+
+        for (long tick = from; tick <= nowTick; tick++) {
+            int slot = (int) (tick & mask);
+            Entry entry = slots[slot];
+            slots[slot] = null;
+
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                size--;
+                if (entry.deadline <= now) {
+                    due.accept(entry);
+                } else { // 다음 바퀴
+                    entry.next = slots[slot];
+                    slots[slot] = entry;
+                    size++;
+                }
+                entry = next;
+            }
+        }
+    }
+
+    public static class Entry {
+        final int marketId;
+        long minute; // 다음에 마감할 분 (epoch minute)
+        long deadline; // 그 분의 마감 시각 (분 끝 + grace, ms)
+        Entry next;
+
+        public Entry(int marketId, long minute, long deadline) {
+            this.marketId = marketId;
+            this.minute = minute;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.CandleState;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static com.crypto_trader.scheduler.proto.DataModel.PCandle;
+import static com.crypto_trader.scheduler.proto.DataModel.PCandleV2;
+
+/**
+ * Redis 에 저장하는 캔들 항목의 인코딩 (candle.wire.version)
+ * - v1: PCandle (time 은 LocalDateTime 문자열), v2: PCandleV2 (time 은 epoch second)
+ * - 읽을 때는 두 형식을 모두 받는다. v1 항목을 PCandleV2 로 읽으면 문자열 time 은 모르는 필드가 되어 time 이 0 이다.
+ */
+public final class CandleCodec {
+
+    private CandleCodec() {}
+
+    public static byte[] encode(CandleState candle, int version) {
+        if (version >= 2) {
+            return PCandleV2.newBuilder()
+                    .setOpen(candle.getOpen())
+                    .setClose(candle.getLast())
+                    .setHigh(candle.getHigh())
+                    .setLow(candle.getLow())
+                    .setVolume(candle.getVolume())
+                    .setTime(candle.getTime().atZone(ZoneId.systemDefault()).toEpochSecond())
+                    .build()
+                    .toByteArray();
+        }
+        return PCandle.newBuilder()
+                .setOpen(candle.getOpen())
+                .setClose(candle.getLast())
+                .setHigh(candle.getHigh())
+                .setLow(candle.getLow())
+                .setVolume(candle.getVolume())
+                .setTime(candle.getTime().toString())
+                .build()
+                .toByteArray();
+    }
+
+    /**
+     * v1 / v2 항목을 PCandleV2 로 읽는다.
+     */
+    public static PCandleV2 decode(byte[] bytes) throws InvalidProtocolBufferException {
+        PCandleV2 candle = PCandleV2.parseFrom(bytes);
+        if (candle.getTime() != 0)
+            return candle;
+
+        PCandle v1 = PCandle.parseFrom(bytes);
+        return PCandleV2.newBuilder()
+                .setOpen(v1.getOpen())
+                .setClose(v1.getClose())
+                .setHigh(v1.getHigh())
+                .setLow(v1.getLow())
+                .setVolume(v1.getVolume())
+                .setTime(LocalDateTime.parse(v1.getTime()).atZone(ZoneId.systemDefault()).toEpochSecond())
+                .build();
+    }
+}
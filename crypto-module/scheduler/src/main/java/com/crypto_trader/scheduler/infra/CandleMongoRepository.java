@@ -1,44 +1,416 @@
 package com.crypto_trader.scheduler.infra;
 
+import com.crypto_trader.scheduler.domain.CandleAccumulator;
+import com.crypto_trader.scheduler.domain.CandleShard;
+import com.crypto_trader.scheduler.domain.CandleUnit;
 import com.crypto_trader.scheduler.domain.entity.Candle;
+import com.crypto_trader.scheduler.domain.entity.CandleBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Stream;
 
+@Slf4j
 @Repository
 public class CandleMongoRepository {
 
+    private static final String LEGACY_COLLECTION = "candle"; // 시계열 컬렉션 이전의 일반 컬렉션
+    private static final int MIGRATION_BATCH = 1000;
+
     private final MongoTemplate mongoTemplate;
+    private final boolean bucketed;
 
+    /**
+     * @param storage series: 캔들마다 시계열 컬렉션의 문서 하나, bucket: 마켓/단위/하루마다 문서 하나 ({@link CandleBucket})
+     */
     @Autowired
-    public CandleMongoRepository(MongoTemplate mongoTemplate) {
+    public CandleMongoRepository(MongoTemplate mongoTemplate,
+                                 @Value("${candle.mongo.storage:series}") String storage) {
         this.mongoTemplate = mongoTemplate;
+        this.bucketed = "bucket".equalsIgnoreCase(storage);
     }
 
+    /**
+     * (market, unit, time) 키로 저장한다. 같은 캔들을 다시 저장해도 한 번만 남는다. (재시도 / spill 재생에 안전)
+     * - 시계열 컬렉션의 upsert 는 MongoDB 7.0 이상이 필요하다.
+     */
     public void saveAll(final List<Candle> candles) {
+        if (bucketed) {
+            saveBuckets(candles);
+            return;
+        }
+
+        List<Pair<Query, Update>> upserts = new ArrayList<>(candles.size());
+        for (Candle candle : candles) {
+            Query key = new Query(Criteria.where("meta.market").is(candle.getMarket())
+                    .and("meta.unit").is(candle.getUnit())
+                    .and("time").is(candle.getTime()));
+            Update values = new Update()
+                    .set("open", candle.getOpen())
+                    .set("close", candle.getClose())
+                    .set("high", candle.getHigh())
+                    .set("low", candle.getLow())
+                    .set("volume", candle.getVolume());
+            upserts.add(Pair.of(key, values));
+        }
+
         BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Candle.class);
-        bulkOps.insert(candles);
+        bulkOps.upsert(upserts);
         bulkOps.execute();
     }
 
-    public List<Candle> findAllCandles() {
-        return mongoTemplate.findAll(Candle.class);
+    /**
+     * 캔들 시계열 컬렉션(meta: market + unit, time, 분 단위 bucket)과 (market, unit, time) 인덱스를 만든다.
+     * bucket 저장 방식이면 하루 문서의 (market, unit, day) 인덱스를 만든다.
+     *
+     * @return 만들었으면 (이미 있으면) true
+     */
+    public boolean ensureCollection() {
+        try {
+            if (bucketed) {
+                mongoTemplate.indexOps(CandleBucket.class).ensureIndex(new Index()
+                        .named("market_unit_day")
+                        .on("market", Sort.Direction.ASC)
+                        .on("unit", Sort.Direction.ASC)
+                        .on("day", Sort.Direction.DESC));
+                return true;
+            }
+
+            if (!mongoTemplate.collectionExists(Candle.class))
+                mongoTemplate.createCollection(Candle.class); // @TimeSeries 옵션으로 만든다
+            mongoTemplate.indexOps(Candle.class).ensureIndex(new Index()
+                    .named("market_unit_time")
+                    .on("meta.market", Sort.Direction.ASC)
+                    .on("meta.unit", Sort.Direction.ASC)
+                    .on("time", Sort.Direction.DESC));
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to create candle collection: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 1회성 마이그레이션 (일반 컬렉션): unit 이 없는 문서를 1분 캔들로 표시하고, 같은 (market, unit, time) 의 문서를 하나로 합친다.
+     * - 예전 스케줄러는 3초마다 같은 분의 조각을 따로 저장했으므로 조각들을 저장 순서(_id)대로 합친다.
+     *   (시가는 첫 조각, 종가는 마지막 조각, 고가/저가는 최대/최소, 거래량은 합)
+     * - 첫 문서를 합친 값으로 바꾸고 나머지는 지운다.
+     *
+     * @return 지운 문서 수
+     */
+    public long mergeDuplicates() {
+        mongoTemplate.updateMulti(new Query(Criteria.where("unit").exists(false)),
+                new Update().set("unit", CandleUnit.ONEMINUTE.name()), LEGACY_COLLECTION);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.sort(Sort.Direction.ASC, "_id"),
+                Aggregation.group("market", "unit", "time")
+                        .count().as("count")
+                        .push("_id").as("ids")
+                        .first("open").as("open")
+                        .last("close").as("close")
+                        .max("high").as("high")
+                        .min("low").as("low")
+                        .sum("volume").as("volume"),
+                Aggregation.match(Criteria.where("count").gt(1))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long removed = 0;
+        List<Document> groups = new ArrayList<>(MIGRATION_BATCH);
+        try (Stream<Document> stream = mongoTemplate.aggregateStream(aggregation, LEGACY_COLLECTION, Document.class)) {
+            for (Document group : (Iterable<Document>) stream::iterator) {
+                groups.add(group);
+                if (groups.size() == MIGRATION_BATCH) {
+                    removed += merge(groups);
+                    groups.clear();
+                }
+            }
+        }
+        removed += merge(groups);
+        log.debug("Merged duplicate candles, removed {} documents", removed);
+        return removed;
+    }
+
+    /**
+     * 1회성 마이그레이션: 일반 컬렉션의 캔들을 시계열 컬렉션으로 옮긴다. ({@link #mergeDuplicates()} 를 먼저 실행한다)
+     * - upsert 로 옮기므로 중간에 끊겨도 다시 실행하면 된다. 일반 컬렉션은 지우지 않는다.
+     *
+     * @return 옮긴 캔들 수
+     */
+    public long migrateLegacy() {
+        if (!mongoTemplate.collectionExists(LEGACY_COLLECTION))
+            return 0;
+
+        long migrated = 0;
+        List<Candle> batch = new ArrayList<>(MIGRATION_BATCH);
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "_id"));
+        try (Stream<Document> stream = mongoTemplate.stream(query, Document.class, LEGACY_COLLECTION)) {
+            for (Document document : (Iterable<Document>) stream::iterator) {
+                batch.add(fromLegacy(document));
+                if (batch.size() == MIGRATION_BATCH) {
+                    saveAll(batch);
+                    migrated += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            saveAll(batch);
+            migrated += batch.size();
+        }
+        log.debug("Migrated {} candles to the time-series collection", migrated);
+        return migrated;
     }
 
-    public List<Candle> findCandlesByMarket(String market) {
-        Query query = new Query(Criteria.where("market").is(market));
+    /**
+     * [from, to) 구간의 캔들을 time 순서(direction)로 최대 limit 개 읽는다. (market_unit_time 인덱스, limit 은 서버에서 적용)
+     *
+     * @param from null 이면 처음부터
+     * @param to   null 이면 끝까지
+     */
+    public List<Candle> findCandles(String market, CandleUnit unit, LocalDateTime from, LocalDateTime to,
+                                    Sort.Direction direction, int limit) {
+        if (bucketed)
+            return findBucketCandles(market, unit, from, to, direction, limit);
+
+        Criteria criteria = Criteria.where("meta.market").is(market).and("meta.unit").is(unit);
+        if (from != null || to != null) {
+            Criteria time = criteria.and("time");
+            if (from != null)
+                time.gte(from);
+            if (to != null)
+                time.lt(to);
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(direction, "time"))
+                .limit(limit);
         return mongoTemplate.find(query, Candle.class);
     }
 
-    public List<Candle> findCandlesByMarketAndTime(String market, LocalDateTime startTime) {
+    /**
+     * 가장 최근 limit 개의 캔들을 오래된 것부터 돌려준다. (limit 은 서버에서 적용)
+     * - Mongo 에는 1분 캔들만 저장된다. 상위 단위는 마지막으로 마감된 구간까지 limit 개 구간의 1분 캔들을 묶어 만든다.
+     *   (series: $dateTrunc 로 서버에서 묶는다, bucket: 하루 문서를 커서로 읽으며 묶는다)
+     * - 진행 중인 상위 단위 구간은 제외한다. 마감되면 스케줄러가 저장한다.
+     */
+    public List<Candle> findLatestCandles(String market, CandleUnit unit, int limit) {
+        if (limit <= 0)
+            return new ArrayList<>();
+
+        if (unit == CandleUnit.ONEMINUTE) {
+            List<Candle> candles = new ArrayList<>(findCandles(market, unit, null, null, Sort.Direction.DESC, limit));
+            Collections.reverse(candles);
+            return candles;
+        }
+
+        long end = Math.floorDiv(System.currentTimeMillis() / 60_000, unit.num) * unit.num;
+        LocalDateTime from = CandleAccumulator.timeOf(end - (long) limit * unit.num);
+        LocalDateTime to = CandleAccumulator.timeOf(end);
+        return bucketed ? rollupBuckets(market, unit, from, to, limit) : rollupSeries(market, unit, from, to, limit);
+    }
+
+    // private
+    /**
+     * 캔들마다 하루 문서의 배열 끝에 붙인다. 이미 있는 offset 이면 그대로 둔다. (파이프라인 update)
+     * - ORDERED 로 보내 같은 문서 안에서 저장 순서(보통 시간 순서)를 지킨다.
+     */
+    private void saveBuckets(List<Candle> candles) {
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, CandleBucket.class);
+        for (Candle candle : candles) {
+            LocalDateTime day = CandleBucket.dayOf(candle.getTime());
+            int offset = CandleBucket.offsetOf(day, candle.getTime());
+
+            // 파이프라인 stage 는 매핑을 거치지 않으므로 Spring 과 같은 방식(시스템 시간대)으로 Date 를 만든다
+            Document key = new Document("market", candle.getMarket())
+                    .append("unit", candle.getUnit().name())
+                    .append("day", Date.from(day.atZone(ZoneId.systemDefault()).toInstant()))
+                    .append("append", new Document("$not", List.of(
+                            new Document("$in", List.of(offset, new Document("$ifNull", List.of("$offsets", List.of())))))));
+            Document values = new Document("offsets", appendIf("offsets", offset))
+                    .append("opens", appendIf("opens", candle.getOpen()))
+                    .append("highs", appendIf("highs", candle.getHigh()))
+                    .append("lows", appendIf("lows", candle.getLow()))
+                    .append("closes", appendIf("closes", candle.getClose()))
+                    .append("volumes", appendIf("volumes", candle.getVolume()));
+
+            List<AggregationOperation> pipeline = List.of(
+                    context -> new Document("$set", key),
+                    context -> new Document("$set", values),
+                    context -> new Document("$unset", "append"));
+            bulkOps.upsert(new Query(Criteria.where("_id").is(CandleBucket.idOf(candle.getMarket(), candle.getUnit(), day))),
+                    AggregationUpdate.from(pipeline));
+        }
+        bulkOps.execute();
+    }
+
+    // append 가 참이면 배열 끝에 value 를 붙인다
+    private static Document appendIf(String field, Object value) {
+        return new Document("$cond", List.of("$append",
+                new Document("$concatArrays", List.of(new Document("$ifNull", List.of("$" + field, List.of())), List.of(value))),
+                "$" + field));
+    }
+
+    // 하루 문서를 direction 순서로 읽으며 구간을 잘라낸다. limit 개가 모이면 커서를 닫는다.
+    private List<Candle> findBucketCandles(String market, CandleUnit unit, LocalDateTime from, LocalDateTime to,
+                                           Sort.Direction direction, int limit) {
+        Criteria criteria = Criteria.where("market").is(market).and("unit").is(unit);
+        if (from != null || to != null) {
+            Criteria day = criteria.and("day");
+            if (from != null)
+                day.gte(CandleBucket.dayOf(from));
+            if (to != null)
+                day.lt(to);
+        }
+        Query query = new Query(criteria).with(Sort.by(direction, "day"));
+
+        List<Candle> candles = new ArrayList<>();
+        if (limit <= 0)
+            return candles;
+        try (Stream<CandleBucket> stream = mongoTemplate.stream(query, CandleBucket.class)) {
+            for (CandleBucket bucket : (Iterable<CandleBucket>) stream::iterator) {
+                List<Candle> slice = bucket.slice(from, to);
+                if (direction == Sort.Direction.DESC)
+                    Collections.reverse(slice);
+                for (Candle candle : slice) {
+                    candles.add(candle);
+                    if (candles.size() == limit)
+                        return candles;
+                }
+            }
+        }
+        return candles;
+    }
+
+    // [from, to) 의 1분 캔들을 unit 구간($dateTrunc, UTC 기준이므로 epoch minute 구간과 같다)으로 묶어 최근 limit 개를 읽는다
+    private List<Candle> rollupSeries(String market, CandleUnit unit, LocalDateTime from, LocalDateTime to, int limit) {
+        Document group = new Document("_id", new Document("$dateTrunc", new Document("date", "$time")
+                .append("unit", "minute")
+                .append("binSize", unit.num)))
+                .append("open", new Document("$first", "$open"))
+                .append("close", new Document("$last", "$close"))
+                .append("high", new Document("$max", "$high"))
+                .append("low", new Document("$min", "$low"))
+                .append("volume", new Document("$sum", "$volume"));
+        Aggregation aggregation = Aggregation.newAggregation(Candle.class,
+                Aggregation.match(Criteria.where("meta.market").is(market)
+                        .and("meta.unit").is(CandleUnit.ONEMINUTE)
+                        .and("time").gte(from).lt(to)),
+                Aggregation.sort(Sort.Direction.ASC, "time"),
+                context -> new Document("$group", group),
+                Aggregation.sort(Sort.Direction.DESC, "_id"),
+                Aggregation.limit(limit)
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        List<Candle> candles = new ArrayList<>(limit);
+        try (Stream<Document> stream = mongoTemplate.aggregateStream(aggregation, mongoTemplate.getCollectionName(Candle.class), Document.class)) {
+            for (Document document : (Iterable<Document>) stream::iterator) {
+                candles.add(new Candle(market, unit,
+                        ((Number) document.get("open")).doubleValue(),
+                        ((Number) document.get("close")).doubleValue(),
+                        ((Number) document.get("high")).doubleValue(),
+                        ((Number) document.get("low")).doubleValue(),
+                        ((Number) document.get("volume")).doubleValue(),
+                        LocalDateTime.ofInstant(document.getDate("_id").toInstant(), ZoneId.systemDefault())));
+            }
+        }
+        Collections.reverse(candles);
+        return candles;
+    }
+
+    // 하루 문서를 시간 순서로 읽으며 [from, to) 의 1분 캔들을 unit 구간으로 묶는다. 최근 limit 개만 남긴다.
+    private List<Candle> rollupBuckets(String market, CandleUnit unit, LocalDateTime from, LocalDateTime to, int limit) {
         Query query = new Query(Criteria.where("market").is(market)
-                .and("time").gte(startTime));  // 48시간 이내의 데이터
-        return mongoTemplate.find(query, Candle.class);
+                .and("unit").is(CandleUnit.ONEMINUTE)
+                .and("day").gte(CandleBucket.dayOf(from)).lt(to))
+                .with(Sort.by(Sort.Direction.ASC, "day"));
+
+        ArrayDeque<Candle> candles = new ArrayDeque<>(limit + 1);
+        long start = Long.MIN_VALUE;
+        double open = 0, close = 0, high = 0, low = 0, volume = 0;
+        try (Stream<CandleBucket> stream = mongoTemplate.stream(query, CandleBucket.class)) {
+            for (CandleBucket bucket : (Iterable<CandleBucket>) stream::iterator) {
+                for (Candle candle : bucket.slice(from, to)) {
+                    long minute = Math.floorDiv(CandleShard.minuteOf(candle.getTime()), unit.num) * unit.num;
+                    if (minute != start) {
+                        if (start != Long.MIN_VALUE)
+                            addLast(candles, new Candle(market, unit, open, close, high, low, volume, CandleAccumulator.timeOf(start)), limit);
+                        start = minute;
+                        open = candle.getOpen();
+                        high = candle.getHigh();
+                        low = candle.getLow();
+                        volume = 0;
+                    }
+                    high = Math.max(high, candle.getHigh());
+                    low = Math.min(low, candle.getLow());
+                    close = candle.getClose();
+                    volume += candle.getVolume();
+                }
+            }
+        }
+        if (start != Long.MIN_VALUE)
+            addLast(candles, new Candle(market, unit, open, close, high, low, volume, CandleAccumulator.timeOf(start)), limit);
+        return new ArrayList<>(candles);
+    }
+
+    private static void addLast(ArrayDeque<Candle> candles, Candle candle, int limit) {
+        candles.addLast(candle);
+        if (candles.size() > limit)
+            candles.removeFirst();
+    }
+
+    private long merge(List<Document> groups) {
+        if (groups.isEmpty())
+            return 0;
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LEGACY_COLLECTION);
+        long removed = 0;
+        for (Document group : groups) {
+            List<ObjectId> ids = group.getList("ids", ObjectId.class);
+            bulkOps.updateOne(new Query(Criteria.where("_id").is(ids.get(0))), new Update()
+                    .set("open", group.get("open"))
+                    .set("close", group.get("close"))
+                    .set("high", group.get("high"))
+                    .set("low", group.get("low"))
+                    .set("volume", group.get("volume")));
+            bulkOps.remove(new Query(Criteria.where("_id").in(ids.subList(1, ids.size()))));
+            removed += ids.size() - 1;
+        }
+        bulkOps.execute();
+        return removed;
+    }
+
+    private static Candle fromLegacy(Document document) {
+        String unit = document.getString("unit");
+        return new Candle(document.getString("market"),
+                unit == null ? CandleUnit.ONEMINUTE : CandleUnit.valueOf(unit),
+                ((Number) document.get("open")).doubleValue(),
+                ((Number) document.get("close")).doubleValue(),
+                ((Number) document.get("high")).doubleValue(),
+                ((Number) document.get("low")).doubleValue(),
+                ((Number) document.get("volume")).doubleValue(),
+                LocalDateTime.ofInstant(document.getDate("time").toInstant(), ZoneId.systemDefault()));
     }
 }
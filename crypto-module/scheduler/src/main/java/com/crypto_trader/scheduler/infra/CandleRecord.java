@@ -0,0 +1,57 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.CandleState;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.crypto_trader.scheduler.proto.DataModel.PCandleV2;
+
+/**
+ * Redis blob 배치의 고정 크기 캔들 레코드 ({@link com.crypto_trader.scheduler.domain.CandleShard})
+ * - [long time(epoch second)][double open, high, low, close, volume] (big-endian, 48 bytes)
+ * - 슬롯 i 의 레코드는 [i * SIZE, (i + 1) * SIZE) 에 있다. 쓰지 않은 슬롯은 0 으로 채워져 있다. (time == 0)
+ */
+public final class CandleRecord {
+
+    public static final int SIZE = 48;
+
+    private CandleRecord() {}
+
+    public static void write(ByteBuffer buffer, CandleState candle) {
+        buffer.putLong(candle.getTime().atZone(ZoneId.systemDefault()).toEpochSecond())
+                .putDouble(candle.getOpen())
+                .putDouble(candle.getHigh())
+                .putDouble(candle.getLow())
+                .putDouble(candle.getLast())
+                .putDouble(candle.getVolume());
+    }
+
+    /**
+     * buffer 에 남은 온전한 레코드를 모두 읽는다. (빈 슬롯은 건너뛴다)
+     */
+    public static List<PCandleV2> readAll(ByteBuffer buffer) {
+        List<PCandleV2> candles = new ArrayList<>(buffer.remaining() / SIZE);
+        while (buffer.remaining() >= SIZE) {
+            long time = buffer.getLong();
+            double open = buffer.getDouble();
+            double high = buffer.getDouble();
+            double low = buffer.getDouble();
+            double close = buffer.getDouble();
+            double volume = buffer.getDouble();
+            if (time == 0)
+                continue;
+            candles.add(PCandleV2.newBuilder()
+                    .setTime(time)
+                    .setOpen(open)
+                    .setHigh(high)
+                    .setLow(low)
+                    .setClose(close)
+                    .setVolume(volume)
+                    .build());
+        }
+        return candles;
+    }
+}
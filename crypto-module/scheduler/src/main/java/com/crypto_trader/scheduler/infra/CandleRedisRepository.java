@@ -1,73 +1,233 @@
 package com.crypto_trader.scheduler.infra;
 
+import com.crypto_trader.scheduler.domain.CandleShard;
 import com.crypto_trader.scheduler.domain.CandleState;
 import com.crypto_trader.scheduler.domain.CandleUnit;
-import com.crypto_trader.scheduler.proto.DataModel;
+import com.crypto_trader.scheduler.global.constant.TickerSource;
 import com.google.protobuf.InvalidProtocolBufferException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
-import static com.crypto_trader.scheduler.global.constant.RedisConst.MINUTE_CANDLE;
-import static com.crypto_trader.scheduler.proto.DataModel.*;
+import static com.crypto_trader.scheduler.proto.DataModel.PCandleV2;
 
 @Slf4j
 @Repository
 public class CandleRedisRepository {
 
     private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final long minuteRetentionMinutes;
+    private final long retentionMinutes;
+    private final int wireVersion;
+    private final boolean blob;
+    private final boolean replay;
 
+    /**
+     * @param wireVersion 캔들 항목 형식 ({@link CandleCodec}). api-server 와 클라이언트가 v2 를 읽을 수 있을 때 2 로 올린다.
+     * @param layout      list: 샤드마다 캔들 리스트, blob: 샤드마다 고정 크기 레코드({@link CandleRecord})를 담은 문자열 하나
+     * @param source      REPLAY 면 만료 시각을 캔들 시각이 아닌 지금 시각 기준으로 잡는다. ({@link TickTapeReplayer})
+     */
     @Autowired
-    public CandleRedisRepository(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate) {
+    public CandleRedisRepository(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                                 @Value("${candle.redis.minute-retention-hours:48}") long minuteRetentionHours,
+                                 @Value("${candle.redis.retention-days:30}") long retentionDays,
+                                 @Value("${candle.wire.version:1}") int wireVersion,
+                                 @Value("${candle.redis.layout:list}") String layout,
+                                 @Value("${ticker.ingest.source:LIVE}") TickerSource source) {
         this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.minuteRetentionMinutes = minuteRetentionHours * 60;
+        this.retentionMinutes = retentionDays * 1440;
+        this.wireVersion = wireVersion;
+        this.blob = "blob".equalsIgnoreCase(layout);
+        this.replay = source == TickerSource.REPLAY;
     }
 
-    public void saveMinuteCandle(String market, CandleState candleState, CandleUnit unit) {
-        String key = unit + MINUTE_CANDLE + market;
-
-        PCandle pCandle = new PCandle.Builder()
-                .setOpen(candleState.getOpen())
-                .setClose(candleState.getLast())
-                .setHigh(candleState.getHigh())
-                .setLow(candleState.getLow())
-                .setVolume(candleState.getVolume())
-                .setTime(candleState.getTime().toString())
-                .build();
-
-        byteArrayRedisTemplate.opsForList()
-                .rightPush(key, pCandle.toByteArray())  // 데이터를 리스트에 추가
-//                    .flatMap(result -> {
-//                        // 2. TTL 설정 (48시간)
-//                        return redisTemplate.expire(key, Duration.ofHours(48));  // 48시간 TTL 설정
-//                    })
-                .doOnSuccess(success -> {
-                })
-                .doOnError(error -> {log.debug(error.getMessage());})
-                .subscribe();
-    }
-
-    public Mono<List<CandleState>> getOneMinuteCandle(String market) {
-        String key = CandleUnit.ONEMINUTE + MINUTE_CANDLE + market;
-        return byteArrayRedisTemplate.opsForList().range(key, 0, -1)
-                .<CandleState>handle((bytes, sink) -> {
-                    try {
-                        PCandle candle = PCandle.parseFrom(bytes);
-                        CandleState candleState = new CandleState(
-                                candle.getOpen(),
-                                candle.getClose(),
-                                candle.getHigh(),
-                                candle.getLow(),
-                                candle.getVolume()
-                        );
-                        sink.next(candleState);
-                    } catch (InvalidProtocolBufferException e) {
-                        throw new RuntimeException(e);
+    /**
+     * 한 번의 마감에서 나온 캔들을 모두 저장한다.
+     * - list: 샤드 키({@link CandleShard})마다 RPUSH 하나로 묶는다. (키 안의 순서는 candles 순서)
+     * - blob: 캔들 레코드를 샤드 시작으로부터의 슬롯 위치에 SETRANGE 로 쓴다. 이어진 슬롯은 SETRANGE 하나로 묶는다.
+     *   같은 캔들을 다시 써도 같은 자리를 덮어쓸 뿐이다.
+     * - 모든 명령과 EXPIREAT 을 한 연결에서 응답을 기다리지 않고 연달아 보낸다. (pipelining)
+     * - 샤드는 구간이 끝나고 보관 기간(1분 캔들 candle.redis.minute-retention-hours, 나머지 candle.redis.retention-days)이 지나면 지워진다.
+     *   REPLAY 에서는 녹화 당시 시각의 샤드가 쓰자마자 만료되지 않도록 구간 끝이 지났으면 지금부터 보관 기간을 센다.
+     * - 실패한 키가 있어도 나머지는 계속 저장한다.
+     *
+     * @return 모든 응답을 받으면 완료되는 결과 (실패한 키는 failures 에 담긴다)
+     */
+    public Mono<BatchResult> saveCandles(List<CandleWrite> candles) {
+        if (candles.isEmpty())
+            return Mono.just(new BatchResult(0, Map.of()));
+        return blob ? saveBlobs(candles) : saveLists(candles);
+    }
+
+    /**
+     * [fromMinute, toMinute] 구간의 캔들을 오래된 것부터 읽는다. (epoch minute, 포함)
+     * - 구간에 걸친 샤드를 모두 한꺼번에 읽고 (pipelining) 샤드 순서대로 이어 붙인다.
+     * - list: 샤드마다 LRANGE, 구간에 일부만 걸친 첫/끝 샤드는 캔들 시각으로 잘라낸다.
+     * - blob: 샤드마다 구간에 해당하는 바이트만 GETRANGE 로 읽는다.
+     */
+    public Flux<PCandleV2> findCandles(String market, CandleUnit unit, long fromMinute, long toMinute) {
+        return Flux.fromIterable(CandleShard.startsBetween(unit, fromMinute, toMinute))
+                .flatMapSequential(start -> blob
+                        ? readBlob(market, unit, start, fromMinute, toMinute)
+                        : readList(market, unit, start, fromMinute, toMinute));
+    }
+
+    // private
+    private Mono<BatchResult> saveLists(List<CandleWrite> candles) {
+        Map<String, Push> pushes = new LinkedHashMap<>();
+        for (CandleWrite candle : candles) {
+            long minute = CandleShard.minuteOf(candle.candle().getTime());
+            pushes.computeIfAbsent(CandleShard.keyOf(candle.unit(), candle.market(), minute),
+                            key -> new Push(new ArrayList<>(), expireAtOf(candle.unit(), minute)))
+                    .values().add(ByteBuffer.wrap(CandleCodec.encode(candle.candle(), wireVersion)));
+        }
+
+        return collect(byteArrayRedisTemplate.execute(connection -> Flux.fromIterable(pushes.entrySet())
+                .flatMap(push -> {
+                    ByteBuffer key = ByteBuffer.wrap(push.getKey().getBytes(StandardCharsets.UTF_8));
+                    List<ByteBuffer> values = push.getValue().values();
+                    return Mono.zip(connection.listCommands().rPush(key, values),
+                                    connection.keyCommands().expireAt(key.duplicate(), push.getValue().expireAt()))
+                            .map(replies -> new KeyResult(push.getKey(), values.size(), null))
+                            .onErrorResume(error -> Mono.just(new KeyResult(push.getKey(), 0, error.getMessage())));
+                }, pushes.size())));
+    }
+
+    private Mono<BatchResult> saveBlobs(List<CandleWrite> candles) {
+        Map<String, Blob> blobs = new LinkedHashMap<>();
+        for (CandleWrite candle : candles) {
+            long minute = CandleShard.minuteOf(candle.candle().getTime());
+            blobs.computeIfAbsent(CandleShard.blobKeyOf(candle.unit(), candle.market(), minute),
+                            key -> new Blob(new TreeMap<>(), expireAtOf(candle.unit(), minute)))
+                    .records().put(CandleShard.slotOf(candle.unit(), minute), candle.candle());
+        }
+
+        return collect(byteArrayRedisTemplate.execute(connection -> Flux.fromIterable(blobs.entrySet())
+                .flatMap(blob -> {
+                    ByteBuffer key = ByteBuffer.wrap(blob.getKey().getBytes(StandardCharsets.UTF_8));
+                    List<Mono<?>> commands = new ArrayList<>();
+                    for (Run run : runsOf(blob.getValue().records()))
+                        commands.add(connection.stringCommands().setRange(key.duplicate(), run.records(), (long) run.slot() * CandleRecord.SIZE));
+                    commands.add(connection.keyCommands().expireAt(key.duplicate(), blob.getValue().expireAt()));
+                    return Mono.when(commands)
+                            .thenReturn(new KeyResult(blob.getKey(), blob.getValue().records().size(), null))
+                            .onErrorResume(error -> Mono.just(new KeyResult(blob.getKey(), 0, error.getMessage())));
+                }, blobs.size())));
+    }
+
+    // 이어진 슬롯의 레코드를 버퍼 하나로 묶는다
+    private static List<Run> runsOf(TreeMap<Integer, CandleState> records) {
+        List<Run> runs = new ArrayList<>();
+        List<CandleState> run = new ArrayList<>();
+        int first = -1;
+        int next = -1;
+        for (Map.Entry<Integer, CandleState> record : records.entrySet()) {
+            if (record.getKey() != next && !run.isEmpty()) {
+                runs.add(new Run(first, toBuffer(run)));
+                run.clear();
+            }
+            if (run.isEmpty())
+                first = record.getKey();
+            run.add(record.getValue());
+            next = record.getKey() + 1;
+        }
+        if (!run.isEmpty())
+            runs.add(new Run(first, toBuffer(run)));
+        return runs;
+    }
+
+    private static ByteBuffer toBuffer(List<CandleState> candles) {
+        ByteBuffer buffer = ByteBuffer.allocate(candles.size() * CandleRecord.SIZE);
+        for (CandleState candle : candles)
+            CandleRecord.write(buffer, candle);
+        return buffer.flip();
+    }
+
+    private Mono<BatchResult> collect(Flux<KeyResult> results) {
+        return results.collectList()
+                .map(list -> {
+                    int written = 0;
+                    Map<String, String> failures = new LinkedHashMap<>();
+                    for (KeyResult result : list) {
+                        written += result.written();
+                        if (result.error() != null)
+                            failures.put(result.key(), result.error());
                     }
-                })
-                .collectList();
+                    return new BatchResult(written, failures);
+                });
+    }
+
+    private Flux<PCandleV2> readList(String market, CandleUnit unit, long start, long fromMinute, long toMinute) {
+        return byteArrayRedisTemplate.opsForList()
+                .range(CandleShard.keyOf(unit, market, start), 0, -1)
+                .map(CandleRedisRepository::decode)
+                .filter(candle -> {
+                    long minute = Math.floorDiv(candle.getTime(), 60);
+                    return minute >= fromMinute && minute <= toMinute;
+                });
+    }
+
+    private Flux<PCandleV2> readBlob(String market, CandleUnit unit, long start, long fromMinute, long toMinute) {
+        long fromSlot = Math.max(0, -Math.floorDiv(start - fromMinute, unit.num)); // 올림
+        long toSlot = Math.min(CandleShard.slotsOf(unit) - 1, Math.floorDiv(toMinute - start, unit.num));
+        if (fromSlot > toSlot)
+            return Flux.empty();
+
+        ByteBuffer key = ByteBuffer.wrap(CandleShard.blobKeyOf(unit, market, start).getBytes(StandardCharsets.UTF_8));
+        return byteArrayRedisTemplate.execute(connection -> connection.stringCommands()
+                        .getRange(key, fromSlot * CandleRecord.SIZE, (toSlot + 1) * CandleRecord.SIZE - 1))
+                .flatMapIterable(CandleRecord::readAll);
+    }
+
+    private Instant expireAtOf(CandleUnit unit, long minute) {
+        long end = CandleShard.startOf(unit, minute) + CandleShard.spanOf(unit);
+        if (replay)
+            end = Math.max(end, System.currentTimeMillis() / 60_000);
+        long retention = unit == CandleUnit.ONEMINUTE ? minuteRetentionMinutes : retentionMinutes;
+        return Instant.ofEpochSecond((end + retention) * 60);
+    }
+
+    private static PCandleV2 decode(byte[] bytes) {
+        try {
+            return CandleCodec.decode(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public record CandleWrite(String market, CandleUnit unit, CandleState candle) {
+    }
+
+    /**
+     * @param written  저장한 캔들 수
+     * @param failures 실패한 키 -> 오류 메시지
+     */
+    public record BatchResult(int written, Map<String, String> failures) {
+    }
+
+    private record Push(List<ByteBuffer> values, Instant expireAt) {
+    }
+
+    private record Blob(TreeMap<Integer, CandleState> records, Instant expireAt) {
+    }
+
+    private record Run(int slot, ByteBuffer records) {
+    }
+
+    private record KeyResult(String key, int written, String error) {
     }
 }
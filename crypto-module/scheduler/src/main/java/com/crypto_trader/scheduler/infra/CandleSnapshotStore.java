@@ -0,0 +1,207 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.CandleState;
+import com.crypto_trader.scheduler.domain.CandleUnit;
+import com.crypto_trader.scheduler.domain.entity.Candle;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+/**
+ * 진행 중인 캔들 상태({@link SimpleCandleRepository#writeSnapshot})를 memory-mapped 파일에 주기적으로, 그리고 종료할 때 쓴다. (candle.snapshot.*)
+ * - 파일은 같은 크기의 슬롯 두 개다. 쓸 때마다 다른 슬롯에 [본문]을 쓰고 [헤더]를 쓴 뒤 force 한다.
+ *   쓰다가 죽어도 다른 슬롯의 직전 스냅샷은 온전하다.
+ * - 헤더: [int magic][int version][long sequence][long 저장 시각(ms)][int 본문 길이][int 본문 CRC32]
+ * - 시작할 때 CRC 가 맞고 sequence 가 큰 슬롯을 읽는다. candle.snapshot.max-age-ms 보다 오래된 스냅샷은 버린다.
+ *   (그 사이 체결을 모르므로 빈 분을 직전 종가로 채우게 된다)
+ * - 스냅샷 I/O 오류가 수집을 막지 않도록 오류가 나면 로그를 남기고 스냅샷을 멈춘다.
+ */
+@Slf4j
+@Component
+public class CandleSnapshotStore {
+
+    static final int MAGIC = 0x43534e50; // "CSNP"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES + 2 * Integer.BYTES;
+
+    private final SimpleCandleRepository candleRepository;
+    private final CandleMongoRepository candleMongoRepository;
+    private final Path path;
+    private final long maxAgeMs;
+    private final int slotBytes;
+    private volatile boolean enabled;
+    private volatile boolean restored; // 복원 전에 빈 상태로 덮어쓰지 않는다
+
+    // save 는 스케줄러 스레드와 종료 훅에서 호출되므로 synchronized
+    private FileChannel channel;
+    private MappedByteBuffer file;
+    private ByteBuffer body;
+    private long sequence;
+
+    @Autowired
+    public CandleSnapshotStore(SimpleCandleRepository candleRepository,
+                               CandleMongoRepository candleMongoRepository,
+                               @Value("${candle.snapshot.enabled:true}") boolean enabled,
+                               @Value("${candle.snapshot.path:snapshot/candle-state.snap}") String path,
+                               @Value("${candle.snapshot.max-age-ms:120000}") long maxAgeMs) {
+        this.candleRepository = candleRepository;
+        this.candleMongoRepository = candleMongoRepository;
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.maxAgeMs = maxAgeMs;
+        this.slotBytes = HEADER_BYTES + candleRepository.snapshotBytes();
+    }
+
+    /**
+     * 마지막 스냅샷을 되돌린다. 마켓 id 가 정해진 뒤, 수집을 시작하기 전에 호출해야 한다.
+     * - 마켓마다 Mongo 의 마지막 1분 캔들과 비교한다. ({@link SimpleCandleRepository#restoreSnapshot})
+     *
+     * @return 되돌린 마켓 수
+     */
+    public synchronized int restore() {
+        restored = true;
+        if (!enabled)
+            return 0;
+
+        long startedAt = System.nanoTime();
+        try {
+            open();
+        } catch (IOException e) {
+            log.warn("Candle snapshot disabled: {}", e.getMessage());
+            enabled = false;
+            return 0;
+        }
+
+        int slot = latestSlot();
+        if (slot < 0) {
+            log.debug("No candle snapshot to restore");
+            return 0;
+        }
+
+        int base = slot * slotBytes;
+        sequence = file.getLong(base + 2 * Integer.BYTES);
+        long age = System.currentTimeMillis() - file.getLong(base + 2 * Integer.BYTES + Long.BYTES);
+        if (age > maxAgeMs) {
+            log.debug("Candle snapshot is too old ({} ms), skipping", age);
+            return 0;
+        }
+
+        int length = file.getInt(base + HEADER_BYTES - 2 * Integer.BYTES);
+        ByteBuffer in = file.slice(base + HEADER_BYTES, length);
+        int markets = candleRepository.restoreSnapshot(in, this::lastCandleOf);
+        log.debug("Restored candle state of {} markets from snapshot ({} ms old) in {} ms",
+                markets, age, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return markets;
+    }
+
+    @Scheduled(fixedDelayString = "${candle.snapshot.interval-ms:5000}")
+    public synchronized void save() {
+        if (!enabled || !restored)
+            return;
+
+        try {
+            open();
+        } catch (IOException e) {
+            log.warn("Candle snapshot disabled: {}", e.getMessage());
+            enabled = false;
+            return;
+        }
+
+        body.clear();
+        candleRepository.writeSnapshot(body);
+        body.flip();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+
+        long next = sequence + 1;
+        int base = (int) (next & 1) * slotBytes;
+        file.put(base + HEADER_BYTES, body, 0, body.limit());
+        file.putInt(base, MAGIC);
+        file.putInt(base + Integer.BYTES, VERSION);
+        file.putLong(base + 2 * Integer.BYTES, next);
+        file.putLong(base + 2 * Integer.BYTES + Long.BYTES, System.currentTimeMillis());
+        file.putInt(base + HEADER_BYTES - 2 * Integer.BYTES, body.limit());
+        file.putInt(base + HEADER_BYTES - Integer.BYTES, (int) crc.getValue());
+        file.force();
+        sequence = next;
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        save();
+        try {
+            if (channel != null)
+                channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close candle snapshot: {}", e.getMessage());
+        }
+        channel = null;
+        file = null;
+        enabled = false;
+    }
+
+    // private
+    private void open() throws IOException {
+        if (file != null)
+            return;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        file = channel.map(FileChannel.MapMode.READ_WRITE, 0, 2L * slotBytes);
+        body = ByteBuffer.allocate(slotBytes - HEADER_BYTES);
+    }
+
+    // 헤더와 CRC 가 맞는 슬롯 중 sequence 가 큰 것 (없으면 -1)
+    private int latestSlot() {
+        int latest = -1;
+        long latestSequence = Long.MIN_VALUE;
+        for (int slot = 0; slot < 2; slot++) {
+            int base = slot * slotBytes;
+            if (file.getInt(base) != MAGIC || file.getInt(base + Integer.BYTES) != VERSION)
+                continue;
+            int length = file.getInt(base + HEADER_BYTES - 2 * Integer.BYTES);
+            if (length <= 0 || length > slotBytes - HEADER_BYTES)
+                continue;
+            CRC32 crc = new CRC32();
+            crc.update(file.slice(base + HEADER_BYTES, length));
+            if ((int) crc.getValue() != file.getInt(base + HEADER_BYTES - Integer.BYTES))
+                continue;
+
+            long slotSequence = file.getLong(base + 2 * Integer.BYTES);
+            if (slotSequence > latestSequence) {
+                latest = slot;
+                latestSequence = slotSequence;
+            }
+        }
+        return latest;
+    }
+
+    // Mongo 의 마지막 1분 캔들 (읽지 못하면 스냅샷을 그대로 믿는다)
+    private CandleState lastCandleOf(String market) {
+        try {
+            List<Candle> candles = candleMongoRepository.findLatestCandles(market, CandleUnit.ONEMINUTE, 1);
+            if (candles.isEmpty())
+                return null;
+            Candle last = candles.get(0);
+            return new CandleState(last.getOpen(), last.getClose(), last.getHigh(), last.getLow(), last.getVolume(), last.getTime());
+        } catch (RuntimeException e) {
+            log.debug("Failed to read last candle of {}: {}", market, e.getMessage());
+            return null;
+        }
+    }
+}
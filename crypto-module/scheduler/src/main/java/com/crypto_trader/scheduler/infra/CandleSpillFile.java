@@ -0,0 +1,72 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.CandleUnit;
+import com.crypto_trader.scheduler.domain.entity.Candle;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mongo 에 쓰지 못한 캔들을 담아 두는 로컬 파일 ({@link CandleWriteBehind})
+ * - 레코드: [UTF 마켓][UTF 단위][double open, close, high, low, volume][UTF 시각(LocalDateTime)]
+ * - 쓰다 끊긴 마지막 레코드는 읽을 때 버린다.
+ */
+class CandleSpillFile {
+
+    static final String SUFFIX = ".spill";
+
+    private CandleSpillFile() {}
+
+    static void write(Path file, List<Candle> candles) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)))) {
+            for (Candle candle : candles) {
+                out.writeUTF(candle.getMarket());
+                out.writeUTF(candle.getUnit().name());
+                out.writeDouble(candle.getOpen());
+                out.writeDouble(candle.getClose());
+                out.writeDouble(candle.getHigh());
+                out.writeDouble(candle.getLow());
+                out.writeDouble(candle.getVolume());
+                out.writeUTF(candle.getTime().toString());
+            }
+        }
+    }
+
+    static List<Candle> read(Path file) throws IOException {
+        List<Candle> candles = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                String market;
+                try {
+                    market = in.readUTF();
+                } catch (EOFException e) {
+                    break;
+                }
+                try {
+                    CandleUnit unit = CandleUnit.valueOf(in.readUTF());
+                    double open = in.readDouble();
+                    double close = in.readDouble();
+                    double high = in.readDouble();
+                    double low = in.readDouble();
+                    double volume = in.readDouble();
+                    LocalDateTime time = LocalDateTime.parse(in.readUTF());
+                    candles.add(new Candle(market, unit, open, close, high, low, volume, time));
+                } catch (EOFException e) {
+                    break; // 끊긴 레코드
+                }
+            }
+        }
+        return candles;
+    }
+}
@@ -0,0 +1,252 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.entity.Candle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 마감된 캔들을 Mongo 에 비동기로 저장하는 write-behind 단계
+ * - offer 는 bounded 큐(candle.mongo.queue-capacity)에 넣기만 하고 바로 돌아온다. 캔들 마감은 Mongo 지연과 무관하다.
+ * - 전용 스레드가 candle.mongo.batch-size 개가 모이거나 candle.mongo.flush-ms 가 지나면 BulkOperations 로 저장한다.
+ * - 실패하면 지수 backoff 로 candle.mongo.max-retries 번까지 다시 시도하고, 그래도 실패하면 배치를 spill 파일에 쓴다.
+ *   큐가 가득 차도 spill 파일에 쓴다. spill 파일은 시작할 때와 저장에 성공한 뒤 다시 Mongo 로 옮긴다.
+ */
+@Slf4j
+@Component
+public class CandleWriteBehind {
+
+    private final CandleMongoRepository candleMongoRepository;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushMs;
+    private final int maxRetries;
+    private final long backoffMs;
+    private final long maxBackoffMs;
+    private final Path spillDir;
+
+    private final AtomicLong oldestPendingAt = new AtomicLong(); // 0 이면 대기 중인 캔들 없음
+    private volatile boolean spilled;
+    private volatile boolean running;
+    private Thread thread;
+
+    // metrics
+    private final Counter written;
+    private final Counter retries;
+    private final Counter spilledCandles;
+    private final Timer lag;
+
+    @Autowired
+    public CandleWriteBehind(CandleMongoRepository candleMongoRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${candle.mongo.queue-capacity:100000}") int queueCapacity,
+                             @Value("${candle.mongo.batch-size:1000}") int batchSize,
+                             @Value("${candle.mongo.flush-ms:1000}") long flushMs,
+                             @Value("${candle.mongo.max-retries:5}") int maxRetries,
+                             @Value("${candle.mongo.backoff-ms:200}") long backoffMs,
+                             @Value("${candle.mongo.max-backoff-ms:10000}") long maxBackoffMs,
+                             @Value("${candle.mongo.spill-dir:candle-spill}") String spillDir) {
+        this.candleMongoRepository = candleMongoRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushMs = Math.max(1, flushMs);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.backoffMs = Math.max(1, backoffMs);
+        this.maxBackoffMs = Math.max(this.backoffMs, maxBackoffMs);
+        this.spillDir = Path.of(spillDir);
+
+        this.written = Counter.builder("candle.mongo.written")
+                .description("Mongo 에 저장한 캔들 수")
+                .register(meterRegistry);
+        this.retries = Counter.builder("candle.mongo.retries")
+                .description("Mongo 저장 재시도 수")
+                .register(meterRegistry);
+        this.spilledCandles = Counter.builder("candle.mongo.spilled")
+                .description("spill 파일에 쓴 캔들 수")
+                .register(meterRegistry);
+        this.lag = Timer.builder("candle.mongo.lag")
+                .description("캔들을 큐에 넣은 뒤 Mongo 에 저장되기까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("candle.mongo.queue.depth", queue, BlockingQueue::size)
+                .description("Mongo 저장을 기다리는 캔들 수")
+                .register(meterRegistry);
+        Gauge.builder("candle.mongo.queue.age", oldestPendingAt,
+                        oldest -> oldest.get() == 0 ? 0 : System.currentTimeMillis() - oldest.get())
+                .description("가장 오래 기다린 캔들의 대기 시간 (ms)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        spilled = hasSpillFiles();
+        running = true;
+        thread = new Thread(this::run, "candle-mongo-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        thread.interrupt();
+        thread.join(5000);
+    }
+
+    /**
+     * 저장할 캔들을 큐에 넣는다. 큐가 가득 차면 넘친 캔들은 spill 파일에 쓴다. (호출 스레드는 기다리지 않는다)
+     */
+    public void offer(List<Candle> candles) {
+        long now = System.currentTimeMillis();
+        List<Candle> overflow = null;
+        for (Candle candle : candles) {
+            if (queue.offer(new Pending(candle, now)))
+                continue;
+            if (overflow == null)
+                overflow = new ArrayList<>();
+            overflow.add(candle);
+        }
+        oldestPendingAt.compareAndSet(0, now);
+
+        if (overflow != null) {
+            log.warn("Candle write-behind queue is full, spilling {} candles", overflow.size());
+            spill(overflow);
+        }
+    }
+
+    // private
+    private void run() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                long deadline = System.currentTimeMillis() + flushMs;
+                while (batch.size() < batchSize) {
+                    long wait = deadline - System.currentTimeMillis();
+                    Pending pending = wait > 0 ? queue.poll(wait, TimeUnit.MILLISECONDS) : queue.poll();
+                    if (pending == null)
+                        break;
+                    batch.add(pending);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                queue.drainTo(batch); // 종료: 남은 캔들을 한 번 더 저장해 본다
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+            updateOldestPending();
+            if (spilled && running)
+                replaySpill();
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<Candle> candles = new ArrayList<>(batch.size());
+        for (Pending pending : batch)
+            candles.add(pending.candle());
+
+        if (!save(candles, running ? maxRetries : 0)) {
+            spill(candles);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Pending pending : batch)
+            lag.record(now - pending.enqueuedAt(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return 저장했으면 true (재시도를 모두 써도 실패하면 false)
+     */
+    private boolean save(List<Candle> candles, int maxRetries) {
+        long backoff = backoffMs;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                candleMongoRepository.saveAll(candles);
+                written.increment(candles.size());
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= maxRetries) {
+                    log.warn("Failed to save {} candles to Mongo: {}", candles.size(), e.getMessage());
+                    return false;
+                }
+                retries.increment();
+                log.debug("Mongo save failed, retrying in {}ms: {}", backoff, e.getMessage());
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                backoff = Math.min(backoff * 2, maxBackoffMs);
+            }
+        }
+    }
+
+    private synchronized void spill(List<Candle> candles) {
+        try {
+            Files.createDirectories(spillDir);
+            Path file = spillDir.resolve(System.currentTimeMillis() + CandleSpillFile.SUFFIX);
+            CandleSpillFile.write(file, candles);
+            spilledCandles.increment(candles.size());
+            spilled = true;
+        } catch (IOException e) {
+            log.warn("Failed to spill {} candles, dropping them: {}", candles.size(), e.getMessage());
+        }
+    }
+
+    // spill 파일을 오래된 것부터 Mongo 로 옮긴다. 하나라도 실패하면 다음 기회에 다시 시도한다.
+    private synchronized void replaySpill() {
+        try (Stream<Path> files = Files.list(spillDir)) {
+            for (Path file : files.filter(path -> path.toString().endsWith(CandleSpillFile.SUFFIX)).sorted().toList()) {
+                List<Candle> candles = CandleSpillFile.read(file);
+                for (int from = 0; from < candles.size(); from += batchSize) {
+                    if (!save(candles.subList(from, Math.min(from + batchSize, candles.size())), 0))
+                        return;
+                }
+                Files.delete(file);
+                log.debug("Replayed {} spilled candles from {}", candles.size(), file.getFileName());
+            }
+            spilled = false;
+        } catch (IOException e) {
+            log.warn("Failed to replay spilled candles: {}", e.getMessage());
+        }
+    }
+
+    private boolean hasSpillFiles() {
+        if (!Files.isDirectory(spillDir))
+            return false;
+        try (Stream<Path> files = Files.list(spillDir)) {
+            return files.anyMatch(path -> path.toString().endsWith(CandleSpillFile.SUFFIX));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void updateOldestPending() {
+        Pending head = queue.peek();
+        oldestPendingAt.set(head == null ? 0 : head.enqueuedAt());
+    }
+
+    private record Pending(Candle candle, long enqueuedAt) {
+    }
+}
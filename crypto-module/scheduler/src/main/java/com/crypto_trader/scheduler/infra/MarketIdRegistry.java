@@ -0,0 +1,119 @@
+package com.crypto_trader.scheduler.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마켓 코드 <-> 0 부터 빽빽하게 붙는 int id
+ * - 한 번 붙은 id 는 바뀌지 않는다. 새 마켓은 뒤에 붙고, 상장 폐지된 마켓의 id 는 비워 둔 채(null) 재사용하지 않는다.
+ * - id 는 market.capacity 미만이므로 마켓별 상태를 이 크기의 배열로 둘 수 있다. (넘치는 마켓은 id 를 받지 못한다)
+ * - id 테이블은 {@link SimpleMarketRepository} 가 Redis market 키로 발행하고, 재시작 시 그 테이블을 복원해 id 를 유지한다.
+ */
+@Slf4j
+@Component
+public class MarketIdRegistry {
+
+    public static final int UNKNOWN = -1;
+
+    private final int capacity;
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] codes = new String[0]; // index = id, null = 폐지된 마켓
+
+    @Autowired
+    public MarketIdRegistry(@Value("${market.capacity:1024}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @return 마켓 코드의 id (없으면 UNKNOWN)
+     */
+    public int idOf(String code) {
+        Integer id = ids.get(code);
+        return id == null ? UNKNOWN : id;
+    }
+
+    /**
+     * @return id 의 마켓 코드 (없거나 폐지된 id 면 null)
+     */
+    public String codeOf(int id) {
+        String[] codes = this.codes;
+        return id >= 0 && id < codes.length ? codes[id] : null;
+    }
+
+    // 지금까지 붙은 id 수 (폐지된 id 포함)
+    public int size() {
+        return codes.length;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 이전에 발행한 id 테이블을 복원한다. (id 를 붙이기 전에만 의미가 있다)
+     */
+    public synchronized void restore(List<String> table) {
+        if (codes.length > 0 || table == null)
+            return;
+
+        String[] restored = table.subList(0, Math.min(table.size(), capacity)).toArray(new String[0]);
+        for (int id = 0; id < restored.length; id++) {
+            if (restored[id] != null && ids.putIfAbsent(restored[id], id) != null)
+                restored[id] = null; // 중복된 코드는 앞의 id 만 유지
+        }
+        codes = restored;
+    }
+
+    /**
+     * 현재 상장된 마켓 목록에 맞춰 id 를 붙이고, 목록에서 빠진 마켓의 id 는 비운다.
+     *
+     * @return id 테이블이 바뀌었으면 true
+     */
+    public synchronized boolean assign(Collection<String> activeCodes) {
+        String[] next = Arrays.copyOf(codes, codes.length);
+        boolean modified = false;
+
+        for (int id = 0; id < next.length; id++) {
+            if (next[id] != null && !activeCodes.contains(next[id])) {
+                ids.remove(next[id]);
+                next[id] = null;
+                modified = true;
+            }
+        }
+
+        for (String code : activeCodes) {
+            if (ids.containsKey(code))
+                continue;
+            if (next.length >= capacity) {
+                log.warn("Market id capacity ({}) exceeded, {} has no id", capacity, code);
+                continue;
+            }
+            next = Arrays.copyOf(next, next.length + 1);
+            next[next.length - 1] = code;
+            modified = true;
+        }
+
+        // 코드가 먼저 보이고 나서 id 가 조회되도록 배열을 공개한 뒤에 맵에 넣는다
+        codes = next;
+        for (int id = 0; id < next.length; id++) {
+            if (next[id] != null)
+                ids.putIfAbsent(next[id], id);
+        }
+        return modified;
+    }
+
+    /**
+     * Redis 에 발행하는 id 테이블 (index = id, 폐지된 id 는 null)
+     */
+    public List<String> table() {
+        return Arrays.asList(codes.clone());
+    }
+}
@@ -0,0 +1,253 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.OrderBookRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.crypto_trader.scheduler.domain.OrderBookRecord.MAX_DEPTH;
+import static com.crypto_trader.scheduler.global.constant.RedisConst.ORDERBOOK;
+import static com.crypto_trader.scheduler.global.constant.RedisConst.ORDERBOOK_KEY;
+import static com.crypto_trader.scheduler.proto.DataModel.POrderBook;
+
+/**
+ * {@link OrderBookStore} 에서 바뀐 호가만 윈도우(orderbook.publish.window-ms) 마다 Redis orderbook 채널로 발행한다.
+ * - 프레임은 length-delimited POrderBook 의 연속이다. (마켓은 코드 대신 마켓 id 로 싣는다)
+ * - 처음 발행, 호가 단계 수 변경, diff orderbook.snapshot-every 번마다 전체 스냅샷을 보내고 그 사이에는 바뀐 단계만 보낸다.
+ *   diff 는 기준으로 삼은 직전 발행의 timestamp 를 싣는다. (구독자는 이어지지 않는 diff 를 버리고 다음 스냅샷에서 복구한다)
+ * - 마지막 발행 값은 PUBLISH 가 성공한 뒤에만 기록한다. 실패하면 구독자가 무엇을 받았는지 모르므로 그 마켓은 다음에 스냅샷을 보낸다.
+ * - 호가가 바뀐 윈도우마다 그 마켓의 전체 호가를 orderbook:{market} 키에 저장한다. (PUBLISH 보다 먼저)
+ *   구독자는 시작할 때, 그리고 diff 가 이어지지 않을 때 이 키를 읽어 맞춘다.
+ * - 이전 발행이 끝나지 않았으면 그 윈도우는 건너뛴다. (바뀐 호가는 다음 윈도우에 한 번에 나간다)
+ */
+@Slf4j
+@Component
+public class OrderBookPublisher {
+
+    private final OrderBookStore store;
+    private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final long windowMs;
+    private final int snapshotEvery;
+    private final AtomicBoolean inFlight = new AtomicBoolean();
+
+    // 마지막으로 발행한 호가 ([slot * MAX_DEPTH + level])
+    // flush 스레드와 발행 완료 콜백이 inFlight 로 번갈아 쓴다
+    private final long[] publishedVersions;
+    private final long[] publishedTimestamps;
+    private final int[] publishedDepths;
+    private final int[] diffsSinceSnapshot;
+    private final double[] askPrices;
+    private final double[] askSizes;
+    private final double[] bidPrices;
+    private final double[] bidSizes;
+    private final OrderBookRecord scratch = new OrderBookRecord();
+    private final POrderBook.Builder builder = POrderBook.newBuilder();
+
+    // metrics
+    private final Counter snapshots;
+    private final Counter diffs;
+    private final Counter deferred;
+
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    public OrderBookPublisher(OrderBookStore store,
+                              ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${orderbook.publish.window-ms:100}") long windowMs,
+                              @Value("${orderbook.snapshot-every:50}") int snapshotEvery) {
+        this.store = store;
+        this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.windowMs = Math.max(1, windowMs);
+        this.snapshotEvery = Math.max(1, snapshotEvery);
+
+        int capacity = store.capacity();
+        this.publishedVersions = new long[capacity];
+        this.publishedTimestamps = new long[capacity];
+        this.publishedDepths = new int[capacity];
+        this.diffsSinceSnapshot = new int[capacity];
+        this.askPrices = new double[capacity * MAX_DEPTH];
+        this.askSizes = new double[capacity * MAX_DEPTH];
+        this.bidPrices = new double[capacity * MAX_DEPTH];
+        this.bidSizes = new double[capacity * MAX_DEPTH];
+
+        this.snapshots = Counter.builder("orderbook.publish.snapshots")
+                .description("발행한 호가 스냅샷 수")
+                .register(meterRegistry);
+        this.diffs = Counter.builder("orderbook.publish.diffs")
+                .description("발행한 호가 diff 수")
+                .register(meterRegistry);
+        this.deferred = Counter.builder("orderbook.publish.deferred")
+                .description("이전 발행이 끝나지 않아 건너뛴 윈도우 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!store.isEnabled())
+            return;
+
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "orderbook-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null)
+            executor.shutdown();
+    }
+
+    // private
+    private void flush() {
+        if (!inFlight.compareAndSet(false, true)) {
+            deferred.increment();
+            return;
+        }
+
+        boolean sent = false;
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Map<String, byte[]> bookKeys = new HashMap<>();
+            List<Pending> batch = new ArrayList<>();
+
+            for (int slot = 0, count = store.slotCount(); slot < count; slot++) {
+                if (store.version(slot) == publishedVersions[slot])
+                    continue;
+
+                long version = store.read(slot, scratch);
+                POrderBook message = scratch.getMarket() == null ? null : toMessage(slot, scratch); // 폐지된 마켓은 건너뛴다
+                if (message == null) {
+                    publishedVersions[slot] = version; // 보낼 것이 없다
+                    continue;
+                }
+
+                message.writeDelimitedTo(out);
+                POrderBook book = message.getSnapshot() ? message : toMessage(slot, scratch, true);
+                bookKeys.put(ORDERBOOK_KEY + scratch.getMarket(), book.toByteArray());
+                batch.add(new Pending(slot, version, message));
+            }
+
+            if (batch.isEmpty())
+                return;
+            send(out.toByteArray(), bookKeys, batch);
+            sent = true;
+        } catch (Exception e) {
+            // 예외가 전파되면 스케줄이 멈추므로 로그만 남긴다
+            log.debug("Orderbook publish failed: {}", e.getMessage());
+        } finally {
+            if (!sent)
+                inFlight.set(false);
+        }
+    }
+
+    /**
+     * 마지막으로 발행한 호가와 비교해 스냅샷 또는 diff 메시지를 만든다. (발행한 값은 {@link #commit} 에서 기록한다)
+     *
+     * @return 바뀐 단계가 없으면 null
+     */
+    private POrderBook toMessage(int slot, OrderBookRecord book) {
+        boolean snapshot = publishedDepths[slot] != book.getDepth() || diffsSinceSnapshot[slot] >= snapshotEvery;
+        return toMessage(slot, book, snapshot);
+    }
+
+    private POrderBook toMessage(int slot, OrderBookRecord book, boolean snapshot) {
+        int depth = book.getDepth();
+        int base = slot * MAX_DEPTH;
+
+        builder.clear()
+                .setMarketId(book.getMarketId())
+                .setTimestamp(book.getTimestamp())
+                .setSnapshot(snapshot)
+                .setDepth(depth);
+        if (!snapshot)
+            builder.setBaseTimestamp(publishedTimestamps[slot]);
+
+        int changed = 0;
+        for (int level = 0; level < depth; level++) {
+            int i = base + level;
+            double askPrice = book.getAskPrices()[level];
+            double askSize = book.getAskSizes()[level];
+            double bidPrice = book.getBidPrices()[level];
+            double bidSize = book.getBidSizes()[level];
+            if (!snapshot && askPrices[i] == askPrice && askSizes[i] == askSize
+                    && bidPrices[i] == bidPrice && bidSizes[i] == bidSize)
+                continue;
+
+            builder.addLevels(level)
+                    .addAskPrice(askPrice)
+                    .addAskSize(askSize)
+                    .addBidPrice(bidPrice)
+                    .addBidSize(bidSize);
+            changed++;
+        }
+
+        return snapshot || changed > 0 ? builder.build() : null;
+    }
+
+    private void send(byte[] frame, Map<String, byte[]> bookKeys, List<Pending> batch) {
+        byteArrayRedisTemplate.opsForValue()
+                .multiSet(bookKeys)
+                .then(byteArrayRedisTemplate.convertAndSend(ORDERBOOK, frame))
+                .doOnSuccess(receivers -> commit(batch))
+                .doOnError(error -> invalidate(batch))
+                .doFinally(signal -> inFlight.set(false))
+                .subscribe(receivers -> {
+                }, error -> log.debug("Orderbook publish failed: {}", error.getMessage()));
+    }
+
+    // 발행한 메시지를 마지막 발행 값으로 기록한다
+    private void commit(List<Pending> batch) {
+        for (Pending pending : batch) {
+            int slot = pending.slot();
+            POrderBook message = pending.message();
+            int base = slot * MAX_DEPTH;
+            for (int i = 0; i < message.getLevelsCount(); i++) {
+                int at = base + message.getLevels(i);
+                askPrices[at] = message.getAskPrice(i);
+                askSizes[at] = message.getAskSize(i);
+                bidPrices[at] = message.getBidPrice(i);
+                bidSizes[at] = message.getBidSize(i);
+            }
+
+            publishedVersions[slot] = pending.version();
+            publishedTimestamps[slot] = message.getTimestamp();
+            publishedDepths[slot] = message.getDepth();
+            if (message.getSnapshot()) {
+                diffsSinceSnapshot[slot] = 0;
+                snapshots.increment();
+            } else {
+                diffsSinceSnapshot[slot]++;
+                diffs.increment();
+            }
+        }
+    }
+
+    // 구독자가 받았는지 모르므로 다음 윈도우에 스냅샷을 보낸다
+    private void invalidate(List<Pending> batch) {
+        for (Pending pending : batch)
+            publishedDepths[pending.slot()] = -1;
+    }
+
+    private record Pending(int slot, long version, POrderBook message) {
+    }
+}
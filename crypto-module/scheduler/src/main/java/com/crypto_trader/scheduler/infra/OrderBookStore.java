@@ -0,0 +1,139 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.OrderBookRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.crypto_trader.scheduler.domain.OrderBookRecord.MAX_DEPTH;
+
+/**
+ * 마켓별 최신 호가를 평평한 primitive 배열에 보관하는 저장소
+ * - 슬롯 번호는 마켓 id ({@link MarketIdRegistry}) 이고, 호가 단계 값은 [slot * MAX_DEPTH + level] 에 둔다. (갱신 시 할당 없음)
+ * - 슬롯마다 버전(seqlock)을 두어 쓰기는 홀수 -> 짝수로 감싸고, 읽기는 버전이 그대로일 때까지 다시 읽는다.
+ * - 같은 마켓을 여러 피드가 받으면 타임스탬프가 저장된 값보다 새로운 것만 반영한다.
+ * - orderbook.enabled=false 면 orderbook 스트림을 구독하지 않는다.
+ */
+@Component
+public class OrderBookStore {
+
+    private final boolean enabled;
+    private final MarketIdRegistry marketIds;
+    private final int capacity;
+
+    private final AtomicLongArray versions; // 홀수면 쓰는 중
+    private final long[] timestamps;
+    private final int[] depths;
+    private final double[] askPrices;
+    private final double[] askSizes;
+    private final double[] bidPrices;
+    private final double[] bidSizes;
+
+    @Autowired
+    public OrderBookStore(@Value("${orderbook.enabled:true}") boolean enabled,
+                          MarketIdRegistry marketIds) {
+        this.enabled = enabled;
+        this.marketIds = marketIds;
+        this.capacity = marketIds.capacity();
+        this.versions = new AtomicLongArray(this.capacity);
+        this.timestamps = new long[this.capacity];
+        this.depths = new int[this.capacity];
+        this.askPrices = new double[this.capacity * MAX_DEPTH];
+        this.askSizes = new double[this.capacity * MAX_DEPTH];
+        this.bidPrices = new double[this.capacity * MAX_DEPTH];
+        this.bidSizes = new double[this.capacity * MAX_DEPTH];
+    }
+
+    /**
+     * 레코드가 저장된 호가보다 새로우면 슬롯을 덮어쓴다.
+     *
+     * @return 반영했으면 true (중복/지난 메시지거나 마켓 id 가 없으면 false)
+     */
+    public boolean update(OrderBookRecord record) {
+        int slot = record.getMarketId();
+        if (slot < 0 || slot >= capacity)
+            return false;
+
+        long version = lock(slot);
+        if (record.getTimestamp() <= timestamps[slot]) {
+            versions.set(slot, version); // 바뀐 것이 없으므로 원래 버전으로 되돌린다
+            return false;
+        }
+
+        int depth = record.getDepth();
+        int base = slot * MAX_DEPTH;
+        System.arraycopy(record.getAskPrices(), 0, askPrices, base, depth);
+        System.arraycopy(record.getAskSizes(), 0, askSizes, base, depth);
+        System.arraycopy(record.getBidPrices(), 0, bidPrices, base, depth);
+        System.arraycopy(record.getBidSizes(), 0, bidSizes, base, depth);
+        timestamps[slot] = record.getTimestamp();
+        depths[slot] = depth;
+
+        versions.set(slot, version + 2); // release
+        return true;
+    }
+
+    /**
+     * 슬롯의 호가를 out 에 복사한다. (쓰는 중이면 끝날 때까지 다시 읽는다)
+     *
+     * @return 읽은 시점의 버전
+     */
+    public long read(int slot, OrderBookRecord out) {
+        int base = slot * MAX_DEPTH;
+        while (true) {
+            long version = versions.get(slot);
+            if ((version & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            int depth = Math.min(depths[slot], MAX_DEPTH);
+            System.arraycopy(askPrices, base, out.getAskPrices(), 0, depth);
+            System.arraycopy(askSizes, base, out.getAskSizes(), 0, depth);
+            System.arraycopy(bidPrices, base, out.getBidPrices(), 0, depth);
+            System.arraycopy(bidSizes, base, out.getBidSizes(), 0, depth);
+            long timestamp = timestamps[slot];
+
+            VarHandle.acquireFence(); // 위의 읽기가 버전 재확인 뒤로 밀리지 않도록
+            if (versions.get(slot) == version) {
+                out.setMarket(marketIds.codeOf(slot));
+                out.setMarketId(slot);
+                out.setTimestamp(timestamp);
+                out.setDepth(depth);
+                return version;
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long version(int slot) {
+        return versions.get(slot);
+    }
+
+    public int slotCount() {
+        return Math.min(marketIds.size(), capacity);
+    }
+
+    // private
+    // 같은 마켓을 여러 피드가 동시에 쓸 수 있으므로 짝수 -> 홀수 CAS 로 쓰기 권한을 얻는다
+    private long lock(int slot) {
+        while (true) {
+            long version = versions.get(slot);
+            if ((version & 1) == 0 && versions.compareAndSet(slot, version, version + 1)) {
+                VarHandle.releaseFence(); // 이후의 쓰기가 홀수 버전보다 먼저 보이지 않도록
+                return version;
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
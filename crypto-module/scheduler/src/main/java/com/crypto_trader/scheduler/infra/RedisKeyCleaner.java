@@ -0,0 +1,75 @@
+package com.crypto_trader.scheduler.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.crypto_trader.scheduler.global.constant.RedisConst.MARKET;
+
+/**
+ * 시작할 때 Redis 의 이전 데이터를 지운다. ("market" 키는 남긴다)
+ * - KEYS 대신 SCAN 으로 조금씩 키를 찾고 (redis.clean.scan-count), DEL 대신 UNLINK 로 지운다. (값은 Redis 가 백그라운드에서 해제)
+ * - 찾은 키는 redis.clean.batch-size 개씩 UNLINK 하나로 보내고, 배치 두 개까지 응답을 기다리지 않고 보낸다.
+ *   SCAN 이 같은 키를 다시 돌려주면 한 번 더 UNLINK 할 뿐이다. (이미 지운 키는 세지 않는다)
+ * - 지우는 범위는 redis.clean.patterns (쉼표로 구분한 SCAN MATCH 패턴, 예: *:minute_candle:*) 로 좁힐 수 있다.
+ * - redis.clean.max-keys-per-second 가 0 보다 크면 배치 사이를 띄워 초당 그 수만큼만 지운다.
+ */
+@Slf4j
+@Component
+public class RedisKeyCleaner {
+
+    private static final int IN_FLIGHT_BATCHES = 2;
+
+    private final ReactiveRedisTemplate<String, String> stringRedisTemplate;
+    private final List<String> patterns;
+    private final long scanCount;
+    private final int batchSize;
+    private final Duration batchInterval;
+
+    @Autowired
+    public RedisKeyCleaner(ReactiveRedisTemplate<String, String> stringRedisTemplate,
+                           @Value("${redis.clean.patterns:*}") List<String> patterns,
+                           @Value("${redis.clean.scan-count:1000}") long scanCount,
+                           @Value("${redis.clean.batch-size:500}") int batchSize,
+                           @Value("${redis.clean.max-keys-per-second:0}") int maxKeysPerSecond) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.patterns = patterns;
+        this.scanCount = scanCount;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchInterval = maxKeysPerSecond > 0
+                ? Duration.ofMillis(Math.max(1, this.batchSize * 1000L / maxKeysPerSecond))
+                : Duration.ZERO;
+    }
+
+    /**
+     * @return 지운 키 수
+     */
+    public Mono<Long> purge() {
+        long startedAt = System.nanoTime();
+        Flux<List<String>> batches = Flux.fromIterable(patterns)
+                .concatMap(pattern -> stringRedisTemplate.scan(ScanOptions.scanOptions()
+                        .match(pattern.trim())
+                        .count(scanCount)
+                        .build()))
+                .filter(key -> !key.equals(MARKET))
+                .buffer(batchSize);
+        if (!batchInterval.isZero())
+            batches = batches.delayElements(batchInterval);
+
+        return batches
+                .flatMap(keys -> stringRedisTemplate.unlink(keys.toArray(String[]::new)), IN_FLIGHT_BATCHES)
+                .reduce(0L, Long::sum)
+                .doOnNext(removed -> log.debug("Redis cache cleared except '{}' key: {} keys unlinked in {} ms",
+                        MARKET, removed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)))
+                .doOnError(error -> log.warn("Failed to clear Redis cache: {}", error.getMessage()));
+    }
+}
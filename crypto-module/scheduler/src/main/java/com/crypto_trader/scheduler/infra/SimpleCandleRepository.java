@@ -1,34 +1,234 @@
 package com.crypto_trader.scheduler.infra;
 
+import com.crypto_trader.scheduler.domain.CandleAccumulator;
+import com.crypto_trader.scheduler.domain.CandleRollup;
+import com.crypto_trader.scheduler.domain.CandleShard;
 import com.crypto_trader.scheduler.domain.CandleState;
+import com.crypto_trader.scheduler.domain.CandleUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
+import static com.crypto_trader.scheduler.domain.CandleAccumulator.MINUTE_MS;
+
+/**
+ * 마켓별 진행 중인 1분 캔들 ({@link CandleAccumulator})
+ * - 캔들 경계는 tick 의 체결 시각으로 정한다. watermark 는 지금까지 본 가장 늦은 체결 시각이다.
+ * - 마켓의 한 분은 watermark 가 분 끝 + candle.grace-ms 를 지날 때 {@link CandleCloseWheel} 에서 한 번만 마감된다.
+ *   grace 안에 도착한 이전 분의 tick 은 그 분에 들어가고, 마감 뒤에 도착한 tick 은 버린다.
+ * - 마감된 1분 캔들은 마켓별 {@link CandleRollup} 으로 넘겨 상위 단위 캔들을 만든다.
+ * - update 는 캔들 소비자 스레드 하나(링 소비자 또는 Redis 리스너)에서만, closeDue 는 캔들 생성 스케줄러에서 호출한다.
+ * - 재시작할 때 이어서 마감할 수 있도록 상태를 스냅샷으로 쓰고 되돌린다. ({@link CandleSnapshotStore})
+ */
 @Repository
 public class SimpleCandleRepository {
 
-    // private state
-    private final Map<String, CandleState> candleStates = new ConcurrentHashMap<>();
+    private static final int MAX_CODE_BYTES = 32;
+    private static final int MARKET_SNAPSHOT_BYTES =
+            Short.BYTES + MAX_CODE_BYTES + CandleAccumulator.SNAPSHOT_BYTES + 1 + CandleRollup.SNAPSHOT_BYTES;
 
-    public Map<String, CandleState> getCandleStates() {
-        return candleStates;
-    }
+    private final MarketIdRegistry marketIds;
+    private final long graceMs;
 
-    public void update(String market, double value, double volume) {
-        CandleState candleState = candleStates.get(market);
+    // private state (index = 마켓 id)
+    private final AtomicReferenceArray<CandleAccumulator> accumulators;
+    private final Queue<CandleCloseWheel.Entry> opened = new ConcurrentLinkedQueue<>(); // writer -> 스케줄러
+    private final CandleCloseWheel wheel; // 스케줄러 전용
+    private final CandleRollup[] rollups; // 스케줄러 전용
+    private volatile long watermark = Long.MIN_VALUE; // writer 만 쓴다
+    private final LongAdder lateTicks = new LongAdder();
+
+    @Autowired
+    public SimpleCandleRepository(MarketIdRegistry marketIds,
+                                  @Value("${candle.grace-ms:2000}") long graceMs,
+                                  @Value("${candle.wheel.tick-ms:1000}") long tickMs,
+                                  @Value("${candle.wheel.slots:128}") int slots) {
+        this.marketIds = marketIds;
+        this.graceMs = Math.max(0, graceMs);
+        this.accumulators = new AtomicReferenceArray<>(marketIds.capacity());
+        this.wheel = new CandleCloseWheel(tickMs, slots);
+        this.rollups = new CandleRollup[marketIds.capacity()];
+    }
 
-        if (candleState == null) {
-            candleStates.put(market, new CandleState(value));
+    /**
+     * @param timestampMs 체결 시각 (ms, 0 이면 수신 시각)
+     */
+    public void update(int marketId, long timestampMs, double value, double volume) {
+        if (marketId < 0 || marketId >= accumulators.length())
             return;
+        if (timestampMs <= 0)
+            timestampMs = System.currentTimeMillis();
+
+        CandleAccumulator accumulator = accumulators.get(marketId);
+        if (accumulator == null) { // writer 가 하나이므로 경합 없음
+            accumulator = new CandleAccumulator();
+            accumulators.set(marketId, accumulator);
+            long minute = CandleAccumulator.minuteOf(timestampMs);
+            opened.add(new CandleCloseWheel.Entry(marketId, minute, deadlineOf(minute)));
         }
 
-        candleState.update(value, volume);
+        if (timestampMs > watermark)
+            watermark = timestampMs;
+        if (!accumulator.update(timestampMs, value, volume))
+            lateTicks.increment();
     }
 
-    public void saveAllState() {
-        if (candleStates.isEmpty())
-            return;
+    /**
+     * watermark 가 마감 시각을 지난 분을 모두 마감한다. 마켓마다 분 순서대로 sink 로 넘긴다.
+     * - 1분 캔들 뒤에 그 캔들로 마감되는 상위 단위 캔들이 이어진다.
+     * - 체결이 없던 분은 직전 종가로 채운다. 폐지된 마켓은 더 이상 마감하지 않는다.
+     *
+     * @return 마감한 1분 캔들 수
+     */
+    public synchronized int closeDue(CandleSink sink) {
+        CandleCloseWheel.Entry entry;
+        while ((entry = opened.poll()) != null)
+            wheel.schedule(entry);
+
+        long now = watermark;
+        if (now == Long.MIN_VALUE)
+            return 0;
+
+        int[] closed = {0};
+        wheel.advance(now, due -> {
+            String market = marketIds.codeOf(due.marketId);
+            if (market == null)
+                return;
+
+            CandleAccumulator accumulator = accumulators.get(due.marketId);
+            CandleRollup rollup = rollups[due.marketId];
+            if (rollup == null)
+                rollup = rollups[due.marketId] = new CandleRollup();
+
+            while (due.deadline <= now) {
+                CandleState candle = accumulator.close(due.minute);
+                if (candle != null) {
+                    sink.accept(market, CandleUnit.ONEMINUTE, candle);
+                    rollup.add(due.minute, candle, (unit, rolled) -> sink.accept(market, unit, rolled));
+                    closed[0]++;
+                }
+                due.minute++;
+                due.deadline += MINUTE_MS;
+            }
+            wheel.schedule(due);
+        });
+        return closed[0];
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public long getLateTicks() {
+        return lateTicks.sum();
+    }
+
+    /**
+     * @return writeSnapshot 이 쓸 수 있는 최대 바이트 수
+     */
+    public int snapshotBytes() {
+        return Long.BYTES + Integer.BYTES + accumulators.length() * MARKET_SNAPSHOT_BYTES;
+    }
+
+    /**
+     * 마켓별 진행 중인 1분 캔들과 모으는 중인 상위 단위 캔들, watermark 를 out 에 쓴다. (closeDue 와 겹치지 않는다)
+     * - [long watermark][int 마켓 수] + 마켓마다 [short 길이][마켓 코드][{@link CandleAccumulator}][byte rollup 유무][{@link CandleRollup}]
+     *
+     * @return 쓴 마켓 수
+     */
+    public synchronized int writeSnapshot(ByteBuffer out) {
+        out.putLong(watermark);
+        int countAt = out.position();
+        out.putInt(0);
+
+        int count = 0;
+        for (int id = 0; id < accumulators.length(); id++) {
+            CandleAccumulator accumulator = accumulators.get(id);
+            String market = marketIds.codeOf(id);
+            if (accumulator == null || market == null)
+                continue;
+            byte[] code = market.getBytes(StandardCharsets.UTF_8);
+            if (code.length > MAX_CODE_BYTES)
+                continue;
+
+            out.putShort((short) code.length).put(code);
+            accumulator.writeSnapshot(out);
+            CandleRollup rollup = rollups[id];
+            out.put((byte) (rollup == null ? 0 : 1));
+            if (rollup != null)
+                rollup.writeSnapshot(out);
+            count++;
+        }
+        out.putInt(countAt, count);
+        return count;
+    }
+
+    /**
+     * writeSnapshot 으로 쓴 상태를 되돌린다. 첫 update 전에 호출해야 한다.
+     * - 마켓마다 마지막으로 저장된 1분 캔들(lastCandleOf, 없으면 null)과 비교한다.
+     *   저장된 캔들이 스냅샷의 다음 마감 분 이후면 (다른 실행이 더 진행했다) 그 분까지 마감한 것으로 치고 상위 단위는 새로 모은다.
+     * - 폐지되었거나 이미 tick 을 받은 마켓은 건너뛴다.
+     *
+     * @return 되돌린 마켓 수
+     */
+    public synchronized int restoreSnapshot(ByteBuffer in, Function<String, CandleState> lastCandleOf) {
+        long savedWatermark = in.getLong();
+        int count = in.getInt();
+
+        int restored = 0;
+        for (int i = 0; i < count; i++) {
+            byte[] code = new byte[in.getShort()];
+            in.get(code);
+            CandleAccumulator accumulator = new CandleAccumulator();
+            accumulator.readSnapshot(in);
+            CandleRollup rollup = null;
+            if (in.get() != 0) {
+                rollup = new CandleRollup();
+                rollup.readSnapshot(in);
+            }
+
+            String market = new String(code, StandardCharsets.UTF_8);
+            int marketId = marketIds.idOf(market);
+            if (marketId == MarketIdRegistry.UNKNOWN || marketId >= accumulators.length() || accumulators.get(marketId) != null)
+                continue;
+
+            CandleState last = lastCandleOf.apply(market);
+            if (last != null) {
+                long lastMinute = CandleShard.minuteOf(last.getTime());
+                if (lastMinute >= accumulator.nextMinuteToClose()) {
+                    accumulator.skipThrough(lastMinute, last.getLast());
+                    rollup = null;
+                }
+            }
+
+            long next = accumulator.nextMinuteToClose();
+            if (next == Long.MIN_VALUE)
+                continue;
+            accumulators.set(marketId, accumulator);
+            rollups[marketId] = rollup;
+            opened.add(new CandleCloseWheel.Entry(marketId, next, deadlineOf(next)));
+            restored++;
+        }
+        if (savedWatermark > watermark)
+            watermark = savedWatermark;
+        return restored;
+    }
+
+    // private
+    private long deadlineOf(long minute) {
+        return (minute + 1) * MINUTE_MS + graceMs;
+    }
+
+    @FunctionalInterface
+    public interface CandleSink {
+        void accept(String market, CandleUnit unit, CandleState candle);
     }
 }
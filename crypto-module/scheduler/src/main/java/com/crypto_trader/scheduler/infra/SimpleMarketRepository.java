@@ -3,7 +3,9 @@ package com.crypto_trader.scheduler.infra;
 import com.crypto_trader.scheduler.domain.Market;
 import com.crypto_trader.scheduler.domain.event.FetchTickerEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
@@ -14,22 +16,30 @@ import java.util.stream.Collectors;
 
 import static com.crypto_trader.scheduler.global.constant.RedisConst.MARKET;
 
+/**
+ * 상장 마켓 목록과 마켓 id 테이블 ({@link MarketIdRegistry})
+ * - market 키에는 id 순서의 마켓 코드 배열을 저장한다. (index = id, 폐지된 마켓은 null)
+ */
+@Slf4j
 @Repository
 public class SimpleMarketRepository {
 
     private final ReactiveRedisTemplate<String, String> redisTemplate;
     private final ApplicationEventPublisher publisher;
     private final ObjectMapper objectMapper;
+    private final MarketIdRegistry marketIds;
 
     private final Map<String, Market> markets = new HashMap<>();
 
     @Autowired
     public SimpleMarketRepository(ReactiveRedisTemplate<String, String> redisTemplate,
                                   ApplicationEventPublisher publisher,
-                                  ObjectMapper objectMapper) {
+                                  ObjectMapper objectMapper,
+                                  MarketIdRegistry marketIds) {
         this.redisTemplate = redisTemplate;
         this.publisher = publisher;
         this.objectMapper = objectMapper;
+        this.marketIds = marketIds;
     }
 
     public synchronized void saveMarkets(List<Market> newMarketList) {
@@ -39,13 +49,17 @@ public class SimpleMarketRepository {
 
         boolean isModified = !markets.keySet().equals(newMarkets.keySet()) || !markets.equals(newMarkets) || markets.isEmpty();
 
+        if (markets.isEmpty())
+            restoreMarketIds(); // 재시작해도 같은 id 를 쓰도록
+
         markets.keySet().retainAll(newMarkets.keySet());
         markets.putAll(newMarkets);
+        isModified |= marketIds.assign(newMarkets.keySet());
 
         if (isModified) {
             try {
                 redisTemplate.opsForValue()
-                        .set(MARKET, objectMapper.writeValueAsString(markets.keySet()))
+                        .set(MARKET, objectMapper.writeValueAsString(marketIds.table()))
                         .block();
                 publisher.publishEvent(new FetchTickerEvent(this));
             } catch (JsonProcessingException e) {
@@ -61,4 +75,18 @@ public class SimpleMarketRepository {
     public List<String> getAllMarketCodes() {
         return new ArrayList<>(markets.keySet());
     }
+
+    // private
+    private void restoreMarketIds() {
+        String table = redisTemplate.opsForValue().get(MARKET).block();
+        if (table == null)
+            return;
+
+        try {
+            marketIds.restore(objectMapper.readValue(table, new TypeReference<List<String>>() {
+            }));
+        } catch (JsonProcessingException e) {
+            log.debug("Failed to restore market ids: {}", e.getMessage());
+        }
+    }
 }
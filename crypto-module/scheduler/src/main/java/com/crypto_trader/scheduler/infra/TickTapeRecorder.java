@@ -0,0 +1,112 @@
+package com.crypto_trader.scheduler.infra;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 수신한 Upbit 원본 프레임을 수신 시각과 함께 memory-mapped 세그먼트 파일에 이어 쓴다. (ticker.tape.record)
+ * - 레코드: [int 길이][long 수신 시각(ms)][프레임 바이트]
+ * - 세그먼트가 가득 차면 다음 파일로 넘어간다. 파일 이름은 첫 레코드 수신 시각 + 순번이라 이름순 = 시간순
+ * - 세그먼트의 남은 영역은 0 으로 채워져 있으므로 길이 0 을 세그먼트 끝으로 본다. ({@link TickTapeReplayer})
+ * - 녹화 실패가 수집을 막지 않도록 I/O 오류가 나면 로그를 남기고 녹화를 멈춘다.
+ */
+@Slf4j
+@Component
+public class TickTapeRecorder {
+
+    static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    static final String SUFFIX = ".tape";
+
+    private final Path dir;
+    private final long segmentBytes;
+    private volatile boolean enabled;
+
+    // 현재 세그먼트 (append 는 여러 연결 스레드에서 호출되므로 synchronized)
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int sequence;
+
+    @Autowired
+    public TickTapeRecorder(@Value("${ticker.tape.record:false}") boolean enabled,
+                            @Value("${ticker.tape.dir:tape}") String dir,
+                            @Value("${ticker.tape.segment-bytes:268435456}") long segmentBytes) {
+        this.enabled = enabled;
+        this.dir = Path.of(dir);
+        this.segmentBytes = Math.min(segmentBytes, Integer.MAX_VALUE);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * frame 의 position ~ limit 을 기록한다. (frame 의 position 은 바꾸지 않는다)
+     */
+    public synchronized void append(ByteBuffer frame, long receivedAt) {
+        if (!enabled)
+            return;
+
+        int length = frame.remaining();
+        if (HEADER_BYTES + length > segmentBytes) {
+            log.debug("Skip recording oversized frame ({} bytes)", length);
+            return;
+        }
+
+        try {
+            if (segment == null || segment.remaining() < HEADER_BYTES + length)
+                roll(receivedAt);
+        } catch (IOException e) {
+            log.warn("Tick tape recording stopped: {}", e.getMessage());
+            enabled = false;
+            return;
+        }
+
+        int position = segment.position();
+        segment.putInt(position, length);
+        segment.putLong(position + Integer.BYTES, receivedAt);
+        segment.put(position + HEADER_BYTES, frame, frame.position(), length);
+        segment.position(position + HEADER_BYTES + length);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            closeSegment();
+        } catch (IOException e) {
+            log.debug("Failed to close tick tape segment: {}", e.getMessage());
+        }
+    }
+
+    // private
+    private void roll(long receivedAt) throws IOException {
+        closeSegment();
+        Files.createDirectories(dir);
+
+        Path path = dir.resolve(String.format("%013d-%05d%s", receivedAt, sequence++, SUFFIX));
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        log.debug("Tick tape segment opened: {}", path);
+    }
+
+    private void closeSegment() throws IOException {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.crypto_trader.scheduler.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketHandler;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import static com.crypto_trader.scheduler.infra.TickTapeRecorder.HEADER_BYTES;
+import static com.crypto_trader.scheduler.infra.TickTapeRecorder.SUFFIX;
+
+/**
+ * {@link TickTapeRecorder} 가 남긴 세그먼트를 읽어 웹소켓 핸들러에 다시 흘려보낸다. (ticker.ingest.source=REPLAY)
+ * - ticker.tape.replay-speed: 1 = 녹화 당시 속도, N = N배속, 0 = 대기 없이 최대 속도
+ * - 프레임은 매핑된 세그먼트의 slice 로 전달한다. (복사 없음)
+ * - 캔들은 녹화 당시 시각의 샤드에 쌓이지만 Redis 만료(EXPIREAT)는 재생하는 지금 시각부터 보관 기간을 센다.
+ *   ({@link CandleRedisRepository}, 오래된 tape 를 재생해도 쓰자마자 지워지지 않는다)
+ *   api-server 는 이 캔들을 구간을 지정한 캔들 조회로만 돌려준다. 1분 캔들 색인과 최근 캔들 조회는 지금 시각 기준이어서
+ *   그 범위(candle.index.capacity, 보관 기간)보다 오래된 tape 의 차트는 나오지 않는다.
+ */
+@Slf4j
+@Component
+public class TickTapeReplayer {
+
+    private final Path dir;
+    private final double speed;
+
+    @Autowired
+    public TickTapeReplayer(@Value("${ticker.tape.dir:tape}") String dir,
+                            @Value("${ticker.tape.replay-speed:1}") double speed) {
+        this.dir = Path.of(dir);
+        this.speed = speed;
+    }
+
+    public void start(WebSocketHandler target) {
+        Thread thread = new Thread(() -> replay(target), "ticker-replay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 모든 세그먼트를 시간순으로 재생한다. (호출 스레드에서 실행)
+     *
+     * @return 재생한 프레임 수
+     */
+    public long replay(WebSocketHandler target) {
+        long frames = 0;
+        long startedAt = System.nanoTime();
+        long firstReceivedAt = -1;
+
+        try {
+            for (Path path : segments()) {
+                try (FileChannel channel = FileChannel.open(path)) {
+                    MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    int position = 0;
+
+                    while (position + HEADER_BYTES <= segment.limit()) {
+                        int length = segment.getInt(position);
+                        if (length <= 0 || position + HEADER_BYTES + length > segment.limit())
+                            break; // 세그먼트 끝
+                        long receivedAt = segment.getLong(position + Integer.BYTES);
+
+                        if (firstReceivedAt < 0)
+                            firstReceivedAt = receivedAt;
+                        if (speed > 0)
+                            waitUntil(startedAt + (long) (TimeUnit.MILLISECONDS.toNanos(receivedAt - firstReceivedAt) / speed));
+
+                        target.handleMessage(null, new BinaryMessage(segment.slice(position + HEADER_BYTES, length)));
+                        frames++;
+                        position += HEADER_BYTES + length;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Tick tape replay failed: {}", e.getMessage());
+        }
+
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        log.debug("Tick tape replay finished: {} frames in {} ms ({} frames/s)", frames, elapsedMs, frames * 1000 / elapsedMs);
+        return frames;
+    }
+
+    // private
+    private List<Path> segments() throws IOException {
+        if (!Files.isDirectory(dir))
+            return List.of();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0)
+            LockSupport.parkNanos(remaining);
+    }
+}
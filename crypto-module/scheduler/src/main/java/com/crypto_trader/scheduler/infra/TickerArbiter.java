@@ -0,0 +1,99 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 마켓을 구독하는 여러 피드(웹소켓 연결) 중 먼저 도착한 tick 만 통과시킨다.
+ * - tick 식별: (trade_timestamp, acc_trade_volume). Upbit ticker 에는 시퀀스 번호가 없어서
+ *   같은 ms 안의 체결은 당일 누적 거래량 증가로 구분한다.
+ * - 이미 통과한 tick 과 같거나 오래된 tick 은 버린다. 같은 tick 이 늦게 도착하면 늦은 만큼을 lag 로 기록한다.
+ */
+@Component
+public class TickerArbiter {
+
+    private final MarketState[] states; // index = 마켓 id
+
+    // metrics (피드별)
+    private final Counter[] wins;
+    private final Counter[] stale;
+    private final Timer[] lag;
+
+    @Autowired
+    public TickerArbiter(MeterRegistry meterRegistry,
+                         MarketIdRegistry marketIds,
+                         @Value("${ticker.ingest.feeds:1}") int feeds) {
+        this.states = new MarketState[marketIds.capacity()];
+        for (int i = 0; i < states.length; i++)
+            states[i] = new MarketState();
+
+        int count = Math.max(1, feeds);
+        this.wins = new Counter[count];
+        this.stale = new Counter[count];
+        this.lag = new Timer[count];
+
+        for (int i = 0; i < count; i++) {
+            String feed = String.valueOf(i);
+            wins[i] = Counter.builder("ticker.feed.wins")
+                    .description("먼저 도착해서 통과한 tick 수")
+                    .tag("feed", feed)
+                    .register(meterRegistry);
+            stale[i] = Counter.builder("ticker.feed.stale")
+                    .description("이미 더 최신 tick 이 통과해서 버린 tick 수")
+                    .tag("feed", feed)
+                    .register(meterRegistry);
+            lag[i] = Timer.builder("ticker.feed.lag")
+                    .description("같은 tick 을 먼저 받은 피드 대비 늦게 도착한 시간")
+                    .tag("feed", feed)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * @return 이 피드의 tick 이 처음 도착한 것이면 true (false 면 중복이므로 버린다)
+     */
+    public boolean accept(int feed, TickerRecord record) {
+        long now = System.nanoTime();
+        int marketId = record.getMarketId();
+        if (marketId < 0 || marketId >= states.length)
+            return true; // id 가 없으면 중복을 가릴 수 없으므로 통과
+        MarketState state = states[marketId];
+        long tradeTimestamp = record.getTradeTimestamp();
+        double accTradeVolume = record.getAccTradeVolume();
+
+        // 같은 마켓은 피드 수(최대 2)만큼의 스레드만 경합한다
+        synchronized (state) {
+            if (tradeTimestamp > state.tradeTimestamp
+                    || (tradeTimestamp == state.tradeTimestamp && accTradeVolume > state.accTradeVolume)) {
+                state.tradeTimestamp = tradeTimestamp;
+                state.accTradeVolume = accTradeVolume;
+                state.acceptedAt = now;
+                state.winner = feed;
+                wins[feed].increment();
+                return true;
+            }
+
+            if (tradeTimestamp == state.tradeTimestamp && accTradeVolume == state.accTradeVolume && feed != state.winner)
+                lag[feed].record(now - state.acceptedAt, TimeUnit.NANOSECONDS);
+            else
+                stale[feed].increment();
+            return false;
+        }
+    }
+
+    // 마켓별 마지막으로 통과한 tick
+    private static class MarketState {
+        long tradeTimestamp = Long.MIN_VALUE;
+        double accTradeVolume;
+        long acceptedAt;
+        int winner = -1;
+    }
+}
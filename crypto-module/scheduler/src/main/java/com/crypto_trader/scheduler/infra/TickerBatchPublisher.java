@@ -0,0 +1,340 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+import com.crypto_trader.scheduler.global.constant.PublishOverflowPolicy;
+import com.crypto_trader.scheduler.global.constant.TickerFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.crypto_trader.scheduler.global.constant.RedisConst.REDIS_TICKER;
+
+/**
+ * ticker 를 모아 두었다가 윈도우(ticker.publish.window-ms) 마다 한 번에 발행하는 bounded 발행 단계
+ * - 모아 두는 방식은 ticker.publish.overflow 를 따른다. ({@link PublishOverflowPolicy}, 기본 CONFLATE)
+ *   CONFLATE 는 마켓별 최신 tick 만, BLOCK / DROP_OLDEST 는 ticker.publish.queue-capacity 크기의 큐에 순서대로 쌓는다.
+ *   큐는 윈도우마다 ticker.publish.max-batch 개까지만 꺼내고 나머지는 다음 윈도우로 넘긴다. (PUBLISH 하나의 크기 상한)
+ * - 마지막으로 발행한 값과 현재가/누적 거래량이 같으면 발행하지 않는다.
+ * - 동시에 처리 중인 PUBLISH 는 ticker.publish.max-in-flight 개까지만 허용한다.
+ *   가득 차 있으면 그 윈도우는 건너뛰고 tick 은 큐/슬롯에 남는다. (Redis 가 느려져도 힙에 명령이 쌓이지 않는다)
+ * - 배치 프레임: JSON 은 Upbit 원본 프레임의 배열, PROTOBUF 는 length-delimited PTicker 의 연속
+ * - 마켓별 상태는 마켓 id ({@link MarketIdRegistry}) 로 인덱싱한 배열에 둔다. 대기 tick 은 미리 만든 슬롯에 덮어써서 tick 마다 할당하지 않는다.
+ */
+@Slf4j
+@Component
+public class TickerBatchPublisher {
+
+    private final ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate;
+    private final MarketIdRegistry marketIds;
+    private final TickerFormat format;
+    private final PublishOverflowPolicy overflowPolicy;
+    private final long windowMs;
+    private final int maxBatch;
+    private final Semaphore inFlight;
+
+    // CONFLATE: 마켓 id 마다 미리 만들어 둔 슬롯 (링 소비자 스레드가 제자리에서 덮어쓰고 flush 스레드가 읽는다, 슬롯 단위로 잠근다)
+    private final Slot[] latest;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    // BLOCK / DROP_OLDEST: 도착 순서대로 쌓는 bounded 큐. 슬롯은 free 에서 꺼내 채우고 발행한 뒤 돌려준다.
+    private final BlockingQueue<Slot> queue;
+    private final BlockingQueue<Slot> free;
+    private final int queueCapacity;
+    private int allocated; // 링 소비자 스레드 전용 (queue-capacity 개까지만 만든다)
+    // flush 스레드 전용
+    private final double[] publishedPrice; // 마켓별 마지막 발행 값 (NaN: 아직 발행하지 않음)
+    private final double[] publishedVolume;
+    private final List<Slot> drained = new ArrayList<>();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private final LongAdder received = new LongAdder();
+
+    // metrics
+    private final DistributionSummary batchSize;
+    private final DistributionSummary conflationRatio;
+    private final Counter unchanged;
+    private final Counter dropped;
+    private final Counter deferred;
+    private final Timer latency;
+
+    private ScheduledExecutorService executor;
+
+    @Autowired
+    public TickerBatchPublisher(ReactiveRedisTemplate<String, byte[]> byteArrayRedisTemplate,
+                                MeterRegistry meterRegistry,
+                                MarketIdRegistry marketIds,
+                                @Value("${ticker.publish.format:JSON}") TickerFormat format,
+                                @Value("${ticker.publish.overflow:CONFLATE}") PublishOverflowPolicy overflowPolicy,
+                                @Value("${ticker.publish.window-ms:50}") long windowMs,
+                                @Value("${ticker.publish.queue-capacity:65536}") int queueCapacity,
+                                @Value("${ticker.publish.max-batch:1024}") int maxBatch,
+                                @Value("${ticker.publish.max-in-flight:4}") int maxInFlight) {
+        this.byteArrayRedisTemplate = byteArrayRedisTemplate;
+        this.marketIds = marketIds;
+        this.format = format;
+        this.overflowPolicy = overflowPolicy;
+        this.windowMs = Math.max(1, windowMs);
+        this.maxBatch = Math.max(1, maxBatch);
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.queueCapacity = overflowPolicy == PublishOverflowPolicy.CONFLATE ? 1 : Math.max(1, queueCapacity);
+        this.queue = new ArrayBlockingQueue<>(this.queueCapacity);
+        this.free = new ArrayBlockingQueue<>(this.queueCapacity);
+        this.latest = new Slot[overflowPolicy == PublishOverflowPolicy.CONFLATE ? marketIds.capacity() : 0];
+        for (int id = 0; id < latest.length; id++)
+            latest[id] = new Slot();
+        this.publishedPrice = new double[marketIds.capacity()];
+        this.publishedVolume = new double[marketIds.capacity()];
+        Arrays.fill(publishedPrice, Double.NaN);
+        Arrays.fill(publishedVolume, Double.NaN);
+
+        this.batchSize = DistributionSummary.builder("ticker.publish.batch.size")
+                .description("윈도우당 발행한 ticker 수")
+                .register(meterRegistry);
+        this.conflationRatio = DistributionSummary.builder("ticker.publish.conflation.ratio")
+                .description("윈도우당 수신 대비 발행하지 않은 ticker 비율 (0 ~ 1)")
+                .register(meterRegistry);
+        this.unchanged = Counter.builder("ticker.publish.unchanged")
+                .description("현재가/거래량 변화가 없어 버린 ticker 수")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("ticker.publish.dropped")
+                .description("큐가 가득 차서 버린 ticker 수 (DROP_OLDEST)")
+                .register(meterRegistry);
+        this.deferred = Counter.builder("ticker.publish.deferred")
+                .description("처리 중인 PUBLISH 가 가득 차서 건너뛴 윈도우 수")
+                .register(meterRegistry);
+        this.latency = Timer.builder("ticker.publish.latency")
+                .description("PUBLISH 요청부터 Redis 응답까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("ticker.publish.queue.depth", this, publisher -> publisher.pendingCount.get() + publisher.queue.size())
+                .description("발행 대기 중인 ticker 수")
+                .register(meterRegistry);
+        Gauge.builder("ticker.publish.in.flight", this, publisher -> Math.max(1, maxInFlight) - publisher.inFlight.availablePermits())
+                .description("응답을 기다리는 PUBLISH 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ticker-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::flush, windowMs, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        flush(); // 남은 tick 발행
+    }
+
+    // JSON 모드에서만 원본 프레임을 발행한다
+    public boolean needsRawFrame() {
+        return format == TickerFormat.JSON;
+    }
+
+    /**
+     * 디코딩된 ticker 를 다음 윈도우 발행 대상으로 등록한다. (링 소비자 스레드 하나만 호출한다)
+     * - record / frame 은 호출자가 재사용하므로 슬롯에 복사해서 보관한다. 슬롯은 재사용하므로 tick 마다 할당하지 않는다.
+     * - BLOCK 정책에서는 큐에 자리가 날 때까지 호출 스레드가 멈춘다.
+     */
+    public void offer(TickerRecord record, ByteBuffer frame) {
+        int marketId = record.getMarketId();
+        if (marketId < 0 || marketId >= publishedPrice.length)
+            return;
+        received.increment();
+
+        switch (overflowPolicy) {
+            case CONFLATE -> {
+                Slot slot = latest[marketId];
+                synchronized (slot) {
+                    slot.fill(record, frame, format);
+                    if (!slot.dirty) {
+                        slot.dirty = true;
+                        pendingCount.incrementAndGet();
+                    }
+                }
+            }
+            case BLOCK -> {
+                Slot slot = freeSlot();
+                if (slot == null) {
+                    try {
+                        slot = free.take();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                slot.fill(record, frame, format);
+                queue.add(slot);
+            }
+            case DROP_OLDEST -> {
+                Slot slot = freeSlot();
+                if (slot == null) {
+                    // 가장 오래된 tick 을 버리고 그 슬롯을 쓴다 (모두 발행 중이면 새 tick 을 버린다)
+                    slot = queue.poll();
+                    dropped.increment();
+                    if (slot == null)
+                        return;
+                }
+                slot.fill(record, frame, format);
+                queue.add(slot);
+            }
+        }
+    }
+
+    // 윈도우마다 실행된다 (테스트에서는 직접 호출)
+    synchronized void flush() {
+        if (!inFlight.tryAcquire()) {
+            deferred.increment(); // tick 은 큐/슬롯에 남아 다음 윈도우에 발행된다
+            return;
+        }
+
+        boolean sent = false;
+        try {
+            long offered = received.sumThenReset();
+            out.reset();
+            int count = overflowPolicy == PublishOverflowPolicy.CONFLATE ? writeLatest() : writeQueued();
+
+            batchSize.record(count);
+            if (offered > 0)
+                conflationRatio.record(Math.max(0, 1.0 - (double) count / offered));
+            if (count == 0)
+                return;
+
+            if (format == TickerFormat.JSON)
+                out.write(']');
+            send(out.toByteArray());
+            sent = true;
+        } catch (Exception e) {
+            // 예외가 전파되면 스케줄이 멈추므로 로그만 남긴다
+            log.debug("Ticker batch publish failed: {}", e.getMessage());
+        } finally {
+            if (!sent)
+                inFlight.release();
+        }
+    }
+
+    // private
+    private Slot freeSlot() {
+        Slot slot = free.poll();
+        if (slot == null && allocated < queueCapacity) {
+            allocated++;
+            slot = new Slot();
+        }
+        return slot;
+    }
+
+    private int writeLatest() throws IOException {
+        int count = 0;
+        for (int id = 0, size = Math.min(marketIds.size(), latest.length); id < size; id++) {
+            Slot slot = latest[id];
+            synchronized (slot) {
+                if (!slot.dirty)
+                    continue;
+                slot.dirty = false;
+                pendingCount.decrementAndGet();
+                if (write(slot, count))
+                    count++;
+            }
+        }
+        return count;
+    }
+
+    private int writeQueued() throws IOException {
+        queue.drainTo(drained, maxBatch);
+        int count = 0;
+        try {
+            for (Slot slot : drained) {
+                if (write(slot, count))
+                    count++;
+            }
+        } finally {
+            free.addAll(drained);
+            drained.clear();
+        }
+        return count;
+    }
+
+    // 마지막 발행 값과 현재가/누적 거래량이 같으면 쓰지 않는다
+    private boolean write(Slot slot, int index) throws IOException {
+        int id = slot.marketId;
+        if (publishedPrice[id] == slot.tradePrice && publishedVolume[id] == slot.accTradeVolume) {
+            unchanged.increment();
+            return false;
+        }
+        publishedPrice[id] = slot.tradePrice;
+        publishedVolume[id] = slot.accTradeVolume;
+
+        if (format == TickerFormat.PROTOBUF) {
+            TickerMessageCodec.writeDelimited(slot.ticker, out);
+            return true;
+        }
+
+        out.write(index == 0 ? '[' : ',');
+        out.write(slot.frame, 0, slot.length);
+        return true;
+    }
+
+    private void send(byte[] frame) {
+        long startedAt = System.nanoTime();
+        byteArrayRedisTemplate.convertAndSend(REDIS_TICKER, frame)
+                .doFinally(signal -> {
+                    inFlight.release();
+                    latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                })
+                .subscribe(receivers -> {
+                }, error -> log.debug("Ticker publish failed: {}", error.getMessage()));
+    }
+
+    // 발행 대기 tick 하나를 담는 재사용 슬롯
+    private static final class Slot {
+        int marketId;
+        double tradePrice;
+        double accTradeVolume;
+        final TickerRecord ticker = new TickerRecord(); // PROTOBUF
+        byte[] frame = new byte[0]; // JSON: 원본 프레임 (더 큰 프레임이 올 때만 늘린다)
+        int length;
+        boolean dirty; // CONFLATE: 발행 대기 중
+
+        void fill(TickerRecord record, ByteBuffer source, TickerFormat format) {
+            marketId = record.getMarketId();
+            tradePrice = record.getTradePrice();
+            accTradeVolume = record.getAccTradeVolume();
+            if (format == TickerFormat.PROTOBUF) {
+                ticker.copyFrom(record);
+                return;
+            }
+
+            // String 으로 디코딩하지 않고 원본 프레임 바이트를 그대로 보관
+            length = source.remaining();
+            if (frame.length < length)
+                frame = new byte[Math.max(length, frame.length * 2)];
+            source.get(source.position(), frame, 0, length);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+import static com.crypto_trader.scheduler.proto.DataModel.*;
+
+/**
+ * Redis ticker 채널 메시지 <-> {@link TickerRecord} 변환
+ * - 한 메시지(배치 프레임)에 여러 ticker 가 들어있을 수 있다.
+ * - 수신 시 첫 바이트로 포맷을 구분한다. ('{' / '[' 이면 Upbit JSON, 아니면 length-delimited PTicker 스트림)
+ * - PTicker 는 마켓 코드 대신 마켓 id 를 싣는다. (받은 record 의 market 은 null, marketId 로 찾는다)
+ * - 내부 디코더가 상태를 가지므로 스레드마다 별도 인스턴스를 사용해야 한다.
+ */
+public class TickerMessageCodec {
+
+    private final UpbitTickerDecoder jsonDecoder = new UpbitTickerDecoder();
+
+    public static void writeDelimited(TickerRecord record, OutputStream out) throws IOException {
+        PTicker.newBuilder()
+                .setMarketId(record.getMarketId())
+                .setTradePrice(record.getTradePrice())
+                .setAccTradePrice24H(record.getAccTradePrice24h())
+                .setSignedChangePrice(record.getSignedChangePrice())
+                .setSignedChangeRate(record.getSignedChangeRate())
+                .setHighPrice(record.getHighPrice())
+                .setLowPrice(record.getLowPrice())
+                .setAccTradeVolume24H(record.getAccTradeVolume24h())
+                .setAccTradeVolume(record.getAccTradeVolume())
+                .setTradeTimestamp(record.getTradeTimestamp())
+                .setTimestamp(record.getTimestamp())
+                .build()
+                .writeDelimitedTo(out);
+    }
+
+    /**
+     * 메시지 안의 ticker 마다 consumer 를 호출한다. (record 는 재사용되므로 호출 안에서만 사용)
+     *
+     * @return 전달한 ticker 수
+     */
+    public int decode(byte[] message, TickerRecord record, Consumer<TickerRecord> consumer) {
+        if (message.length == 0)
+            return 0;
+
+        if (message[0] == '{' || message[0] == '[')
+            return jsonDecoder.decodeAll(ByteBuffer.wrap(message), record, consumer);
+
+        int count = 0;
+        ByteArrayInputStream in = new ByteArrayInputStream(message);
+        try {
+            PTicker ticker;
+            while ((ticker = PTicker.parseDelimitedFrom(in)) != null) {
+                copy(ticker, record);
+                consumer.accept(record);
+                count++;
+            }
+        } catch (IOException e) {
+            // 깨진 프레임: 앞에서 읽은 ticker 까지만 전달
+        }
+        return count;
+    }
+
+    private static void copy(PTicker ticker, TickerRecord record) {
+        record.clear();
+        if (ticker.getMarket().isEmpty())
+            record.setMarketId(ticker.getMarketId());
+        else
+            record.setMarket(ticker.getMarket());
+        record.setTradePrice(ticker.getTradePrice());
+        record.setAccTradePrice24h(ticker.getAccTradePrice24H());
+        record.setSignedChangePrice(ticker.getSignedChangePrice());
+        record.setSignedChangeRate(ticker.getSignedChangeRate());
+        record.setHighPrice(ticker.getHighPrice());
+        record.setLowPrice(ticker.getLowPrice());
+        record.setAccTradeVolume24h(ticker.getAccTradeVolume24H());
+        record.setAccTradeVolume(ticker.getAccTradeVolume());
+        record.setTradeTimestamp(ticker.getTradeTimestamp());
+        record.setTimestamp(ticker.getTimestamp());
+    }
+}
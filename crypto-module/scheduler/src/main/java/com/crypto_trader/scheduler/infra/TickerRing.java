@@ -0,0 +1,139 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 웹소켓 연결 하나(단일 producer)와 소비자들(Redis 발행, 캔들 집계) 사이의 미리 할당된 링 버퍼
+ * - 슬롯(TickerRecord + 프레임 버퍼)은 생성 시 모두 할당하고 tick 마다 내용만 덮어쓴다.
+ * - 소비자마다 자기 시퀀스를 가지고, 가장 느린 소비자보다 한 바퀴 이상 앞서면 producer 가 기다린다.
+ * - publish 는 한 스레드(웹소켓 세션)에서만, poll 은 소비자 번호마다 한 스레드에서만 호출해야 한다.
+ */
+public class TickerRing {
+
+    private static final int INITIAL_FRAME_BYTES = 2048;
+
+    private final Slot[] slots;
+    private final int mask;
+    private final boolean copyFrames;
+
+    private final AtomicLong cursor = new AtomicLong(-1); // 마지막으로 publish 된 시퀀스
+    private final AtomicLong[] sequences; // 소비자별 마지막으로 처리한 시퀀스
+
+    // producer 전용
+    private long nextSequence;
+    private long cachedMinSequence = -1;
+
+    /**
+     * @param capacity   슬롯 수 (2의 거듭제곱으로 올림)
+     * @param consumers  소비자 수
+     * @param copyFrames 원본 프레임 바이트도 슬롯에 복사할지 (JSON 발행 시에만 필요)
+     */
+    public TickerRing(int capacity, int consumers, boolean copyFrames) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new Slot[size];
+        this.mask = size - 1;
+        this.copyFrames = copyFrames;
+
+        for (int i = 0; i < size; i++)
+            slots[i] = new Slot(copyFrames ? INITIAL_FRAME_BYTES : 0);
+
+        this.sequences = new AtomicLong[consumers];
+        for (int i = 0; i < consumers; i++)
+            sequences[i] = new AtomicLong(-1);
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * record / frame 을 다음 슬롯에 복사하고 소비자에게 공개한다. (frame 의 position 은 바꾸지 않는다)
+     */
+    public void publish(TickerRecord record, ByteBuffer frame) {
+        long sequence = nextSequence;
+        long wrapPoint = sequence - slots.length;
+        if (wrapPoint > cachedMinSequence) {
+            int idle = 0;
+            while (wrapPoint > (cachedMinSequence = minSequence()))
+                idle = idle(idle); // 가장 느린 소비자를 기다린다
+        }
+
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.record.copyFrom(record);
+        if (copyFrames)
+            slot.copyFrame(frame);
+
+        nextSequence = sequence + 1;
+        cursor.lazySet(sequence);
+    }
+
+    /**
+     * 소비자 consumer 가 아직 처리하지 않은 tick 을 모두 handler 로 넘긴다.
+     * - handler 에 넘긴 record / frame 은 슬롯 자체이므로 호출 안에서만 읽어야 한다.
+     *
+     * @return 처리한 tick 수
+     */
+    public int poll(int consumer, Handler handler) {
+        AtomicLong sequence = sequences[consumer];
+        long from = sequence.get() + 1;
+        long available = cursor.get();
+        if (available < from)
+            return 0;
+
+        for (long s = from; s <= available; s++) {
+            Slot slot = slots[(int) (s & mask)];
+            handler.onTick(slot.record, slot.view);
+        }
+        sequence.lazySet(available);
+        return (int) (available - from + 1);
+    }
+
+    /**
+     * 대기 전략: 잠깐 spin 한 뒤 짧게 park
+     */
+    static int idle(int idle) {
+        if (idle < 100)
+            Thread.onSpinWait();
+        else
+            LockSupport.parkNanos(50_000);
+        return idle + 1;
+    }
+
+    // private
+    private long minSequence() {
+        long min = Long.MAX_VALUE;
+        for (AtomicLong sequence : sequences)
+            min = Math.min(min, sequence.get());
+        return min;
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void onTick(TickerRecord record, ByteBuffer frame);
+    }
+
+    private static class Slot {
+        final TickerRecord record = new TickerRecord();
+        byte[] frame;
+        ByteBuffer view;
+
+        Slot(int frameBytes) {
+            this.frame = new byte[frameBytes];
+            this.view = ByteBuffer.wrap(frame, 0, 0);
+        }
+
+        void copyFrame(ByteBuffer source) {
+            int length = source.remaining();
+            if (length > frame.length) { // 드문 큰 프레임만 재할당
+                frame = new byte[Integer.highestOneBit(length) << 1];
+                view = ByteBuffer.wrap(frame);
+            }
+            source.get(source.position(), frame, 0, length);
+            view.clear().limit(length);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.crypto_trader.scheduler.infra;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 연결별 {@link TickerRing} 을 만들고, 소비자마다 전용 스레드로 모든 링을 돌며 tick 을 넘긴다.
+ * - PUBLISH: {@link TickerBatchPublisher} (Redis 발행)
+ * - CANDLE: {@link SimpleCandleRepository} 직접 갱신 (ticker.candle.from-ring, 기본 true)
+ *   false 면 캔들 집계는 기존처럼 Redis ticker 채널을 구독한다. (수집/집계를 다른 JVM 에서 돌릴 때)
+ */
+@Slf4j
+@Component
+public class TickerRingDispatcher {
+
+    public static final int PUBLISH = 0;
+    public static final int CANDLE = 1;
+
+    private final TickerBatchPublisher batchPublisher;
+    private final SimpleCandleRepository candleRepository;
+    private final int ringSize;
+    private final boolean candleFromRing;
+
+    private final List<TickerRing> rings = new CopyOnWriteArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    @Autowired
+    public TickerRingDispatcher(TickerBatchPublisher batchPublisher,
+                                SimpleCandleRepository candleRepository,
+                                @Value("${ticker.ring.size:4096}") int ringSize,
+                                @Value("${ticker.candle.from-ring:true}") boolean candleFromRing) {
+        this.batchPublisher = batchPublisher;
+        this.candleRepository = candleRepository;
+        this.ringSize = ringSize;
+        this.candleFromRing = candleFromRing;
+    }
+
+    public boolean isCandleFromRing() {
+        return candleFromRing;
+    }
+
+    /**
+     * 연결(producer) 하나가 사용할 링을 만든다.
+     */
+    public TickerRing newRing() {
+        TickerRing ring = new TickerRing(ringSize, candleFromRing ? 2 : 1, batchPublisher.needsRawFrame());
+        rings.add(ring);
+        return ring;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        startConsumer("ticker-publish-consumer", PUBLISH, batchPublisher::offer);
+        if (candleFromRing) {
+            startConsumer("ticker-candle-consumer", CANDLE, (record, frame) ->
+                    candleRepository.update(record.getMarketId(), record.getTradeTimestamp(), record.getTradePrice(), record.getAccTradeVolume()));
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Thread thread : threads)
+            thread.join(1000);
+    }
+
+    // private
+    private void startConsumer(String name, int consumer, TickerRing.Handler handler) {
+        // 예외로 소비자 스레드가 죽지 않도록 tick 단위로 잡는다
+        TickerRing.Handler safeHandler = (record, frame) -> {
+            try {
+                handler.onTick(record, frame);
+            } catch (Exception e) {
+                log.debug("{} failed on {}: {}", name, record.getMarket(), e.getMessage());
+            }
+        };
+
+        Thread thread = new Thread(() -> {
+            int idle = 0;
+            while (running) {
+                int count = 0;
+                for (TickerRing ring : rings)
+                    count += ring.poll(consumer, safeHandler);
+                idle = count > 0 ? 0 : TickerRing.idle(idle);
+            }
+        }, name);
+        thread.setDaemon(true);
+        thread.start();
+        threads.add(thread);
+    }
+}
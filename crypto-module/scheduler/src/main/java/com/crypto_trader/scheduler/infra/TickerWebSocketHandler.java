@@ -1,56 +1,105 @@
 package com.crypto_trader.scheduler.infra;
 
+import com.crypto_trader.scheduler.domain.OrderBookRecord;
+import com.crypto_trader.scheduler.domain.TickerRecord;
 import com.crypto_trader.scheduler.domain.event.FetchTickerEvent;
+import com.crypto_trader.scheduler.domain.event.TickerFeedClosedEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.BinaryWebSocketHandler;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import static com.crypto_trader.scheduler.global.constant.RedisConst.REDIS_TICKER;
 import static com.crypto_trader.scheduler.global.constant.WebSocketConst.SOCKET_ID;
-import static com.crypto_trader.scheduler.global.utils.StringUtils.*;
 
+/**
+ * Upbit 웹소켓 연결 하나(샤드의 피드 하나)를 담당하는 핸들러
+ * - 연결마다 인스턴스를 따로 만든다. (디코더/레코드가 연결 단위 상태이므로 공유하지 않는다)
+ * - 같은 샤드의 피드들은 같은 마켓을 구독하고, {@link TickerArbiter} 가 먼저 도착한 tick 만 통과시킨다.
+ * - orderBookStore 가 있으면 같은 세션에서 orderbook 도 구독해 {@link OrderBookStore} 를 갱신한다.
+ */
 @Slf4j
-@Component
 public class TickerWebSocketHandler extends BinaryWebSocketHandler {
 
+    private final int shard;
+    private final int feed;
     private final ApplicationEventPublisher publisher;
     private final ObjectMapper objectMapper;
-    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final MarketIdRegistry marketIds;
+    private final TickerRing ring; // 이 연결이 단일 producer
+    private final TickerArbiter arbiter;
+    private final TickTapeRecorder tapeRecorder; // null 이면 녹화하지 않음
+    private final OrderBookStore orderBookStore; // null 이면 orderbook 을 구독하지 않음
 
     // private state
-    private WebSocketSession session;
-
-    @Autowired
-    public TickerWebSocketHandler(ApplicationEventPublisher publisher,
+    private volatile WebSocketSession session;
+    private volatile List<String> subscribedCodes = List.of(); // 현재 세션에 구독 요청한 마켓
+    private volatile long lastMessageAt = System.currentTimeMillis(); // stall 감지용
+
+    // 세션 스레드 전용 (웹소켓 메시지는 세션 단위로 순차 처리된다)
+    private final UpbitTickerDecoder decoder = new UpbitTickerDecoder();
+    private final TickerRecord record = new TickerRecord();
+    private final UpbitOrderbookDecoder orderBookDecoder = new UpbitOrderbookDecoder();
+    private final OrderBookRecord orderBook = new OrderBookRecord();
+
+    public TickerWebSocketHandler(int shard,
+                                  int feed,
+                                  ApplicationEventPublisher publisher,
                                   ObjectMapper objectMapper,
-                                  ReactiveRedisTemplate<String, String> redisTemplate
+                                  MarketIdRegistry marketIds,
+                                  TickerRing ring,
+                                  TickerArbiter arbiter,
+                                  TickTapeRecorder tapeRecorder,
+                                  OrderBookStore orderBookStore
                                   ) {
+        this.shard = shard;
+        this.feed = feed;
         this.publisher = publisher;
         this.objectMapper = objectMapper;
-        this.redisTemplate = redisTemplate;
+        this.marketIds = marketIds;
+        this.ring = ring;
+        this.arbiter = arbiter;
+        this.tapeRecorder = tapeRecorder;
+        this.orderBookStore = orderBookStore;
     }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        log.debug("Ticker shard {} feed {} connected", shard, feed);
         this.session = session;
+        this.subscribedCodes = List.of();
+        this.lastMessageAt = System.currentTimeMillis();
         publisher.publishEvent(new FetchTickerEvent(this));
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
         super.handleBinaryMessage(session, message);
-        String tickerJson = decodeToString(message.getPayload());
-        redisTemplate.convertAndSend(REDIS_TICKER, tickerJson).subscribe(); // publish
+        long receivedAt = System.currentTimeMillis();
+        lastMessageAt = receivedAt;
+        ByteBuffer payload = message.getPayload();
+        if (!decoder.decode(payload, record)) {
+            handleOrderBook(payload, receivedAt);
+            return;
+        }
+        record.setMarketId(marketIds.idOf(record.getMarket()));
+        if (record.getMarketId() == MarketIdRegistry.UNKNOWN) {
+            log.debug("Skip tick of unregistered market {}", record.getMarket());
+            return;
+        }
+        if (!arbiter.accept(feed, record))
+            return; // 다른 피드가 먼저 받은 tick
+        if (tapeRecorder != null)
+            tapeRecorder.append(payload, receivedAt);
+
+        ring.publish(record, payload); // Redis 발행 / 캔들 집계는 링의 소비자가 처리
     }
 
     @Override
@@ -61,26 +110,82 @@ public class TickerWebSocketHandler extends BinaryWebSocketHandler {
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
         super.afterConnectionClosed(session, status);
+        log.warn("Ticker shard {} feed {} closed: {}", shard, feed, status);
+        this.subscribedCodes = List.of();
+        publisher.publishEvent(new TickerFeedClosedEvent(this, shard, feed)); // 재연결
     }
 
-    public void fetchAllTicker(List<String> marketCodes) {
+    /**
+     * stallMs 동안 아무 메시지도 받지 못했으면 true
+     */
+    public boolean isStalled(long now, long stallMs) {
+        return now - lastMessageAt > stallMs;
+    }
+
+    // 재연결을 기다리는 동안 stall 로 다시 잡히지 않도록 시계를 되돌린다
+    public void markReconnecting() {
+        this.lastMessageAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 열린 세션을 닫는다. (afterConnectionClosed 에서 재연결 이벤트가 발행된다)
+     *
+     * @return 닫을 세션이 없었으면 false
+     */
+    public boolean closeSession() {
+        WebSocketSession session = this.session;
         if (session == null || !session.isOpen())
-            return;
+            return false;
 
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("Failed to close ticker shard {} feed {}: {}", shard, feed, e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 이 샤드에 배정된 마켓을 구독한다. (Upbit 는 같은 세션의 새 요청으로 구독 목록을 교체한다)
+     * - 배정이 바뀌지 않았으면 다시 요청하지 않는다.
+     */
+    public synchronized void fetchAllTicker(List<String> marketCodes) {
+        WebSocketSession session = this.session;
+        if (session == null || !session.isOpen())
+            return;
+        if (marketCodes.equals(subscribedCodes) || marketCodes.isEmpty())
+            return;
 
         try {
             String payload = createPayload(marketCodes);
             session.sendMessage(new TextMessage(payload));
+            subscribedCodes = List.copyOf(marketCodes);
+            log.debug("Ticker shard {} feed {} subscribed {} markets", shard, feed, marketCodes.size());
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    // ticker 가 아닌 프레임은 orderbook 으로 읽어본다
+    private void handleOrderBook(ByteBuffer payload, long receivedAt) {
+        if (orderBookStore == null || !orderBookDecoder.decode(payload, orderBook)) {
+            log.debug("Skip non-ticker frame ({} bytes)", payload.remaining());
+            return;
+        }
+        orderBook.setMarketId(marketIds.idOf(orderBook.getMarket()));
+        if (!orderBookStore.update(orderBook))
+            return; // 다른 피드가 먼저 받았거나 지난 호가
+        if (tapeRecorder != null)
+            tapeRecorder.append(payload, receivedAt);
+    }
+
     private String createPayload(List<String> marketCodes) throws JsonProcessingException {
-        List<Map<String, Object>> tickerPayloads = List.of(
-                Map.of("ticket", SOCKET_ID),
-                Map.of("type", "ticker", "codes", marketCodes)
-        );
+        List<Map<String, Object>> tickerPayloads = new ArrayList<>();
+        tickerPayloads.add(Map.of("ticket", SOCKET_ID));
+        tickerPayloads.add(Map.of("type", "ticker", "codes", marketCodes));
+        if (orderBookStore != null)
+            tickerPayloads.add(Map.of("type", "orderbook", "codes", marketCodes));
 
         return objectMapper.writeValueAsString(tickerPayloads);
     }
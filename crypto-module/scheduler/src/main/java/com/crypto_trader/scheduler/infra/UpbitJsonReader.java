@@ -0,0 +1,293 @@
+package com.crypto_trader.scheduler.infra;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Upbit 웹소켓 JSON 프레임을 ByteBuffer 에서 바로 읽는 디코더들의 공통 부분 (커서, 숫자 파싱, 마켓 코드 intern)
+ * - 상태(intern 테이블, 커서)를 가지므로 인스턴스는 한 스레드에서만 사용해야 한다.
+ */
+abstract class UpbitJsonReader {
+
+    // Clinger fast path 에서 정확히 표현되는 10의 거듭제곱
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final byte[] TYPE = bytes("type");
+    protected static final int UNKNOWN = -1;
+
+    // 마켓 코드 intern 테이블 (open addressing)
+    private byte[][] codeKeys = new byte[512][];
+    private String[] codeValues = new String[512];
+    private int codeCount;
+
+    // 현재 파싱 위치
+    protected ByteBuffer buf;
+    protected int pos;
+    protected int end;
+
+    protected void begin(ByteBuffer buffer) {
+        this.buf = buffer;
+        this.pos = buffer.position();
+        this.end = buffer.limit();
+    }
+
+    /**
+     * 키를 읽고 keys 에서의 번호를 돌려준다. (없으면 UNKNOWN)
+     */
+    protected int readKey(byte[][] keys) {
+        if (!consume('"'))
+            throw new IndexOutOfBoundsException();
+
+        int start = pos;
+        while (buf.get(pos) != '"')
+            pos++;
+        int length = pos - start;
+        pos++;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (matches(keys[i], start, length))
+                return i;
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * 현재 위치의 "type" 키 값이 expected 인지 확인한다. (키가 "type" 이 아니면 true, 커서는 움직이지 않는다)
+     * - Upbit 프레임은 type 이 첫 키이므로 다른 스트림의 프레임을 첫 키에서 바로 걸러낼 수 있다.
+     */
+    protected boolean typeMatches(byte[] expected) {
+        int at = pos;
+        if (buf.get(at) != '"' || !matches(TYPE, at + 1, TYPE.length) || buf.get(at + 1 + TYPE.length) != '"')
+            return true;
+
+        at += TYPE.length + 2;
+        while (isWhitespace(buf.get(at)) || buf.get(at) == ':')
+            at++;
+        return buf.get(at) == '"' && matches(expected, at + 1, expected.length) && buf.get(at + 1 + expected.length) == '"';
+    }
+
+    protected String readCode() {
+        if (!consume('"'))
+            throw new IndexOutOfBoundsException();
+
+        int start = pos;
+        while (buf.get(pos) != '"')
+            pos++;
+        int length = pos - start;
+        pos++;
+        return intern(start, length);
+    }
+
+    protected double readDouble() {
+        int start = pos;
+        boolean negative = false;
+        byte b = buf.get(pos);
+        if (b == 'n') { // null
+            skipValue();
+            return 0;
+        }
+        if (b == '-') {
+            negative = true;
+            pos++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+
+        while (pos < end && isDigit(b = buf.get(pos))) {
+            if (digits < 18) {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+            } else {
+                exponent++;
+            }
+            pos++;
+        }
+        if (pos < end && buf.get(pos) == '.') {
+            pos++;
+            while (pos < end && isDigit(b = buf.get(pos))) {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    exponent--;
+                }
+                pos++;
+            }
+        }
+        if (pos < end && ((b = buf.get(pos)) == 'e' || b == 'E')) {
+            pos++;
+            boolean negativeExp = false;
+            b = buf.get(pos);
+            if (b == '-' || b == '+') {
+                negativeExp = b == '-';
+                pos++;
+            }
+            int exp = 0;
+            while (pos < end && isDigit(b = buf.get(pos))) {
+                exp = exp * 10 + (b - '0');
+                pos++;
+            }
+            exponent += negativeExp ? -exp : exp;
+        }
+
+        double value;
+        if (mantissa < (1L << 53) && exponent >= -22 && exponent <= 22) {
+            value = exponent < 0 ? mantissa / POW10[-exponent] : mantissa * POW10[exponent];
+        } else {
+            value = slowParse(start); // 드문 경우만 할당이 발생
+            return value;
+        }
+        return negative ? -value : value;
+    }
+
+    private double slowParse(int start) {
+        byte[] raw = new byte[pos - start];
+        buf.get(start, raw);
+        return Double.parseDouble(new String(raw, StandardCharsets.US_ASCII));
+    }
+
+    protected void skipValue() {
+        byte b = buf.get(pos);
+        if (b == '"') {
+            skipString();
+            return;
+        }
+        if (b == '{' || b == '[') {
+            int depth = 0;
+            do {
+                b = buf.get(pos);
+                if (b == '"') {
+                    skipString();
+                    continue;
+                }
+                if (b == '{' || b == '[')
+                    depth++;
+                else if (b == '}' || b == ']')
+                    depth--;
+                pos++;
+            } while (depth > 0);
+            return;
+        }
+        // number, true, false, null
+        while (pos < end && (b = buf.get(pos)) != ',' && b != '}' && b != ']' && !isWhitespace(b))
+            pos++;
+    }
+
+    /**
+     * 여는 '{' 뒤 어딘가에서 그 객체의 닫는 '}' 다음까지 건너뛴다.
+     */
+    protected void skipObjectRest() {
+        int depth = 1;
+        while (depth > 0) {
+            byte b = buf.get(pos);
+            if (b == '"') {
+                skipString();
+                continue;
+            }
+            if (b == '{' || b == '[')
+                depth++;
+            else if (b == '}' || b == ']')
+                depth--;
+            pos++;
+        }
+    }
+
+    private void skipString() {
+        pos++; // opening quote
+        byte b;
+        while ((b = buf.get(pos)) != '"') {
+            pos += (b == '\\') ? 2 : 1;
+        }
+        pos++;
+    }
+
+    private String intern(int start, int length) {
+        int hash = hash(start, length);
+        int mask = codeKeys.length - 1;
+        int slot = hash & mask;
+
+        while (codeKeys[slot] != null) {
+            if (matches(codeKeys[slot], start, length))
+                return codeValues[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        byte[] key = new byte[length];
+        buf.get(start, key);
+        String value = new String(key, StandardCharsets.UTF_8);
+        codeKeys[slot] = key;
+        codeValues[slot] = value;
+
+        if (++codeCount * 2 > codeKeys.length)
+            resize();
+        return value;
+    }
+
+    private void resize() {
+        byte[][] oldKeys = codeKeys;
+        String[] oldValues = codeValues;
+        codeKeys = new byte[oldKeys.length * 2][];
+        codeValues = new String[oldKeys.length * 2];
+        int mask = codeKeys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == null)
+                continue;
+            int slot = Arrays.hashCode(oldKeys[i]) & mask;
+            while (codeKeys[slot] != null)
+                slot = (slot + 1) & mask;
+            codeKeys[slot] = oldKeys[i];
+            codeValues[slot] = oldValues[i];
+        }
+    }
+
+    // Arrays.hashCode(byte[]) 와 같은 값
+    private int hash(int start, int length) {
+        int h = 1;
+        for (int i = 0; i < length; i++)
+            h = 31 * h + buf.get(start + i);
+        return h;
+    }
+
+    protected boolean matches(byte[] key, int start, int length) {
+        if (key.length != length)
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buf.get(start + i))
+                return false;
+        }
+        return true;
+    }
+
+    protected boolean consume(char c) {
+        if (buf.get(pos) != c)
+            return false;
+        pos++;
+        return true;
+    }
+
+    protected byte peek() {
+        return buf.get(pos);
+    }
+
+    protected void skipWhitespace() {
+        while (pos < end && isWhitespace(buf.get(pos)))
+            pos++;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    protected static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,145 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.OrderBookRecord;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Upbit orderbook JSON 을 ByteBuffer 에서 바로 {@link OrderBookRecord} 로 읽어들이는 스트리밍 디코더
+ * - 호가 단계는 레코드의 고정 배열에 채우므로 메시지마다 할당이 없다. (MAX_DEPTH 를 넘는 단계는 버린다)
+ * - 상태(intern 테이블)를 가지므로 인스턴스는 한 스레드에서만 사용해야 한다.
+ */
+public class UpbitOrderbookDecoder extends UpbitJsonReader {
+
+    private static final int MARKET = 0;
+    private static final int TIMESTAMP = 1;
+    private static final int UNITS = 2;
+
+    private static final int ASK_PRICE = 0;
+    private static final int BID_PRICE = 1;
+    private static final int ASK_SIZE = 2;
+    private static final int BID_SIZE = 3;
+
+    private static final byte[][] KEYS = {
+            bytes("code"),
+            bytes("timestamp"),
+            bytes("orderbook_units"),
+    };
+    private static final byte[][] UNIT_KEYS = {
+            bytes("ask_price"),
+            bytes("bid_price"),
+            bytes("ask_size"),
+            bytes("bid_size"),
+    };
+    private static final byte[] ORDERBOOK = bytes("orderbook");
+
+    /**
+     * @return 마켓 코드와 호가가 포함된 orderbook 이었으면 true (false 면 record 내용은 무시해야 한다)
+     */
+    public boolean decode(ByteBuffer buffer, OrderBookRecord record) {
+        begin(buffer);
+        record.clear();
+
+        try {
+            skipWhitespace();
+            if (!consume('{'))
+                return false;
+
+            while (true) {
+                skipWhitespace();
+                byte b = peek();
+                if (b == '}')
+                    break;
+                if (b == ',') {
+                    pos++;
+                    continue;
+                }
+                if (!typeMatches(ORDERBOOK))
+                    return false;
+
+                int field = readKey(KEYS);
+                skipWhitespace();
+                if (!consume(':'))
+                    return false;
+                skipWhitespace();
+
+                switch (field) {
+                    case MARKET -> record.setMarket(readCode());
+                    case TIMESTAMP -> record.setTimestamp((long) readDouble());
+                    case UNITS -> readUnits(record);
+                    default -> skipValue();
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            return false; // 잘린 프레임
+        } finally {
+            this.buf = null;
+        }
+
+        return record.getMarket() != null && record.getDepth() > 0;
+    }
+
+    // private
+    private void readUnits(OrderBookRecord record) {
+        if (!consume('['))
+            throw new IndexOutOfBoundsException();
+
+        int level = 0;
+        while (true) {
+            skipWhitespace();
+            byte b = peek();
+            if (b == ']') {
+                pos++;
+                break;
+            }
+            if (b == ',') {
+                pos++;
+                continue;
+            }
+            if (level >= OrderBookRecord.MAX_DEPTH) {
+                skipValue();
+                continue;
+            }
+            readUnit(record, level++);
+        }
+        record.setDepth(level);
+    }
+
+    private void readUnit(OrderBookRecord record, int level) {
+        if (!consume('{'))
+            throw new IndexOutOfBoundsException();
+
+        double askPrice = 0, bidPrice = 0, askSize = 0, bidSize = 0;
+        while (true) {
+            skipWhitespace();
+            byte b = peek();
+            if (b == '}') {
+                pos++;
+                break;
+            }
+            if (b == ',') {
+                pos++;
+                continue;
+            }
+
+            int field = readKey(UNIT_KEYS);
+            skipWhitespace();
+            if (!consume(':'))
+                throw new IndexOutOfBoundsException();
+            skipWhitespace();
+
+            switch (field) {
+                case ASK_PRICE -> askPrice = readDouble();
+                case BID_PRICE -> bidPrice = readDouble();
+                case ASK_SIZE -> askSize = readDouble();
+                case BID_SIZE -> bidSize = readDouble();
+                default -> skipValue();
+            }
+        }
+
+        record.getAskPrices()[level] = askPrice;
+        record.getBidPrices()[level] = bidPrice;
+        record.getAskSizes()[level] = askSize;
+        record.getBidSizes()[level] = bidSize;
+    }
+}
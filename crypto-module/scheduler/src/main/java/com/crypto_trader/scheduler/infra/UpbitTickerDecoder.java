@@ -0,0 +1,154 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Upbit ticker JSON 을 ByteBuffer 에서 바로 {@link TickerRecord} 로 읽어들이는 스트리밍 디코더
+ * - 중간 String / Map 을 만들지 않는다. (마켓 코드는 내부 테이블에서 intern 된 String 을 재사용)
+ * - type 이 ticker 가 아닌 프레임(orderbook 등)은 첫 키에서 거절한다.
+ * - 상태(intern 테이블)를 가지므로 인스턴스는 한 스레드에서만 사용해야 한다.
+ */
+public class UpbitTickerDecoder extends UpbitJsonReader {
+
+    private static final int MARKET = 0;
+    private static final int TRADE_PRICE = 1;
+    private static final int ACC_TRADE_PRICE_24H = 2;
+    private static final int SIGNED_CHANGE_PRICE = 3;
+    private static final int SIGNED_CHANGE_RATE = 4;
+    private static final int HIGH_PRICE = 5;
+    private static final int LOW_PRICE = 6;
+    private static final int ACC_TRADE_VOLUME_24H = 7;
+    private static final int ACC_TRADE_VOLUME = 8;
+    private static final int TRADE_TIMESTAMP = 9;
+    private static final int TIMESTAMP = 10;
+
+    private static final byte[][] KEYS = {
+            bytes("code"),
+            bytes("trade_price"),
+            bytes("acc_trade_price_24h"),
+            bytes("signed_change_price"),
+            bytes("signed_change_rate"),
+            bytes("high_price"),
+            bytes("low_price"),
+            bytes("acc_trade_volume_24h"),
+            bytes("acc_trade_volume"),
+            bytes("trade_timestamp"),
+            bytes("timestamp"),
+    };
+
+    private static final byte[] TICKER = bytes("ticker");
+
+    /**
+     * @return 마켓 코드가 포함된 ticker 였으면 true (false 면 record 내용은 무시해야 한다)
+     */
+    public boolean decode(ByteBuffer buffer, TickerRecord record) {
+        begin(buffer);
+
+        try {
+            skipWhitespace();
+            return decodeObject(record);
+        } catch (IndexOutOfBoundsException e) {
+            return false; // 잘린 프레임
+        } finally {
+            this.buf = null;
+        }
+    }
+
+    /**
+     * 단일 ticker 객체 또는 ticker 배열(배치 프레임)을 읽어 ticker 마다 consumer 를 호출한다.
+     * - consumer 에 전달되는 record 는 같은 인스턴스이므로 호출 안에서만 사용해야 한다.
+     *
+     * @return 전달한 ticker 수
+     */
+    public int decodeAll(ByteBuffer buffer, TickerRecord record, Consumer<TickerRecord> consumer) {
+        begin(buffer);
+
+        int count = 0;
+        try {
+            skipWhitespace();
+            if (peek() != '[') {
+                if (decodeObject(record)) {
+                    consumer.accept(record);
+                    count++;
+                }
+                return count;
+            }
+
+            pos++;
+            while (true) {
+                skipWhitespace();
+                byte b = peek();
+                if (b == ']')
+                    break;
+                if (b == ',') {
+                    pos++;
+                    continue;
+                }
+                if (decodeObject(record)) {
+                    consumer.accept(record);
+                    count++;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // 잘린 프레임: 앞에서 읽은 ticker 까지만 전달
+        } finally {
+            this.buf = null;
+        }
+        return count;
+    }
+
+    // private
+    private boolean decodeObject(TickerRecord record) {
+        record.clear();
+        if (!consume('{')) {
+            skipValue();
+            return false;
+        }
+
+        while (true) {
+            skipWhitespace();
+            byte b = peek();
+            if (b == '}') {
+                pos++;
+                break;
+            }
+            if (b == ',') {
+                pos++;
+                continue;
+            }
+            if (!typeMatches(TICKER)) {
+                skipObjectRest();
+                return false;
+            }
+
+            int field = readKey(KEYS);
+            skipWhitespace();
+            if (!consume(':'))
+                throw new IndexOutOfBoundsException();
+            skipWhitespace();
+            readValue(field, record);
+        }
+
+        return record.getMarket() != null;
+    }
+
+    private void readValue(int field, TickerRecord record) {
+        switch (field) {
+            case MARKET -> record.setMarket(readCode());
+            case TRADE_PRICE -> record.setTradePrice(readDouble());
+            case ACC_TRADE_PRICE_24H -> record.setAccTradePrice24h(readDouble());
+            case SIGNED_CHANGE_PRICE -> record.setSignedChangePrice(readDouble());
+            case SIGNED_CHANGE_RATE -> record.setSignedChangeRate(readDouble());
+            case HIGH_PRICE -> record.setHighPrice(readDouble());
+            case LOW_PRICE -> record.setLowPrice(readDouble());
+            case ACC_TRADE_VOLUME_24H -> record.setAccTradeVolume24h(readDouble());
+            case ACC_TRADE_VOLUME -> record.setAccTradeVolume(readDouble());
+            case TRADE_TIMESTAMP -> record.setTradeTimestamp((long) readDouble());
+            case TIMESTAMP -> record.setTimestamp((long) readDouble());
+            default -> skipValue();
+        }
+    }
+}
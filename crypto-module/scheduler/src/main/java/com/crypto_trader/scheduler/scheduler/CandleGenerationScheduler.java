@@ -3,95 +3,103 @@ package com.crypto_trader.scheduler.scheduler;
 import com.crypto_trader.scheduler.domain.entity.Candle;
 import com.crypto_trader.scheduler.domain.CandleState;
 import com.crypto_trader.scheduler.domain.CandleUnit;
-import com.crypto_trader.scheduler.infra.CandleMongoRepository;
 import com.crypto_trader.scheduler.infra.CandleRedisRepository;
+import com.crypto_trader.scheduler.infra.CandleRedisRepository.CandleWrite;
+import com.crypto_trader.scheduler.infra.CandleWriteBehind;
 import com.crypto_trader.scheduler.infra.SimpleCandleRepository;
-import com.crypto_trader.scheduler.infra.SimpleMarketRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Component
 public class CandleGenerationScheduler {
 
     private final SimpleCandleRepository simpleCandleRepository;
-    private final CandleMongoRepository candleMongoRepository;
+    private final CandleWriteBehind candleWriteBehind;
     private final CandleRedisRepository candleRedisRepository;
-    private final SimpleMarketRepository marketRepository;
+    private final Counter closedCandles;
+    private final Timer redisBatchLatency;
+    private final Counter redisFailures;
 
     @Autowired
     public CandleGenerationScheduler(SimpleCandleRepository simpleCandleRepository,
-                                     CandleMongoRepository candleMongoRepository,
+                                     CandleWriteBehind candleWriteBehind,
                                      CandleRedisRepository candleRedisRepository,
-                                     SimpleMarketRepository marketRepository) {
+                                     MeterRegistry meterRegistry) {
         this.simpleCandleRepository = simpleCandleRepository;
-        this.candleMongoRepository = candleMongoRepository;
+        this.candleWriteBehind = candleWriteBehind;
         this.candleRedisRepository = candleRedisRepository;
-        this.marketRepository = marketRepository;
-    }
-
-    @Scheduled(cron = "*/3 * * * * *")
-    private void generateOneMinuteCandle() {
-        Map<String, CandleState> candleStates = simpleCandleRepository.getCandleStates();
-        if (candleStates.isEmpty())
-            return;
-
-        List<Candle> candles = candleStates.entrySet().stream()
-                .map(entry -> {
-                    String market = entry.getKey();
-                    CandleState candleState = entry.getValue();
-                    return new Candle(
-                            market,
-                            candleState.getOpen(),
-                            candleState.getLast(),
-                            candleState.getHigh(),
-                            candleState.getLow(),
-                            candleState.getVolume()
-                    );
-                })
-                .toList();
-
-        candleMongoRepository.saveAll(candles);
-        candleStates.forEach((market, candleState) -> candleRedisRepository.saveMinuteCandle(market, candleState, CandleUnit.ONEMINUTE));
-        candleStates.values().forEach(CandleState::reset); // 후처리
-
-
-    }
 
-    @Scheduled(cron = "0 */5 * * * *")
-    public void generateFiveMinuteCandles() {
-        aggregateAndStoreCandles(CandleUnit.FIVEMINUTE);
+        this.closedCandles = Counter.builder("candle.closed")
+                .description("마감한 1분 캔들 수")
+                .register(meterRegistry);
+        this.redisBatchLatency = Timer.builder("candle.redis.batch.latency")
+                .description("마감 한 번의 캔들을 Redis 에 모두 저장하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.redisFailures = Counter.builder("candle.redis.batch.failures")
+                .description("Redis 저장에 실패한 캔들 키 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("candle.ticks.late", simpleCandleRepository, SimpleCandleRepository::getLateTicks)
+                .description("마감 뒤에 도착해 버린 tick 수")
+                .register(meterRegistry);
+        Gauge.builder("candle.watermark.lag", simpleCandleRepository,
+                        repository -> repository.getWatermark() == Long.MIN_VALUE ? 0 : System.currentTimeMillis() - repository.getWatermark())
+                .description("현재 시각과 이벤트 시간 watermark 의 차이 (ms)")
+                .register(meterRegistry);
     }
 
-    @Scheduled(cron = "0 */10 * * * *")
-    public void generateTenMinuteCandles() {
-        aggregateAndStoreCandles(CandleUnit.TENMINUTE);
-    }
-
-    private void aggregateAndStoreCandles(CandleUnit unit) {
-        List<String> allMarketCodes = marketRepository.getAllMarketCodes();
-        allMarketCodes.forEach(market ->
-                candleRedisRepository.getOneMinuteCandle(market)
-                        .subscribe(candleStates -> {
-                            CandleState newCandleState = generateNewCandleState(candleStates, unit);
-                            if (newCandleState == null)
-                                return;
-
-                            candleRedisRepository.saveMinuteCandle(market, newCandleState, unit);
-                })
-        );
-    }
-
-    private CandleState generateNewCandleState(List<CandleState> candleStates, CandleUnit candleUnit) {
-        int num = candleUnit.num;
-        int candlesSize = candleStates.size();
-
-        if (candlesSize < num)
-            return null;
+    /**
+     * 이벤트 시간 watermark 가 마감 시각(분 끝 + grace)을 지난 마켓별 1분 캔들과,
+     * 그 캔들로 마감되는 상위 단위 캔들(5m / 10m / 15m / 1h / 4h / 1d)을 저장한다.
+     * - 마켓의 한 분은 한 번만 마감되므로 마켓당 분마다 Mongo 문서 / Redis 항목 하나만 쓴다.
+     * - 상위 단위는 메모리에서 이어서 만들므로 Redis 를 다시 읽지 않는다.
+     * - Redis 에는 마감 한 번의 캔들을 한 배치로 보낸다. ({@link CandleRedisRepository#saveCandles})
+     */
+    @Scheduled(fixedDelayString = "${candle.wheel.tick-ms:1000}")
+    public void closeCandles() {
+        List<Candle> candles = new ArrayList<>();
+        List<CandleWrite> writes = new ArrayList<>();
+
+        simpleCandleRepository.closeDue((market, unit, candleState) -> {
+            if (unit == CandleUnit.ONEMINUTE) {
+                candles.add(new Candle(
+                        market,
+                        unit,
+                        candleState.getOpen(),
+                        candleState.getLast(),
+                        candleState.getHigh(),
+                        candleState.getLow(),
+                        candleState.getVolume(),
+                        candleState.getTime()
+                ));
+            }
+            writes.add(new CandleWrite(market, unit, candleState));
+        });
+        if (candles.isEmpty())
+            return;
 
-        return CandleState.aggregate(candleStates.subList(candlesSize - num, candlesSize));
+        closedCandles.increment(candles.size());
+        candleWriteBehind.offer(candles); // Mongo 저장은 기다리지 않는다
+
+        long startedAt = System.nanoTime();
+        candleRedisRepository.saveCandles(writes)
+                .subscribe(result -> {
+                    redisBatchLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    if (result.failures().isEmpty())
+                        return;
+                    redisFailures.increment(result.failures().size());
+                    log.warn("Failed to save candles for {} keys: {}", result.failures().size(), result.failures());
+                }, error -> log.warn("Candle batch save failed: {}", error.getMessage()));
     }
 }
@@ -2,9 +2,11 @@ package com.crypto_trader.scheduler.scheduler;
 
 import com.crypto_trader.scheduler.application.TickerService;
 import com.crypto_trader.scheduler.domain.event.FetchTickerEvent;
+import com.crypto_trader.scheduler.domain.event.TickerFeedClosedEvent;
 import com.crypto_trader.scheduler.application.MarketService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -30,4 +32,15 @@ public class TickerScheduler {
             e.printStackTrace();
         }
     }
+
+    @EventListener(TickerFeedClosedEvent.class)
+    public void handleTickerFeedClosedEvent(TickerFeedClosedEvent event) {
+        tickerService.reconnect(event.getShard(), event.getFeed());
+    }
+
+    // 끊기지 않고 멈춘 연결 감지
+    @Scheduled(fixedDelay = 5000)
+    public void checkStalledFeeds() {
+        tickerService.checkStalledFeeds();
+    }
 }
@@ -0,0 +1,103 @@
+package com.crypto_trader.scheduler.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.crypto_trader.scheduler.domain.CandleAccumulator.MINUTE_MS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleAccumulatorTest {
+
+    private static final long MINUTE = 28_000_000L; // 임의의 epoch minute
+    private static final long T0 = MINUTE * MINUTE_MS;
+
+    private final CandleAccumulator accumulator = new CandleAccumulator();
+
+    @Test
+    void closesOhlcvOfEventTimeMinute() {
+        accumulator.update(T0 + 1_000, 100, 10);
+        accumulator.update(T0 + 2_000, 105, 12);
+        accumulator.update(T0 + 3_000, 98, 15);
+        accumulator.update(T0 + MINUTE_MS + 1_000, 200, 20); // 다음 분
+        accumulator.update(T0 + 59_000, 101, 20); // grace 안의 늦은 tick
+
+        CandleState candle = accumulator.close(MINUTE);
+
+        assertEquals(100.0, candle.getOpen());
+        assertEquals(105.0, candle.getHigh());
+        assertEquals(98.0, candle.getLow());
+        assertEquals(101.0, candle.getLast());
+        assertEquals(5.0, candle.getVolume()); // 첫 tick 은 기준값, 늦은 tick 의 거래량은 0
+        assertEquals(MINUTE * MINUTE_MS, candle.getTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+
+        CandleState next = accumulator.close(MINUTE + 1);
+        assertEquals(200.0, next.getOpen());
+        assertEquals(5.0, next.getVolume());
+    }
+
+    @Test
+    void minuteClosesOnlyOnceAndDropsLateTicks() {
+        accumulator.update(T0, 100, 10);
+        assertNotNull(accumulator.close(MINUTE));
+
+        assertFalse(accumulator.update(T0 + 30_000, 90, 11));
+        assertNull(accumulator.close(MINUTE));
+    }
+
+    @Test
+    void emptyMinuteCarriesLastClose() {
+        assertNull(accumulator.close(MINUTE - 1));
+
+        accumulator.update(T0, 100, 10);
+        accumulator.close(MINUTE);
+        CandleState candle = accumulator.close(MINUTE + 1);
+
+        assertEquals(100.0, candle.getOpen());
+        assertEquals(100.0, candle.getLast());
+        assertEquals(0.0, candle.getVolume());
+    }
+
+    @Test
+    void noTickIsLostWhileClosing() throws Exception {
+        int ticks = 2_000_000;
+        int ticksPerMinute = 1000;
+        AtomicLong watermark = new AtomicLong(MINUTE);
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= ticks; i++) {
+                long minute = MINUTE + i / ticksPerMinute;
+                assertTrue(accumulator.update(minute * MINUTE_MS, i, i));
+                watermark.lazySet(minute);
+            }
+        });
+
+        List<CandleState> candles = new ArrayList<>();
+        writer.start();
+        long minute = MINUTE;
+        while (writer.isAlive()) {
+            // watermark 보다 한 분 이상 뒤의 분만 마감한다 (writer 가 4분 넘게 앞서면 마감을 기다린다)
+            if (minute < watermark.get() - 1) {
+                candles.add(accumulator.close(minute++));
+            }
+        }
+        writer.join();
+        for (long last = MINUTE + ticks / ticksPerMinute; minute <= last; minute++)
+            candles.add(accumulator.close(minute));
+
+        double volume = 0;
+        double previousClose = 0;
+        for (CandleState candle : candles) {
+            volume += candle.getVolume();
+            assertTrue(candle.getLow() <= candle.getOpen() && candle.getOpen() <= candle.getHigh());
+            assertTrue(candle.getLow() <= candle.getLast() && candle.getLast() <= candle.getHigh());
+            assertTrue(candle.getOpen() >= previousClose); // 가격이 계속 오르므로 캔들끼리 겹치지 않는다
+            previousClose = candle.getLast();
+        }
+        assertEquals(ticks / ticksPerMinute + 1, candles.size());
+        assertEquals(ticks - 1, volume, 0.0);
+        assertEquals(ticks, previousClose, 0.0);
+    }
+}
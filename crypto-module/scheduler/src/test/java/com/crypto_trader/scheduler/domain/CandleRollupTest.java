@@ -0,0 +1,70 @@
+package com.crypto_trader.scheduler.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleRollupTest {
+
+    private static final long DAY = 20_000L * 1440; // UTC 자정의 epoch minute
+
+    private final CandleRollup rollup = new CandleRollup();
+    private final List<CandleUnit> units = new ArrayList<>();
+    private final List<CandleState> candles = new ArrayList<>();
+
+    @Test
+    void closesFiveMinuteCandleAtBoundary() {
+        for (int i = 0; i < 5; i++)
+            add(DAY + i, 100 + i);
+
+        assertEquals(List.of(CandleUnit.FIVEMINUTE), units);
+        CandleState five = candles.get(0);
+        assertEquals(100.0, five.getOpen());
+        assertEquals(104.0, five.getLast());
+        assertEquals(105.0, five.getHigh()); // 각 1분 캔들의 고가는 종가 + 1
+        assertEquals(99.0, five.getLow());
+        assertEquals(5.0, five.getVolume());
+        assertEquals(CandleAccumulator.timeOf(DAY), five.getTime());
+    }
+
+    @Test
+    void cascadesUpToOneDay() {
+        for (int i = 0; i < 1440; i++)
+            add(DAY + i, 100);
+
+        assertEquals(288, count(CandleUnit.FIVEMINUTE));
+        assertEquals(144, count(CandleUnit.TENMINUTE));
+        assertEquals(96, count(CandleUnit.FIFTEENMINUTE));
+        assertEquals(24, count(CandleUnit.ONEHOUR));
+        assertEquals(6, count(CandleUnit.FOURHOUR));
+        assertEquals(1, count(CandleUnit.ONEDAY));
+
+        CandleState day = candles.get(candles.size() - 1);
+        assertEquals(1440.0, day.getVolume());
+        assertEquals(CandleAccumulator.timeOf(DAY), day.getTime());
+    }
+
+    @Test
+    void firstBucketStartsMidway() {
+        add(DAY + 3, 100);
+        add(DAY + 4, 101);
+
+        assertEquals(List.of(CandleUnit.FIVEMINUTE), units);
+        assertEquals(2.0, candles.get(0).getVolume());
+    }
+
+    private void add(long minute, double price) {
+        CandleState candle = new CandleState(price, price, price + 1, price - 1, 1, CandleAccumulator.timeOf(minute));
+        rollup.add(minute, candle, (unit, rolled) -> {
+            units.add(unit);
+            candles.add(rolled);
+        });
+    }
+
+    private long count(CandleUnit unit) {
+        return units.stream().filter(u -> u == unit).count();
+    }
+}
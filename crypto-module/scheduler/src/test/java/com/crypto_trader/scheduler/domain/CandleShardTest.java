@@ -0,0 +1,49 @@
+package com.crypto_trader.scheduler.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleShardTest {
+
+    private static final long DAY = 20_000L * 1440; // 2024-10-04 00:00 UTC 의 epoch minute
+
+    @Test
+    void shardsMinuteCandlesByHour() {
+        assertEquals("ONEMINUTE:minute_candle:KRW-BTC:2024100400", CandleShard.keyOf(CandleUnit.ONEMINUTE, "KRW-BTC", DAY));
+        assertEquals("ONEMINUTE:minute_candle:KRW-BTC:2024100400", CandleShard.keyOf(CandleUnit.ONEMINUTE, "KRW-BTC", DAY + 59));
+        assertEquals("ONEMINUTE:minute_candle:KRW-BTC:2024100401", CandleShard.keyOf(CandleUnit.ONEMINUTE, "KRW-BTC", DAY + 60));
+    }
+
+    @Test
+    void shardsHigherUnitsByDay() {
+        assertEquals("FIVEMINUTE:minute_candle:KRW-BTC:20241004", CandleShard.keyOf(CandleUnit.FIVEMINUTE, "KRW-BTC", DAY + 1435));
+        assertEquals("ONEDAY:minute_candle:KRW-BTC:20241005", CandleShard.keyOf(CandleUnit.ONEDAY, "KRW-BTC", DAY + 1440));
+    }
+
+    @Test
+    void listsShardsCoveringRange() {
+        assertEquals(List.of(DAY, DAY + 60, DAY + 120), CandleShard.startsBetween(CandleUnit.ONEMINUTE, DAY + 30, DAY + 120));
+        assertEquals(List.of(DAY), CandleShard.startsBetween(CandleUnit.ONEHOUR, DAY + 30, DAY + 1439));
+        assertTrue(CandleShard.startsBetween(CandleUnit.ONEMINUTE, DAY + 61, DAY + 30).isEmpty());
+    }
+
+    @Test
+    void capsShardCount() {
+        List<Long> starts = CandleShard.startsBetween(CandleUnit.ONEMINUTE, 0, Long.MAX_VALUE);
+
+        assertEquals(CandleShard.MAX_SHARDS, starts.size());
+        assertEquals(0L, (long) starts.get(0));
+    }
+
+    @Test
+    void placesBlobRecordsBySlot() {
+        assertEquals("ONEMINUTE:candle_blob:KRW-BTC:2024100401", CandleShard.blobKeyOf(CandleUnit.ONEMINUTE, "KRW-BTC", DAY + 75));
+        assertEquals(15, CandleShard.slotOf(CandleUnit.ONEMINUTE, DAY + 75));
+        assertEquals(3, CandleShard.slotOf(CandleUnit.FIVEMINUTE, DAY + 15));
+        assertEquals(60, CandleShard.slotsOf(CandleUnit.ONEMINUTE));
+        assertEquals(24, CandleShard.slotsOf(CandleUnit.ONEHOUR));
+    }
+}
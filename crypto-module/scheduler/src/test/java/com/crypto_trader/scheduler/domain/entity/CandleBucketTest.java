@@ -0,0 +1,74 @@
+package com.crypto_trader.scheduler.domain.entity;
+
+import com.crypto_trader.scheduler.domain.CandleUnit;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleBucketTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 9, 1, 0, 0);
+
+    // 0, 1, 2, 4, 5 분 캔들 (4 분은 늦게 재생되어 5 분 뒤에 붙었다)
+    private final CandleBucket bucket = new CandleBucket("KRW-BTC", CandleUnit.ONEMINUTE, DAY,
+            List.of(0, 1, 2, 5, 4),
+            List.of(10.0, 11.0, 12.0, 15.0, 14.0),
+            List.of(20.0, 21.0, 22.0, 25.0, 24.0),
+            List.of(0.0, 1.0, 2.0, 5.0, 4.0),
+            List.of(10.5, 11.5, 12.5, 15.5, 14.5),
+            List.of(1.0, 2.0, 3.0, 6.0, 5.0));
+
+    @Test
+    void slicesWholeDayInTimeOrder() {
+        List<Candle> candles = bucket.slice(null, null);
+
+        assertEquals(5, candles.size());
+        assertEquals(DAY, candles.get(0).getTime());
+        assertEquals(DAY.plusMinutes(4), candles.get(3).getTime());
+        assertEquals(14.0, candles.get(3).getOpen());
+        assertEquals(DAY.plusMinutes(5), candles.get(4).getTime());
+        assertEquals(25.0, candles.get(4).getHigh());
+        assertEquals(5.0, candles.get(4).getLow());
+        assertEquals(15.5, candles.get(4).getClose());
+        assertEquals(6.0, candles.get(4).getVolume());
+        assertEquals("KRW-BTC", candles.get(4).getMarket());
+        assertEquals(CandleUnit.ONEMINUTE, candles.get(4).getUnit());
+    }
+
+    @Test
+    void slicesHalfOpenRange() {
+        List<Candle> candles = bucket.slice(DAY.plusMinutes(1), DAY.plusMinutes(5));
+
+        assertEquals(3, candles.size());
+        assertEquals(DAY.plusMinutes(1), candles.get(0).getTime());
+        assertEquals(DAY.plusMinutes(4), candles.get(2).getTime());
+    }
+
+    @Test
+    void roundsPartialMinutesUp() {
+        List<Candle> candles = bucket.slice(DAY.plusSeconds(30), DAY.plusMinutes(2).plusSeconds(1));
+
+        assertEquals(2, candles.size());
+        assertEquals(DAY.plusMinutes(1), candles.get(0).getTime());
+        assertEquals(DAY.plusMinutes(2), candles.get(1).getTime());
+    }
+
+    @Test
+    void rangesOutsideTheDayAreEmptyOrWhole() {
+        assertTrue(bucket.slice(DAY.plusDays(1), null).isEmpty());
+        assertTrue(bucket.slice(null, DAY).isEmpty());
+        assertEquals(5, bucket.slice(DAY.minusDays(1), DAY.plusDays(1)).size());
+    }
+
+    @Test
+    void keysBucketsByMarketUnitAndDay() {
+        LocalDateTime time = DAY.plusHours(13).plusMinutes(7);
+
+        assertEquals(DAY, CandleBucket.dayOf(time));
+        assertEquals(13 * 60 + 7, CandleBucket.offsetOf(DAY, time));
+        assertEquals("KRW-BTC:ONEMINUTE:2024-09-01", CandleBucket.idOf("KRW-BTC", CandleUnit.ONEMINUTE, DAY));
+    }
+}
@@ -0,0 +1,35 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.CandleState;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static com.crypto_trader.scheduler.proto.DataModel.PCandleV2;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleCodecTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 9, 1, 12, 34);
+    private final CandleState candle = new CandleState(100, 103, 105, 99, 7.5, TIME);
+
+    @Test
+    void decodesBothVersionsAlike() throws Exception {
+        PCandleV2 v1 = CandleCodec.decode(CandleCodec.encode(candle, 1));
+        PCandleV2 v2 = CandleCodec.decode(CandleCodec.encode(candle, 2));
+
+        assertEquals(v1, v2);
+        assertEquals(TIME.atZone(ZoneId.systemDefault()).toEpochSecond(), v2.getTime());
+        assertEquals(100.0, v2.getOpen());
+        assertEquals(103.0, v2.getClose());
+        assertEquals(105.0, v2.getHigh());
+        assertEquals(99.0, v2.getLow());
+        assertEquals(7.5, v2.getVolume());
+    }
+
+    @Test
+    void v2IsSmaller() {
+        assertTrue(CandleCodec.encode(candle, 2).length < CandleCodec.encode(candle, 1).length);
+    }
+}
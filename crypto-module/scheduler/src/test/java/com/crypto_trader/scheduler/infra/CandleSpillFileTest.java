@@ -0,0 +1,47 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.CandleUnit;
+import com.crypto_trader.scheduler.domain.entity.Candle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CandleSpillFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsAndAppends() throws Exception {
+        Path file = dir.resolve("1" + CandleSpillFile.SUFFIX);
+        LocalDateTime time = LocalDateTime.of(2024, 9, 1, 12, 3);
+        CandleSpillFile.write(file, List.of(new Candle("KRW-BTC", CandleUnit.ONEMINUTE, 1, 2, 3, 0.5, 10, time)));
+        CandleSpillFile.write(file, List.of(new Candle("KRW-ETH", CandleUnit.ONEMINUTE, 4, 5, 6, 3.5, 20, time.plusMinutes(1))));
+
+        List<Candle> candles = CandleSpillFile.read(file);
+
+        assertEquals(2, candles.size());
+        assertEquals("KRW-BTC", candles.get(0).getMarket());
+        assertEquals(2.0, candles.get(0).getClose());
+        assertEquals(time, candles.get(0).getTime());
+        assertEquals(CandleUnit.ONEMINUTE, candles.get(0).getUnit());
+        assertEquals("KRW-ETH", candles.get(1).getMarket());
+        assertEquals(20.0, candles.get(1).getVolume());
+    }
+
+    @Test
+    void dropsTruncatedLastRecord() throws Exception {
+        Path file = dir.resolve("1" + CandleSpillFile.SUFFIX);
+        CandleSpillFile.write(file, List.of(new Candle("KRW-BTC", CandleUnit.ONEMINUTE, 1, 2, 3, 0.5, 10, LocalDateTime.of(2024, 9, 1, 12, 3))));
+        Files.write(file, new byte[]{0, 7, 'K', 'R', 'W', '-', 'E', 'T', 'H', 0, 9, 'O', 'N', 'E', 'M', 'I', 'N', 'U', 'T', 'E', 0x40}, StandardOpenOption.APPEND);
+
+        assertEquals(1, CandleSpillFile.read(file).size());
+    }
+}
@@ -0,0 +1,47 @@
+package com.crypto_trader.scheduler.infra;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarketIdRegistryTest {
+
+    private final MarketIdRegistry registry = new MarketIdRegistry(4);
+
+    @Test
+    void idsAreStableAcrossUpdates() {
+        assertTrue(registry.assign(List.of("KRW-BTC", "KRW-ETH")));
+        int eth = registry.idOf("KRW-ETH");
+
+        assertTrue(registry.assign(Set.of("KRW-ETH", "KRW-XRP")));
+
+        assertEquals(eth, registry.idOf("KRW-ETH"));
+        assertEquals(2, registry.idOf("KRW-XRP"));
+        assertEquals(MarketIdRegistry.UNKNOWN, registry.idOf("KRW-BTC"));
+        assertNull(registry.codeOf(0)); // 폐지된 id 는 재사용하지 않는다
+        assertFalse(registry.assign(Set.of("KRW-ETH", "KRW-XRP")));
+    }
+
+    @Test
+    void restoresPublishedTable() {
+        registry.restore(Arrays.asList("KRW-BTC", null, "KRW-ETH"));
+        registry.assign(List.of("KRW-ETH", "KRW-BTC", "KRW-SOL"));
+
+        assertEquals(0, registry.idOf("KRW-BTC"));
+        assertEquals(2, registry.idOf("KRW-ETH"));
+        assertEquals(3, registry.idOf("KRW-SOL"));
+        assertEquals(Arrays.asList("KRW-BTC", null, "KRW-ETH", "KRW-SOL"), registry.table());
+    }
+
+    @Test
+    void marketsOverCapacityGetNoId() {
+        registry.assign(List.of("A", "B", "C", "D", "E"));
+
+        assertEquals(4, registry.size());
+        assertEquals(MarketIdRegistry.UNKNOWN, registry.idOf("E"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.OrderBookRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBookStoreTest {
+
+    private final MarketIdRegistry marketIds = new MarketIdRegistry(4);
+    private final OrderBookStore store = new OrderBookStore(true, marketIds);
+
+    OrderBookStoreTest() {
+        marketIds.assign(List.of("KRW-BTC", "KRW-ETH"));
+    }
+
+    @Test
+    void keepsNewestBook() {
+        assertTrue(store.update(book("KRW-BTC", 1000L, 100.0)));
+        assertFalse(store.update(book("KRW-BTC", 1000L, 200.0))); // 다른 피드의 같은 호가
+        assertFalse(store.update(book("KRW-BTC", 999L, 300.0)));
+
+        OrderBookRecord out = new OrderBookRecord();
+        store.read(marketIds.idOf("KRW-BTC"), out);
+
+        assertEquals("KRW-BTC", out.getMarket());
+        assertEquals(1000L, out.getTimestamp());
+        assertEquals(100.0, out.getAskPrices()[0]);
+        assertEquals(2, out.getDepth());
+    }
+
+    @Test
+    void versionChangesOnlyOnUpdate() {
+        int slot = marketIds.idOf("KRW-ETH");
+        store.update(book("KRW-ETH", 1000L, 100.0));
+        long version = store.version(slot);
+
+        store.update(book("KRW-ETH", 1000L, 100.0));
+        assertEquals(version, store.version(slot));
+
+        store.update(book("KRW-ETH", 1001L, 101.0));
+        assertEquals(version + 2, store.version(slot));
+    }
+
+    @Test
+    void ignoresUnregisteredMarket() {
+        assertFalse(store.update(book("KRW-XRP", 1000L, 100.0)));
+        assertEquals(2, store.slotCount());
+    }
+
+    private OrderBookRecord book(String market, long timestamp, double askPrice) {
+        OrderBookRecord record = new OrderBookRecord();
+        record.setMarket(market);
+        record.setMarketId(marketIds.idOf(market));
+        record.setTimestamp(timestamp);
+        record.setDepth(2);
+        record.getAskPrices()[0] = askPrice;
+        record.getAskPrices()[1] = askPrice + 1;
+        return record;
+    }
+}
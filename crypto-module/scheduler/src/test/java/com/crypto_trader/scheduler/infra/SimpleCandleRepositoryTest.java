@@ -0,0 +1,121 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.CandleAccumulator;
+import com.crypto_trader.scheduler.domain.CandleState;
+import com.crypto_trader.scheduler.domain.CandleUnit;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.crypto_trader.scheduler.domain.CandleAccumulator.MINUTE_MS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleCandleRepositoryTest {
+
+    private static final long T0 = 28_000_000L * MINUTE_MS;
+    private static final long GRACE = 2_000;
+
+    private final MarketIdRegistry marketIds = new MarketIdRegistry(8);
+    private final SimpleCandleRepository repository = new SimpleCandleRepository(marketIds, GRACE, 1_000, 128);
+    private final List<String> closed = new ArrayList<>();
+
+    @Test
+    void closesMinuteOnceWhenWatermarkPassesGrace() {
+        marketIds.assign(List.of("KRW-BTC", "KRW-ETH"));
+        int btc = marketIds.idOf("KRW-BTC");
+        int eth = marketIds.idOf("KRW-ETH");
+
+        repository.update(btc, T0 + 10_000, 100, 1);
+        repository.update(eth, T0 + 20_000, 10, 1);
+        repository.update(btc, T0 + MINUTE_MS + 500, 101, 2); // 다음 분, grace 안
+        assertEquals(0, closeDue());
+
+        repository.update(eth, T0 + 59_000, 11, 2); // 늦었지만 grace 안
+        repository.update(btc, T0 + MINUTE_MS + GRACE, 102, 3);
+        assertEquals(2, closeDue());
+        assertEquals(List.of("KRW-BTC", "KRW-ETH"), closed.stream().sorted().toList());
+
+        repository.update(eth, T0 + 30_000, 9, 3); // 마감된 분
+        assertEquals(1, repository.getLateTicks());
+        assertEquals(0, closeDue()); // 다시 마감하지 않는다
+    }
+
+    @Test
+    void fillsQuietMinutesWhenWatermarkJumps() {
+        marketIds.assign(List.of("KRW-BTC", "KRW-ETH"));
+        repository.update(marketIds.idOf("KRW-ETH"), T0, 10, 1);
+        repository.update(marketIds.idOf("KRW-BTC"), T0 + 5 * MINUTE_MS + GRACE, 100, 1);
+
+        List<CandleState> eth = new ArrayList<>();
+        repository.closeDue((market, unit, candle) -> {
+            if (market.equals("KRW-ETH") && unit == CandleUnit.ONEMINUTE)
+                eth.add(candle);
+        });
+
+        assertEquals(5, eth.size());
+        for (int i = 1; i < eth.size(); i++) {
+            assertEquals(10.0, eth.get(i).getLast());
+            assertEquals(eth.get(i - 1).getTime().plusMinutes(1), eth.get(i).getTime());
+        }
+    }
+
+    @Test
+    void resumesFormingMinuteFromSnapshot() {
+        marketIds.assign(List.of("KRW-BTC"));
+        int btc = marketIds.idOf("KRW-BTC");
+        repository.update(btc, T0 + 10_000, 100, 1);
+        repository.update(btc, T0 + 20_000, 105, 3);
+
+        SimpleCandleRepository restarted = new SimpleCandleRepository(marketIds, GRACE, 1_000, 128);
+        assertEquals(1, restarted.restoreSnapshot(snapshot(), market -> null));
+        restarted.update(btc, T0 + 30_000, 95, 4);
+        restarted.update(btc, T0 + MINUTE_MS + GRACE, 101, 5);
+
+        List<CandleState> candles = minuteCandles(restarted);
+        assertEquals(1, candles.size());
+        assertEquals(100.0, candles.get(0).getOpen());
+        assertEquals(105.0, candles.get(0).getHigh());
+        assertEquals(95.0, candles.get(0).getLow());
+        assertEquals(95.0, candles.get(0).getLast());
+        assertEquals(3.0, candles.get(0).getVolume()); // 2 + 1 (복원한 누적 거래량 기준)
+        assertEquals(CandleAccumulator.timeOf(T0 / MINUTE_MS), candles.get(0).getTime());
+    }
+
+    @Test
+    void skipsMinutesAlreadyPersisted() {
+        marketIds.assign(List.of("KRW-BTC"));
+        int btc = marketIds.idOf("KRW-BTC");
+        repository.update(btc, T0 + 10_000, 100, 1);
+
+        SimpleCandleRepository restarted = new SimpleCandleRepository(marketIds, GRACE, 1_000, 128);
+        CandleState persisted = new CandleState(100, 110, 111, 99, 5, CandleAccumulator.timeOf(T0 / MINUTE_MS));
+        assertEquals(1, restarted.restoreSnapshot(snapshot(), market -> persisted));
+        restarted.update(btc, T0 + 2 * MINUTE_MS + GRACE, 120, 2);
+
+        List<CandleState> candles = minuteCandles(restarted);
+        assertEquals(1, candles.size()); // 저장된 분은 다시 마감하지 않는다
+        assertEquals(CandleAccumulator.timeOf(T0 / MINUTE_MS + 1), candles.get(0).getTime());
+        assertEquals(110.0, candles.get(0).getLast()); // 저장된 캔들의 종가로 채운다
+    }
+
+    private ByteBuffer snapshot() {
+        ByteBuffer snapshot = ByteBuffer.allocate(repository.snapshotBytes());
+        repository.writeSnapshot(snapshot);
+        return snapshot.flip();
+    }
+
+    private static List<CandleState> minuteCandles(SimpleCandleRepository repository) {
+        List<CandleState> candles = new ArrayList<>();
+        repository.closeDue((market, unit, candle) -> {
+            if (unit == CandleUnit.ONEMINUTE)
+                candles.add(candle);
+        });
+        return candles;
+    }
+
+    private int closeDue() {
+        return repository.closeDue((market, unit, candle) -> closed.add(market));
+    }
+}
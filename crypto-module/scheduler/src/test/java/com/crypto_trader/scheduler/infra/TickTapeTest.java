@@ -0,0 +1,78 @@
+package com.crypto_trader.scheduler.infra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickTapeTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysRecordedFramesInOrder() {
+        TickTapeRecorder recorder = new TickTapeRecorder(true, dir.toString(), 1 << 16);
+        recorder.append(frame("{\"code\":\"KRW-BTC\"}"), 1000L);
+        recorder.append(frame("{\"code\":\"KRW-ETH\"}"), 1001L);
+        recorder.close();
+
+        List<String> replayed = replay(new TickTapeReplayer(dir.toString(), 0));
+
+        assertEquals(List.of("{\"code\":\"KRW-BTC\"}", "{\"code\":\"KRW-ETH\"}"), replayed);
+    }
+
+    @Test
+    void rollsSegmentWhenFull() throws Exception {
+        String payload = "x".repeat(40);
+        TickTapeRecorder recorder = new TickTapeRecorder(true, dir.toString(), 64);
+        for (int i = 0; i < 3; i++)
+            recorder.append(frame(payload), 1000L + i);
+        recorder.close();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(3, files.count());
+        }
+        assertEquals(3, replay(new TickTapeReplayer(dir.toString(), 0)).size());
+    }
+
+    @Test
+    void appendKeepsFramePosition() {
+        TickTapeRecorder recorder = new TickTapeRecorder(true, dir.toString(), 1 << 16);
+        ByteBuffer frame = frame("{\"code\":\"KRW-BTC\"}");
+
+        recorder.append(frame, 1000L);
+        recorder.close();
+
+        assertEquals(0, frame.position());
+    }
+
+    private static List<String> replay(TickTapeReplayer replayer) {
+        List<String> frames = new ArrayList<>();
+        replayer.replay(new BinaryWebSocketHandler() {
+            @Override
+            protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+                ByteBuffer payload = message.getPayload();
+                byte[] bytes = new byte[payload.remaining()];
+                payload.get(payload.position(), bytes);
+                frames.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+        });
+        return frames;
+    }
+
+    private static ByteBuffer frame(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,53 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickerArbiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MarketIdRegistry marketIds = new MarketIdRegistry(8);
+    private final TickerArbiter arbiter = new TickerArbiter(registry, marketIds, 2);
+
+    TickerArbiterTest() {
+        marketIds.assign(List.of("KRW-BTC", "KRW-ETH"));
+    }
+
+    @Test
+    void firstArrivalWinsAndDuplicateIsDropped() {
+        assertTrue(arbiter.accept(0, tick("KRW-BTC", 1000L, 10.0)));
+        assertFalse(arbiter.accept(1, tick("KRW-BTC", 1000L, 10.0)));
+
+        assertEquals(1.0, registry.counter("ticker.feed.wins", "feed", "0").count());
+        assertEquals(1L, registry.timer("ticker.feed.lag", "feed", "1").count());
+    }
+
+    @Test
+    void sameTimestampWithMoreVolumeIsNewTick() {
+        assertTrue(arbiter.accept(0, tick("KRW-BTC", 1000L, 10.0)));
+        assertTrue(arbiter.accept(1, tick("KRW-BTC", 1000L, 10.5)));
+        assertFalse(arbiter.accept(0, tick("KRW-BTC", 1000L, 10.5)));
+    }
+
+    @Test
+    void olderTickIsStale() {
+        assertTrue(arbiter.accept(1, tick("KRW-ETH", 2000L, 3.0)));
+        assertFalse(arbiter.accept(0, tick("KRW-ETH", 1000L, 2.0)));
+
+        assertEquals(1.0, registry.counter("ticker.feed.stale", "feed", "0").count());
+    }
+
+    private TickerRecord tick(String market, long tradeTimestamp, double accTradeVolume) {
+        TickerRecord record = new TickerRecord();
+        record.setMarket(market);
+        record.setMarketId(marketIds.idOf(market));
+        record.setTradeTimestamp(tradeTimestamp);
+        record.setAccTradeVolume(accTradeVolume);
+        return record;
+    }
+}
@@ -0,0 +1,175 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+import com.crypto_trader.scheduler.global.constant.PublishOverflowPolicy;
+import com.crypto_trader.scheduler.global.constant.TickerFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickerBatchPublisherTest {
+
+    private final MarketIdRegistry marketIds = new MarketIdRegistry(4);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StubTemplate template = new StubTemplate();
+
+    TickerBatchPublisherTest() {
+        marketIds.assign(List.of("KRW-BTC", "KRW-ETH"));
+    }
+
+    @Test
+    void conflatesToLatestTickPerMarket() {
+        TickerBatchPublisher publisher = publisher(TickerFormat.JSON, PublishOverflowPolicy.CONFLATE, 1);
+        offer(publisher, "KRW-ETH", 10, 1);
+        offer(publisher, "KRW-BTC", 1, 1);
+        offer(publisher, "KRW-BTC", 2, 2);
+
+        publisher.flush();
+
+        assertEquals(List.of("[" + json("KRW-BTC", 2) + "," + json("KRW-ETH", 10) + "]"), template.frames());
+        assertEquals(0.0, gauge("ticker.publish.queue.depth"));
+    }
+
+    @Test
+    void skipsUnchangedPriceAndVolume() {
+        TickerBatchPublisher publisher = publisher(TickerFormat.JSON, PublishOverflowPolicy.CONFLATE, 1);
+        offer(publisher, "KRW-BTC", 1, 1);
+        publisher.flush();
+
+        offer(publisher, "KRW-BTC", 1, 1);
+        publisher.flush();
+        assertEquals(1, template.frames().size());
+        assertEquals(1.0, counter("ticker.publish.unchanged"));
+
+        offer(publisher, "KRW-BTC", 1, 2); // 거래량만 바뀌어도 발행한다
+        publisher.flush();
+        assertEquals("[" + json("KRW-BTC", 1) + "]", template.frames().get(1));
+    }
+
+    @Test
+    void dropsOldestWhenQueueIsFull() {
+        TickerBatchPublisher publisher = publisher(TickerFormat.JSON, PublishOverflowPolicy.DROP_OLDEST, 1);
+        offer(publisher, "KRW-BTC", 1, 1);
+        offer(publisher, "KRW-BTC", 2, 2);
+        offer(publisher, "KRW-ETH", 3, 3);
+
+        assertEquals(1.0, counter("ticker.publish.dropped"));
+        assertEquals(2.0, gauge("ticker.publish.queue.depth"));
+
+        publisher.flush();
+        assertEquals(List.of("[" + json("KRW-BTC", 2) + "," + json("KRW-ETH", 3) + "]"), template.frames());
+
+        // 발행한 슬롯은 다시 쓴다
+        offer(publisher, "KRW-BTC", 4, 4);
+        offer(publisher, "KRW-ETH", 5, 5);
+        assertEquals(1.0, counter("ticker.publish.dropped"));
+    }
+
+    @Test
+    void skipsWindowWhilePublishesAreInFlight() {
+        TickerBatchPublisher publisher = publisher(TickerFormat.JSON, PublishOverflowPolicy.CONFLATE, 1);
+        Sinks.One<Long> reply = Sinks.one();
+        template.reply = reply.asMono();
+
+        offer(publisher, "KRW-BTC", 1, 1);
+        publisher.flush();
+        offer(publisher, "KRW-BTC", 2, 2);
+        publisher.flush(); // 첫 PUBLISH 가 응답을 기다리는 중
+
+        assertEquals(1, template.frames().size());
+        assertEquals(1.0, counter("ticker.publish.deferred"));
+        assertEquals(1.0, gauge("ticker.publish.in.flight"));
+        assertEquals(1.0, gauge("ticker.publish.queue.depth"));
+
+        reply.tryEmitValue(1L);
+        template.reply = Mono.just(1L);
+        publisher.flush();
+        assertEquals("[" + json("KRW-BTC", 2) + "]", template.frames().get(1));
+    }
+
+    @Test
+    void writesDelimitedTickersInProtobufFormat() {
+        TickerBatchPublisher publisher = publisher(TickerFormat.PROTOBUF, PublishOverflowPolicy.DROP_OLDEST, 1);
+        assertFalse(publisher.needsRawFrame());
+        offer(publisher, "KRW-BTC", 1, 1);
+        offer(publisher, "KRW-ETH", 2, 3);
+        publisher.flush();
+
+        List<String> decoded = new ArrayList<>();
+        int count = new TickerMessageCodec().decode(template.sent.get(0), new TickerRecord(),
+                record -> decoded.add(marketIds.codeOf(record.getMarketId()) + ":" + record.getTradePrice() + ":" + record.getAccTradeVolume()));
+
+        assertEquals(2, count);
+        assertEquals(List.of("KRW-BTC:1.0:1.0", "KRW-ETH:2.0:3.0"), decoded);
+    }
+
+    // private
+    private TickerBatchPublisher publisher(TickerFormat format, PublishOverflowPolicy policy, int maxInFlight) {
+        return new TickerBatchPublisher(template, meterRegistry, marketIds, format, policy, 50, 2, 1024, maxInFlight);
+    }
+
+    private void offer(TickerBatchPublisher publisher, String market, double price, double volume) {
+        TickerRecord record = new TickerRecord();
+        record.setMarket(market);
+        record.setMarketId(marketIds.idOf(market));
+        record.setTradePrice(price);
+        record.setAccTradeVolume(volume);
+        ByteBuffer frame = ByteBuffer.wrap(json(market, price).getBytes(StandardCharsets.UTF_8));
+        publisher.offer(record, frame);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static String json(String market, double price) {
+        return "{\"code\":\"" + market + "\",\"trade_price\":" + price + "}";
+    }
+
+    // PUBLISH 하는 대신 프레임을 모아 두는 템플릿
+    private static class StubTemplate extends ReactiveRedisTemplate<String, byte[]> {
+        private final List<byte[]> sent = new ArrayList<>();
+        private Mono<Long> reply = Mono.just(1L);
+
+        StubTemplate() {
+            super(unusedConnectionFactory(), RedisSerializationContext
+                    .<String, byte[]>newSerializationContext(RedisSerializer.string())
+                    .value(RedisSerializer.byteArray())
+                    .build());
+        }
+
+        @Override
+        public Mono<Long> convertAndSend(String destination, byte[] message) {
+            sent.add(message);
+            return reply;
+        }
+
+        List<String> frames() {
+            return sent.stream().map(frame -> new String(frame, StandardCharsets.UTF_8)).toList();
+        }
+
+        private static ReactiveRedisConnectionFactory unusedConnectionFactory() {
+            return (ReactiveRedisConnectionFactory) Proxy.newProxyInstance(ReactiveRedisConnectionFactory.class.getClassLoader(),
+                    new Class<?>[]{ReactiveRedisConnectionFactory.class}, (proxy, method, args) -> {
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickerRingTest {
+
+    @Test
+    void eachConsumerSeesEveryTick() {
+        TickerRing ring = new TickerRing(8, 2, false);
+        for (int i = 0; i < 5; i++)
+            ring.publish(tick("KRW-BTC", i), null);
+
+        List<Double> first = new ArrayList<>();
+        List<Double> second = new ArrayList<>();
+
+        assertEquals(5, ring.poll(0, (record, frame) -> first.add(record.getTradePrice())));
+        assertEquals(5, ring.poll(1, (record, frame) -> second.add(record.getTradePrice())));
+        assertEquals(0, ring.poll(0, (record, frame) -> first.add(record.getTradePrice())));
+        assertEquals(List.of(0.0, 1.0, 2.0, 3.0, 4.0), first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void wrapsAroundAfterConsumersCatchUp() {
+        TickerRing ring = new TickerRing(4, 1, false);
+        List<Double> prices = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            ring.publish(tick("KRW-BTC", i), null);
+            if (i % 4 == 3)
+                ring.poll(0, (record, frame) -> prices.add(record.getTradePrice()));
+        }
+        ring.poll(0, (record, frame) -> prices.add(record.getTradePrice()));
+
+        assertEquals(10, prices.size());
+        assertEquals(9.0, (double) prices.get(9));
+    }
+
+    @Test
+    void copiesFrameWhenRequested() {
+        TickerRing ring = new TickerRing(4, 1, true);
+        byte[] big = "x".repeat(5000).getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer frame = ByteBuffer.wrap(big);
+
+        ring.publish(tick("KRW-BTC", 1), frame);
+
+        List<Integer> lengths = new ArrayList<>();
+        ring.poll(0, (record, view) -> lengths.add(view.remaining()));
+        assertEquals(List.of(5000), lengths);
+        assertEquals(0, frame.position());
+    }
+
+    private static TickerRecord tick(String market, double price) {
+        TickerRecord record = new TickerRecord();
+        record.setMarket(market);
+        record.setTradePrice(price);
+        return record;
+    }
+}
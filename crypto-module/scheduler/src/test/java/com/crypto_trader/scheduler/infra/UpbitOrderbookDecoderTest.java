@@ -0,0 +1,49 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.OrderBookRecord;
+import com.crypto_trader.scheduler.domain.TickerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpbitOrderbookDecoderTest {
+
+    private static final String ORDERBOOK = "{\"type\":\"orderbook\",\"code\":\"KRW-BTC\",\"timestamp\":1726992600123," +
+            "\"total_ask_size\":4.79158413,\"total_bid_size\":2.65609625,\"orderbook_units\":[" +
+            "{\"ask_price\":71200000.0,\"bid_price\":71100000.0,\"ask_size\":0.5,\"bid_size\":1.25}," +
+            "{\"ask_price\":71300000.0,\"bid_price\":71000000.0,\"ask_size\":2.0,\"bid_size\":0.75}]," +
+            "\"stream_type\":\"REALTIME\",\"level\":0}";
+
+    private final UpbitOrderbookDecoder decoder = new UpbitOrderbookDecoder();
+    private final OrderBookRecord record = new OrderBookRecord();
+
+    @Test
+    void decodeOrderbook() {
+        ByteBuffer frame = wrap(ORDERBOOK);
+        assertTrue(decoder.decode(frame, record));
+
+        assertEquals("KRW-BTC", record.getMarket());
+        assertEquals(1726992600123L, record.getTimestamp());
+        assertEquals(2, record.getDepth());
+        assertEquals(71200000.0, record.getAskPrices()[0]);
+        assertEquals(71000000.0, record.getBidPrices()[1]);
+        assertEquals(2.0, record.getAskSizes()[1]);
+        assertEquals(1.25, record.getBidSizes()[0]);
+        assertEquals(0, frame.position());
+    }
+
+    @Test
+    void rejectsOtherStreams() {
+        String ticker = "{\"type\":\"ticker\",\"code\":\"KRW-BTC\",\"trade_price\":71200000.0}";
+
+        assertFalse(decoder.decode(wrap(ticker), record));
+        assertFalse(new UpbitTickerDecoder().decode(wrap(ORDERBOOK), new TickerRecord()));
+    }
+
+    private static ByteBuffer wrap(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,99 @@
+package com.crypto_trader.scheduler.infra;
+
+import com.crypto_trader.scheduler.domain.TickerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpbitTickerDecoderTest {
+
+    private static final String TICKER = "{\"type\":\"ticker\",\"code\":\"KRW-BTC\",\"opening_price\":71000000.0," +
+            "\"high_price\":71500000.0,\"low_price\":70500000.0,\"trade_price\":71200000.0," +
+            "\"prev_closing_price\":70900000.0,\"acc_trade_price\":1.2345E11,\"change\":\"RISE\"," +
+            "\"change_price\":300000.0,\"signed_change_price\":300000.0,\"change_rate\":0.0042313117," +
+            "\"signed_change_rate\":0.0042313117,\"ask_bid\":\"BID\",\"trade_volume\":0.00012345," +
+            "\"acc_trade_volume\":1734.56789012,\"trade_date\":\"20240922\",\"trade_time\":\"161000\"," +
+            "\"trade_timestamp\":1726992600123,\"acc_ask_volume\":800.1,\"acc_bid_volume\":934.4," +
+            "\"highest_52_week_price\":105000000.0,\"highest_52_week_date\":\"2024-03-14\"," +
+            "\"lowest_52_week_price\":34000000.0,\"lowest_52_week_date\":\"2023-10-12\"," +
+            "\"market_state\":\"ACTIVE\",\"is_trading_suspended\":false,\"delisting_date\":null," +
+            "\"market_warning\":\"NONE\",\"timestamp\":1726992600200,\"acc_trade_price_24h\":3.1E11," +
+            "\"acc_trade_volume_24h\":4400.123,\"stream_type\":\"REALTIME\"}";
+
+    private final UpbitTickerDecoder decoder = new UpbitTickerDecoder();
+    private final TickerRecord record = new TickerRecord();
+
+    @Test
+    void decodeTicker() {
+        assertTrue(decoder.decode(wrap(TICKER), record));
+
+        assertEquals("KRW-BTC", record.getMarket());
+        assertEquals(71200000.0, record.getTradePrice());
+        assertEquals(71500000.0, record.getHighPrice());
+        assertEquals(70500000.0, record.getLowPrice());
+        assertEquals(300000.0, record.getSignedChangePrice());
+        assertEquals(0.0042313117, record.getSignedChangeRate());
+        assertEquals(1734.56789012, record.getAccTradeVolume());
+        assertEquals(3.1E11, record.getAccTradePrice24h());
+        assertEquals(4400.123, record.getAccTradeVolume24h());
+        assertEquals(1726992600123L, record.getTradeTimestamp());
+        assertEquals(1726992600200L, record.getTimestamp());
+    }
+
+    @Test
+    void marketCodeIsInterned() {
+        decoder.decode(wrap(TICKER), record);
+        String first = record.getMarket();
+        decoder.decode(wrap(TICKER), record);
+
+        assertSame(first, record.getMarket());
+    }
+
+    @Test
+    void respectsBufferPosition() {
+        byte[] body = TICKER.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(body.length + 8);
+        buffer.position(8);
+        buffer.put(body);
+        buffer.position(8);
+
+        assertTrue(decoder.decode(buffer, record));
+        assertEquals("KRW-BTC", record.getMarket());
+        assertEquals(8, buffer.position());
+    }
+
+    @Test
+    void rejectsTruncatedOrNonTickerFrames() {
+        assertFalse(decoder.decode(wrap(TICKER.substring(0, 40)), record));
+        assertFalse(decoder.decode(wrap("{\"status\":\"UP\"}"), record));
+        assertFalse(decoder.decode(wrap("[]"), record));
+    }
+
+    @Test
+    void decodeBatchFrame() {
+        String eth = TICKER.replace("KRW-BTC", "KRW-ETH");
+        List<String> markets = new ArrayList<>();
+
+        int count = decoder.decodeAll(wrap("[" + TICKER + ", " + eth + "]"), record, r -> markets.add(r.getMarket()));
+
+        assertEquals(2, count);
+        assertEquals(List.of("KRW-BTC", "KRW-ETH"), markets);
+    }
+
+    @Test
+    void decodeAllAcceptsSingleObject() {
+        List<String> markets = new ArrayList<>();
+
+        assertEquals(1, decoder.decodeAll(wrap(TICKER), record, r -> markets.add(r.getMarket())));
+        assertEquals(List.of("KRW-BTC"), markets);
+    }
+
+    private static ByteBuffer wrap(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}